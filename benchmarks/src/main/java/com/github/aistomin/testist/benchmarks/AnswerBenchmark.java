@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmarks of {@link SimpleAnswer#validate}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnswerBenchmark {
+
+    /**
+     * The configuration of the expected answer.
+     */
+    @Param({"NONE", "CASE", "PUNCTUATION", "ALL", "TYPOS"})
+    private Confs confs;
+
+    /**
+     * The expected answer.
+     */
+    private SimpleAnswer expected;
+
+    /**
+     * The answer which matches the expected one.
+     */
+    private SimpleAnswer correct;
+
+    /**
+     * The answer which doesn't match the expected one.
+     */
+    private SimpleAnswer wrong;
+
+    /**
+     * Prepare the answers.
+     */
+    @Setup
+    public void setUp() {
+        this.expected = new SimpleAnswer(
+            "Hallo! Ich bin Herr Müller.", this.confs.set()
+        );
+        this.correct = new SimpleAnswer("Hallo! Ich bin Herr Müller.");
+        this.wrong = new SimpleAnswer("hallo, ich bin Herr Schmidt");
+    }
+
+    /**
+     * Validate the correct answer.
+     *
+     * @return Validation result.
+     */
+    @Benchmark
+    public Boolean validateCorrect() {
+        return this.expected.validate(this.correct);
+    }
+
+    /**
+     * Validate the wrong answer.
+     *
+     * @return Validation result.
+     */
+    @Benchmark
+    public Boolean validateWrong() {
+        return this.expected.validate(this.wrong);
+    }
+
+    /**
+     * Validate the correct answer from several threads at once.
+     *
+     * @return Validation result.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Boolean validateContended() {
+        return this.expected.validate(this.correct);
+    }
+}
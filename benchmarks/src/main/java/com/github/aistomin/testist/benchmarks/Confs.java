@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * The combinations of {@link SimpleAnswer.Conf} which are used as the
+ * benchmarks' parameters.
+ *
+ * @since 1.0
+ */
+public enum Confs {
+
+    /**
+     * No additional configuration.
+     */
+    NONE,
+
+    /**
+     * Ignore the case.
+     */
+    CASE(SimpleAnswer.Conf.IGNORE_CASE),
+
+    /**
+     * Ignore the punctuation.
+     */
+    PUNCTUATION(SimpleAnswer.Conf.IGNORE_PUNCTUATION),
+
+    /**
+     * Ignore both the case and the punctuation.
+     */
+    ALL(SimpleAnswer.Conf.IGNORE_CASE, SimpleAnswer.Conf.IGNORE_PUNCTUATION),
+
+    /**
+     * Ignore the typos.
+     */
+    TYPOS(SimpleAnswer.Conf.IGNORE_TYPOS);
+
+    /**
+     * The configurations.
+     */
+    private final SimpleAnswer.Conf[] confs;
+
+    /**
+     * Ctor.
+     *
+     * @param items The configurations.
+     */
+    Confs(final SimpleAnswer.Conf... items) {
+        this.confs = items;
+    }
+
+    /**
+     * The configurations as a set.
+     *
+     * @return The set of the configurations.
+     */
+    public Set<SimpleAnswer.Conf> set() {
+        final Set<SimpleAnswer.Conf> res =
+            EnumSet.noneOf(SimpleAnswer.Conf.class);
+        res.addAll(Arrays.asList(this.confs));
+        return res;
+    }
+}
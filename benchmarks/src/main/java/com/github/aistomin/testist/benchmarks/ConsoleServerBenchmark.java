@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.server.ConsoleServer;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleQuestion;
+import com.github.aistomin.testist.simple.SimpleText;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The load test of {@link ConsoleServer} over localhost. Every benchmark
+ * thread is a terminal which connects, sends all the answers at once, reads
+ * the whole output and disconnects, so the score is the latency of a whole
+ * session while 100 terminals work at once. Change the amount of the
+ * terminals with {@code -t}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(100)
+public class ConsoleServerBenchmark {
+
+    /**
+     * The amount of the threads of the server.
+     */
+    @Param({"1", "4"})
+    private int workers;
+
+    /**
+     * The amount of the questions in the test.
+     */
+    @Param({"10"})
+    private int questions;
+
+    /**
+     * The server.
+     */
+    private ConsoleServer server;
+
+    /**
+     * The answers of the whole test.
+     */
+    private byte[] answers;
+
+    /**
+     * Start the server.
+     *
+     * @throws IOException If something goes wrong.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        final int size = this.questions;
+        this.server = new ConsoleServer(
+            new InetSocketAddress("127.0.0.1", 0),
+            () -> {
+                final List<Question> items = new ArrayList<>(size);
+                for (int idx = 0; idx < size; ++idx) {
+                    items.add(
+                        new SimpleQuestion(
+                            new SimpleText(
+                                String.format("%d + %d = ?", idx, idx)
+                            ),
+                            new SimpleAnswer(String.valueOf(idx * 2))
+                        )
+                    );
+                }
+                return items;
+            },
+            this.workers
+        );
+        final StringBuilder text = new StringBuilder();
+        for (int idx = 0; idx < size; ++idx) {
+            text.append(idx * 2).append('\n');
+        }
+        this.answers = text.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Stop the server.
+     *
+     * @throws IOException If something goes wrong.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        this.server.close();
+    }
+
+    /**
+     * Run the whole test session.
+     *
+     * @return The amount of the bytes received.
+     * @throws IOException If something goes wrong.
+     */
+    @Benchmark
+    public long session() throws IOException {
+        try (Socket socket = new Socket()) {
+            socket.connect(this.server.address());
+            socket.getOutputStream().write(this.answers);
+            final InputStream input = socket.getInputStream();
+            final byte[] buffer = new byte[8192];
+            long total = 0L;
+            int read = input.read(buffer);
+            while (read >= 0) {
+                total += read;
+                read = input.read(buffer);
+            }
+            return total;
+        }
+    }
+}
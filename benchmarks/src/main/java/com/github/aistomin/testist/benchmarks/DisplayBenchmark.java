@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.Template;
+import com.github.aistomin.testist.multichoice.Choice;
+import com.github.aistomin.testist.multichoice.MultiChoiceQuestionText;
+import com.github.aistomin.testist.simple.SimpleResult;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmarks of the display templates against
+ * {@link String#format(String, Object...)} which renders the same text. Run
+ * them with {@code -prof gc} to compare the allocations per operation.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisplayBenchmark {
+
+    /**
+     * The pattern of the result's score.
+     */
+    private static final String SCORE =
+        "%n**********************************%n"
+            + "YOU TEST IS NOT FINISHED. %nTOTAL: %d, %nANSWERED: %d%n"
+            + "CORRECT: %d%nWRONG: %d%nPASSING PERCENTAGE: %d%n"
+            + "PLEASE CONTINUE.%n"
+            + "**********************************";
+
+    /**
+     * The compiled pattern of the result's score.
+     */
+    private static final Template TEMPLATE = new Template(SCORE);
+
+    /**
+     * The intermediate result.
+     */
+    private SimpleResult result;
+
+    /**
+     * The multi-choice question's text.
+     */
+    private MultiChoiceQuestionText text;
+
+    /**
+     * The choices of the question.
+     */
+    private Map<Choice, String> choices;
+
+    /**
+     * The reusable output.
+     */
+    private StringBuilder out;
+
+    /**
+     * Prepare the data.
+     */
+    @Setup
+    public void setUp() {
+        this.result = new SimpleResult(1000, 500, 250);
+        this.choices = new EnumMap<>(Choice.class);
+        this.choices.put(Choice.D, "Dream Theater");
+        this.choices.put(Choice.A, "Yes");
+        this.choices.put(Choice.C, "Genesis");
+        this.choices.put(Choice.B, "ELP");
+        this.text = new MultiChoiceQuestionText(
+            "What is the best prog. rock band?", this.choices
+        );
+        this.out = new StringBuilder(256);
+    }
+
+    /**
+     * Render the result with {@link String#format(String, Object...)}.
+     *
+     * @return Displayable string.
+     */
+    @Benchmark
+    public String resultFormat() {
+        return String.format(
+            SCORE, this.result.total(), this.result.answered(),
+            this.result.correct(),
+            this.result.answered() - this.result.correct(), 100
+        );
+    }
+
+    /**
+     * Render the result with the template.
+     *
+     * @return Displayable string.
+     */
+    @Benchmark
+    public String resultTemplate() {
+        return this.result.toDisplayableString();
+    }
+
+    /**
+     * Render the result with the template into the reused output.
+     *
+     * @return The output.
+     */
+    @Benchmark
+    public StringBuilder resultInto() {
+        this.out.setLength(0);
+        this.result.writeDisplayable(this.out);
+        return this.out;
+    }
+
+    /**
+     * Fill the same pattern with the template into the reused output.
+     *
+     * @return The output.
+     */
+    @Benchmark
+    public StringBuilder patternInto() {
+        this.out.setLength(0);
+        return TEMPLATE.fill(this.out)
+            .with(this.result.total())
+            .with(this.result.answered())
+            .with(this.result.correct())
+            .with(this.result.answered() - this.result.correct())
+            .with(100)
+            .done();
+    }
+
+    /**
+     * Render the multi-choice text with
+     * {@link String#format(String, Object...)}.
+     *
+     * @return Displayable string.
+     */
+    @Benchmark
+    public String choicesFormat() {
+        final StringBuilder builder =
+            new StringBuilder("What is the best prog. rock band?");
+        builder.append(String.format("%n"));
+        for (final Map.Entry<Choice, String> entry : this.choices.entrySet()) {
+            builder.append(
+                String.format("%n%s. %s", entry.getKey(), entry.getValue())
+            );
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Render the multi-choice text with the templates.
+     *
+     * @return Displayable string.
+     */
+    @Benchmark
+    public String choicesTemplate() {
+        return this.text.toDisplayableString();
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleQuestion;
+import com.github.aistomin.testist.simple.SimpleText;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The {@link QuestionsProvider} which generates the requested amount of the
+ * simple arithmetic questions.
+ *
+ * @since 1.0
+ */
+public final class GeneratedQuestions implements QuestionsProvider {
+
+    /**
+     * Generated questions.
+     */
+    private final List<Question> items;
+
+    /**
+     * Ctor.
+     *
+     * @param size The amount of the questions.
+     * @param confs The configuration of the expected answers.
+     */
+    public GeneratedQuestions(final int size, final Set<SimpleAnswer.Conf> confs) {
+        this.items = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            this.items.add(
+                new SimpleQuestion(
+                    new SimpleText(String.format("%d + %d = ?", idx, idx)),
+                    new SimpleAnswer(String.format("Sum is %d.", idx * 2), confs)
+                )
+            );
+        }
+    }
+
+    @Override
+    public List<Question> questions() {
+        return this.items;
+    }
+}
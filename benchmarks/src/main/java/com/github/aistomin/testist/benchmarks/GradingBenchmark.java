@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.Test;
+import com.github.aistomin.testist.grading.BulkGrader;
+import com.github.aistomin.testist.grading.Graded;
+import com.github.aistomin.testist.grading.Submission;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleTest;
+import com.github.aistomin.testist.simple.SimpleTestSuite;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of {@link BulkGrader}: the time of grading the batch of the
+ * submissions depending on the parallelism of the pool. The questions can be
+ * answered only once, so the batch is built before every invocation.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+public class GradingBenchmark {
+
+    /**
+     * The amount of the questions in every test.
+     */
+    private static final int QUESTIONS = 100;
+
+    /**
+     * The amount of the tests in the batch.
+     */
+    @Param({"10000"})
+    private int tests;
+
+    /**
+     * The parallelism of the pool.
+     */
+    @Param({"1", "2", "4", "8"})
+    private int parallelism;
+
+    /**
+     * The pool.
+     */
+    private ForkJoinPool pool;
+
+    /**
+     * The suite.
+     */
+    private SimpleTestSuite suite;
+
+    /**
+     * The batch of the submissions.
+     */
+    private List<Submission> batch;
+
+    /**
+     * Create the pool.
+     */
+    @Setup(Level.Trial)
+    public void setUpPool() {
+        this.pool = new ForkJoinPool(this.parallelism);
+    }
+
+    /**
+     * Stop the pool.
+     */
+    @TearDown(Level.Trial)
+    public void tearDownPool() {
+        this.pool.shutdown();
+    }
+
+    /**
+     * Build the batch: every test gets the answers to all its questions,
+     * half of the answers are correct.
+     */
+    @Setup(Level.Iteration)
+    public void setUpBatch() {
+        final List<Test> all = new ArrayList<>(this.tests);
+        this.batch = new ArrayList<>(this.tests * QUESTIONS);
+        for (int idx = 0; idx < this.tests; ++idx) {
+            final SimpleTest test = new SimpleTest(
+                new GeneratedQuestions(QUESTIONS, Confs.ALL.set())
+            );
+            all.add(test);
+            for (int num = 0; num < QUESTIONS; ++num) {
+                final Question question = test.question(num);
+                final SimpleAnswer answer;
+                if (num % 2 == 0) {
+                    answer = new SimpleAnswer(
+                        question.help().toDisplayableString()
+                    );
+                } else {
+                    answer = new SimpleAnswer("wrong");
+                }
+                this.batch.add(new Submission(test, question, answer));
+            }
+        }
+        this.suite = new SimpleTestSuite("Generated", all);
+    }
+
+    /**
+     * Grade the batch.
+     *
+     * @return The results.
+     */
+    @Benchmark
+    public Graded grade() {
+        return new BulkGrader(this.pool, 1024).grade(this.suite, this.batch);
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.server.HttpApi;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleQuestion;
+import com.github.aistomin.testist.simple.SimpleText;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The load test of {@link HttpApi} over localhost. Every benchmark thread is
+ * a client which answers the questions of its session one request at a time
+ * and opens the new session when the test is finished, so the throughput is
+ * the amount of the requests per second and the sampled time gives the
+ * percentiles of their latency, p99 included, while 32 clients work at once.
+ * Change the amount of the clients with {@code -t}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(32)
+public class HttpApiBenchmark {
+
+    /**
+     * The amount of the threads of the server.
+     */
+    @Param({"1", "4"})
+    private int workers;
+
+    /**
+     * The amount of the questions in the test.
+     */
+    @Param({"10"})
+    private int questions;
+
+    /**
+     * The threads of the server.
+     */
+    private ExecutorService executor;
+
+    /**
+     * The server.
+     */
+    private HttpApi api;
+
+    /**
+     * The client.
+     */
+    private HttpClient client;
+
+    /**
+     * Start the server.
+     *
+     * @throws IOException If something goes wrong.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        final int size = this.questions;
+        this.executor = Executors.newFixedThreadPool(this.workers);
+        this.api = new HttpApi(
+            new InetSocketAddress("127.0.0.1", 0),
+            () -> {
+                final List<Question> items = new ArrayList<>(size);
+                for (int idx = 0; idx < size; ++idx) {
+                    items.add(
+                        new SimpleQuestion(
+                            new SimpleText(
+                                String.format("%d + %d = ?", idx, idx)
+                            ),
+                            new SimpleAnswer(String.valueOf(idx * 2))
+                        )
+                    );
+                }
+                return items;
+            },
+            this.executor
+        );
+        this.client = HttpClient.newHttpClient();
+    }
+
+    /**
+     * Stop the server.
+     */
+    @TearDown
+    public void tearDown() {
+        this.api.close();
+        this.executor.shutdown();
+    }
+
+    /**
+     * Send one request of the session.
+     *
+     * @param session The client's session.
+     * @return The body of the response.
+     * @throws Exception If something goes wrong.
+     */
+    @Benchmark
+    public String request(final Session session) throws Exception {
+        final HttpRequest request;
+        if (session.id == null) {
+            request = this.request("POST", "/sessions", "");
+        } else if (session.answered == this.questions) {
+            request = this.request(
+                "DELETE", String.format("/sessions/%s", session.id), null
+            );
+        } else {
+            request = this.request(
+                "POST", String.format("/sessions/%s/answer", session.id),
+                String.format("{\"text\": \"%d\"}", session.answered * 2)
+            );
+        }
+        final String body = this.client.send(
+            request, HttpResponse.BodyHandlers.ofString()
+        ).body();
+        session.next(body, this.questions);
+        return body;
+    }
+
+    /**
+     * Build the request.
+     *
+     * @param method The method.
+     * @param path The path.
+     * @param body The body or null if the request has no body.
+     * @return The request.
+     */
+    private HttpRequest request(
+        final String method, final String path, final String body
+    ) {
+        final HttpRequest.BodyPublisher publisher;
+        if (body == null) {
+            publisher = HttpRequest.BodyPublishers.noBody();
+        } else {
+            publisher = HttpRequest.BodyPublishers.ofString(body);
+        }
+        return HttpRequest.newBuilder(
+            URI.create(
+                String.format(
+                    "http://127.0.0.1:%d%s", this.api.address().getPort(), path
+                )
+            )
+        ).method(method, publisher).build();
+    }
+
+    /**
+     * The session of the benchmark thread.
+     *
+     * @since 1.0
+     */
+    @State(Scope.Thread)
+    public static class Session {
+
+        /**
+         * The session's identifier or null if there is no open session.
+         */
+        private String id;
+
+        /**
+         * The amount of the answered questions.
+         */
+        private int answered;
+
+        /**
+         * Move the session to its next step.
+         *
+         * @param body The body of the last response.
+         * @param total The amount of the questions in the test.
+         * @throws ParseException If the response isn't JSON.
+         */
+        void next(final String body, final int total) throws ParseException {
+            if (this.id == null) {
+                this.id = (String) ((JSONObject) new JSONParser().parse(body))
+                    .get("id");
+                this.answered = 0;
+            } else if (this.answered == total) {
+                this.id = null;
+            } else {
+                this.answered += 1;
+            }
+        }
+    }
+}
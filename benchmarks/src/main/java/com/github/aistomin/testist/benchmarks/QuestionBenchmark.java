@@ -0,0 +1,234 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.simple.LockFreeQuestion;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleAnswerKey;
+import com.github.aistomin.testist.simple.SimpleQuestion;
+import com.github.aistomin.testist.simple.SimpleText;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmarks of {@link SimpleQuestion#isCorrect} and
+ * {@link SimpleQuestion#toDisplayableString}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuestionBenchmark {
+
+    /**
+     * The configuration of the expected answers.
+     */
+    @Param({"NONE", "CASE", "PUNCTUATION", "ALL"})
+    private Confs confs;
+
+    /**
+     * The question which is not answered yet.
+     */
+    private SimpleQuestion unanswered;
+
+    /**
+     * The question which is answered correctly.
+     */
+    private SimpleQuestion correct;
+
+    /**
+     * The question which is answered wrongly.
+     */
+    private SimpleQuestion wrong;
+
+    /**
+     * The question with the compiled answer key which is answered correctly.
+     */
+    private SimpleQuestion keyed;
+
+    /**
+     * The lock-free question which is answered wrongly.
+     */
+    private LockFreeQuestion free;
+
+    /**
+     * Prepare the questions.
+     */
+    @Setup
+    public void setUp() {
+        this.unanswered = this.question();
+        this.correct = this.question();
+        this.correct.answer(new SimpleAnswer("my name is Andrej"));
+        this.wrong = this.question();
+        this.wrong.answer(new SimpleAnswer("My name is Bruce."));
+        this.keyed = new SimpleQuestion(
+            new SimpleText("Ich heiße Andrej."),
+            new SimpleAnswerKey(this.answers())
+        );
+        this.keyed.answer(new SimpleAnswer("i'm called andrej"));
+        this.free = new LockFreeQuestion(
+            new SimpleText("Ich heiße Andrej."), new ArrayList<>(this.answers())
+        );
+        this.free.answer(new SimpleAnswer("My name is Bruce."));
+    }
+
+    /**
+     * Check the correctly answered question.
+     *
+     * @return Check result.
+     */
+    @Benchmark
+    public Boolean isCorrect() {
+        return this.correct.isCorrect();
+    }
+
+    /**
+     * Check the wrongly answered question.
+     *
+     * @return Check result.
+     */
+    @Benchmark
+    public Boolean isWrong() {
+        return this.wrong.isCorrect();
+    }
+
+    /**
+     * Check the correctly answered question with the compiled answer key.
+     *
+     * @return Check result.
+     */
+    @Benchmark
+    public Boolean isCorrectKeyed() {
+        return this.keyed.isCorrect();
+    }
+
+    /**
+     * Check the correctly answered question from several threads at once.
+     *
+     * @return Check result.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Boolean isCorrectContended() {
+        return this.correct.isCorrect();
+    }
+
+    /**
+     * Display the question which is not answered yet.
+     *
+     * @return Displayable string.
+     */
+    @Benchmark
+    public String displayUnanswered() {
+        return this.unanswered.toDisplayableString();
+    }
+
+    /**
+     * Display the question which is answered wrongly.
+     *
+     * @return Displayable string.
+     */
+    @Benchmark
+    public String displayWrong() {
+        return this.wrong.toDisplayableString();
+    }
+
+    /**
+     * Display the answered question from several threads at once.
+     *
+     * @return Displayable string.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String displayContended() {
+        return this.wrong.toDisplayableString();
+    }
+
+    /**
+     * Display the answered lock-free question from several threads at once.
+     *
+     * @return Displayable string.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public String displayLockFreeContended() {
+        return this.free.toDisplayableString();
+    }
+
+    /**
+     * Check the answered lock-free question from several threads at once.
+     *
+     * @return Check result.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Boolean isAnsweredLockFreeContended() {
+        return this.free.isAnswered();
+    }
+
+    /**
+     * Check the answered question from several threads at once.
+     *
+     * @return Check result.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Boolean isAnsweredContended() {
+        return this.wrong.isAnswered();
+    }
+
+    /**
+     * Create the question with several correct answers.
+     *
+     * @return The question.
+     */
+    private SimpleQuestion question() {
+        return new SimpleQuestion(
+            new SimpleText("Ich heiße Andrej."), new ArrayList<>(this.answers())
+        );
+    }
+
+    /**
+     * Several correct answers.
+     *
+     * @return The answers.
+     */
+    private List<SimpleAnswer> answers() {
+        return Arrays.asList(
+            new SimpleAnswer("My name is Andrej.", this.confs.set()),
+            new SimpleAnswer("I am Andrej.", this.confs.set()),
+            new SimpleAnswer("I'm called Andrej.", this.confs.set())
+        );
+    }
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.simple.PrecomputedResult;
+import com.github.aistomin.testist.simple.SimpleResult;
+import java.util.concurrent.TimeUnit;
+import org.json.simple.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmarks of {@link SimpleResult} rendering and of its
+ * {@link PrecomputedResult} counterpart.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResultBenchmark {
+
+    /**
+     * The amount of the questions in the test.
+     */
+    @Param({"5", "1000", "100000", "1000000"})
+    private int size;
+
+    /**
+     * The intermediate result.
+     */
+    private SimpleResult result;
+
+    /**
+     * The same result, validated once.
+     */
+    private PrecomputedResult computed;
+
+    /**
+     * Prepare the result.
+     */
+    @Setup
+    public void setUp() {
+        this.result = new SimpleResult(
+            this.size, this.size / 2, this.size / 2 - this.size / 4
+        );
+        this.computed = new PrecomputedResult(
+            this.size, this.size / 2, this.size / 2 - this.size / 4
+        );
+    }
+
+    /**
+     * Convert the result to JSON.
+     *
+     * @return JSON.
+     */
+    @Benchmark
+    public JSONObject toJson() {
+        return this.result.toJson();
+    }
+
+    /**
+     * Convert the result to JSON from several threads at once.
+     *
+     * @return JSON.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public JSONObject toJsonContended() {
+        return this.result.toJson();
+    }
+
+    /**
+     * Display the result.
+     *
+     * @return Displayable string.
+     */
+    @Benchmark
+    public String toDisplayableString() {
+        return this.result.toDisplayableString();
+    }
+
+    /**
+     * Check whether the result is passed.
+     *
+     * @return The verdict.
+     */
+    @Benchmark
+    public Boolean isPassed() {
+        return this.result.isPassed();
+    }
+
+    /**
+     * Check whether the precomputed result is passed.
+     *
+     * @return The verdict.
+     */
+    @Benchmark
+    public Boolean isPassedPrecomputed() {
+        return this.computed.isPassed();
+    }
+
+    /**
+     * Convert the precomputed result to JSON.
+     *
+     * @return JSON.
+     */
+    @Benchmark
+    public JSONObject toJsonPrecomputed() {
+        return this.computed.toJson();
+    }
+}
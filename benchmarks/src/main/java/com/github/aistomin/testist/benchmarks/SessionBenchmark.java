@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.bank.BinaryBankWriter;
+import com.github.aistomin.testist.bank.MappedQuestionsProvider;
+import com.github.aistomin.testist.session.SessionEngine;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of {@link SessionEngine}: the latency distribution of a
+ * single answer depending on the amount of the open sessions. Every
+ * operation answers the question of a random session, the finished sessions
+ * are replaced with the new ones, so the amount of the open sessions stays
+ * the same. Run it with "-prof gc" to see the allocation rate.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@Threads(Threads.MAX)
+public class SessionBenchmark {
+
+    /**
+     * The amount of the questions in every session.
+     */
+    private static final int QUESTIONS = 20;
+
+    /**
+     * The amount of the open sessions.
+     */
+    @Param({"100", "1000", "10000", "50000"})
+    private int sessions;
+
+    /**
+     * The amount of the threads which execute the sessions' operations.
+     */
+    @Param({"4"})
+    private int workers;
+
+    /**
+     * The bank's file.
+     */
+    private Path bank;
+
+    /**
+     * The executor of the sessions' operations.
+     */
+    private ExecutorService executor;
+
+    /**
+     * The engine.
+     */
+    private SessionEngine engine;
+
+    /**
+     * The identifiers of the open sessions.
+     */
+    private AtomicReferenceArray<String> ids;
+
+    /**
+     * Open the sessions.
+     *
+     * @throws IOException If the bank can't be written.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        final BinaryBankWriter writer = new BinaryBankWriter();
+        for (int idx = 0; idx < QUESTIONS; ++idx) {
+            writer.add(
+                String.format("%d + %d = ?", idx, idx),
+                Collections.emptySet(), String.valueOf(idx * 2)
+            );
+        }
+        this.bank = Files.createTempFile("sessions", ".bank");
+        writer.write(this.bank);
+        this.executor = Executors.newFixedThreadPool(this.workers);
+        this.engine = new SessionEngine(
+            new MappedQuestionsProvider(this.bank), this.executor
+        );
+        this.ids = new AtomicReferenceArray<>(this.sessions);
+        for (int idx = 0; idx < this.sessions; ++idx) {
+            this.ids.set(idx, this.engine.open());
+        }
+    }
+
+    /**
+     * Stop the executor and delete the bank.
+     *
+     * @throws IOException If the bank can't be deleted.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        this.executor.shutdownNow();
+        Files.deleteIfExists(this.bank);
+    }
+
+    /**
+     * Answer the question of a random session.
+     *
+     * @return Whether the answer is correct.
+     */
+    @Benchmark
+    public Boolean answer() {
+        final int slot = ThreadLocalRandom.current().nextInt(this.sessions);
+        final String id = this.ids.get(slot);
+        Boolean res;
+        try {
+            res = this.engine.answer(id, new SimpleAnswer("0")).join();
+        } catch (final RuntimeException ex) {
+            if (this.ids.compareAndSet(slot, id, this.engine.open())) {
+                this.engine.close(id);
+            }
+            res = false;
+        }
+        return res;
+    }
+
+    /**
+     * Read the current result of a random session.
+     *
+     * @return Whether the session is finished.
+     */
+    @Benchmark
+    public Boolean result() {
+        return this.engine.result(
+            this.ids.get(ThreadLocalRandom.current().nextInt(this.sessions))
+        ).isFinished();
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.simple.LiveTestSuite;
+import com.github.aistomin.testist.simple.SimpleTest;
+import com.github.aistomin.testist.simple.SuiteResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmark of the suite's result: the parallel scan of the tests
+ * against the live counters of {@link LiveTestSuite}.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SuiteBenchmark {
+
+    /**
+     * The amount of the questions in every test.
+     */
+    private static final int QUESTIONS = 20;
+
+    /**
+     * The amount of the tests in the suite.
+     */
+    @Param({"1000", "100000"})
+    private int tests;
+
+    /**
+     * The suite.
+     */
+    private LiveTestSuite suite;
+
+    /**
+     * Create the suite and answer half of the questions of every test.
+     */
+    @Setup
+    public void setUp() {
+        this.suite = new LiveTestSuite("Generated");
+        for (int idx = 0; idx < this.tests; ++idx) {
+            final SimpleTest test = this.suite.add(
+                new GeneratedQuestions(QUESTIONS, Confs.NONE.set())
+            );
+            for (int num = 0; num < QUESTIONS / 2; ++num) {
+                final Question question = test.nextQuestion();
+                question.answer(question.help());
+            }
+        }
+    }
+
+    /**
+     * Scan the suite's tests in parallel.
+     *
+     * @return The result.
+     */
+    @Benchmark
+    public SuiteResult scan() {
+        return new SuiteResult(this.suite);
+    }
+
+    /**
+     * Read the live counters.
+     *
+     * @return The result.
+     */
+    @Benchmark
+    public SuiteResult live() {
+        return this.suite.result();
+    }
+}
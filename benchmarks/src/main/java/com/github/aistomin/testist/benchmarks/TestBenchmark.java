@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.simple.SimpleTest;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The benchmarks of {@link SimpleTest#nextQuestion} and
+ * {@link SimpleTest#currentTestResult}. The first half of the test's
+ * questions is answered before the measurement, so the benchmarks reflect the
+ * state of the test in the middle of an exam.
+ *
+ * @since 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TestBenchmark {
+
+    /**
+     * The amount of the questions in the test.
+     */
+    @Param({"5", "1000", "100000", "1000000"})
+    private int size;
+
+    /**
+     * The configuration of the expected answers.
+     */
+    @Param({"NONE", "CASE", "PUNCTUATION", "ALL"})
+    private Confs confs;
+
+    /**
+     * The test.
+     */
+    private SimpleTest test;
+
+    /**
+     * Prepare the half-answered test.
+     */
+    @Setup
+    public void setUp() {
+        final GeneratedQuestions provider =
+            new GeneratedQuestions(this.size, this.confs.set());
+        this.test = new SimpleTest(provider);
+        final List<Question> questions = provider.questions();
+        for (int idx = 0; idx < this.size / 2; ++idx) {
+            final Question question = questions.get(idx);
+            if (idx % 2 == 0) {
+                question.answer(question.help());
+            } else {
+                question.answer(questions.get(idx + 1).help());
+            }
+        }
+    }
+
+    /**
+     * Get the next question.
+     *
+     * @return The question.
+     */
+    @Benchmark
+    public Question nextQuestion() {
+        return this.test.nextQuestion();
+    }
+
+    /**
+     * Get the next question from several threads at once.
+     *
+     * @return The question.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Question nextQuestionContended() {
+        return this.test.nextQuestion();
+    }
+
+    /**
+     * Calculate the current result.
+     *
+     * @return The result.
+     */
+    @Benchmark
+    public Result currentTestResult() {
+        return this.test.currentTestResult();
+    }
+
+    /**
+     * Calculate the current result from several threads at once.
+     *
+     * @return The result.
+     */
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Result currentTestResultContended() {
+        return this.test.currentTestResult();
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks.simulator;
+
+import java.util.SplittableRandom;
+
+/**
+ * The curves of the students' arrival within the arrival window.
+ *
+ * @since 1.0
+ */
+public enum Arrival {
+
+    /**
+     * Everybody arrives at once, at the start of the window.
+     */
+    BURST {
+        @Override
+        public long[] offsets(
+            final int students, final long window,
+            final SplittableRandom random
+        ) {
+            return new long[students];
+        }
+    },
+
+    /**
+     * The students arrive evenly throughout the window.
+     */
+    RAMP {
+        @Override
+        public long[] offsets(
+            final int students, final long window,
+            final SplittableRandom random
+        ) {
+            final long[] res = new long[students];
+            for (int idx = 0; idx < students; ++idx) {
+                res[idx] = window * idx / students;
+            }
+            return res;
+        }
+    },
+
+    /**
+     * The students arrive independently of each other, at the constant
+     * average rate which fills the window, so the arrivals come in the
+     * random clusters and some may come after the window.
+     */
+    POISSON {
+        @Override
+        public long[] offsets(
+            final int students, final long window,
+            final SplittableRandom random
+        ) {
+            final long[] res = new long[students];
+            final double mean = (double) window / students;
+            double time = 0.0;
+            for (int idx = 0; idx < students; ++idx) {
+                res[idx] = (long) time;
+                time += Arrival.exponential(mean, random);
+            }
+            return res;
+        }
+    };
+
+    /**
+     * The times of the arrivals.
+     *
+     * @param students The amount of the students.
+     * @param window The arrival window in nanoseconds.
+     * @param random The source of the randomness.
+     * @return The offsets of the arrivals from the start of the window in
+     *  nanoseconds, in the ascending order.
+     */
+    public abstract long[] offsets(
+        int students, long window, SplittableRandom random
+    );
+
+    /**
+     * The exponentially distributed random value.
+     *
+     * @param mean The mean of the distribution.
+     * @param random The source of the randomness.
+     * @return The value.
+     */
+    static double exponential(
+        final double mean, final SplittableRandom random
+    ) {
+        return -mean * Math.log(1.0 - random.nextDouble());
+    }
+}
@@ -0,0 +1,311 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks.simulator;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleQuestion;
+import com.github.aistomin.testist.simple.SimpleText;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The simulation of the exam day: the synthetic students arrive along the
+ * arrival curve, each takes the suite of the simple tests, thinks before
+ * every answer and answers correctly with the given probability. The
+ * students are served by the fixed pool of the threads, which plays the
+ * role of the server, and the simulation reports the throughput, the
+ * percentiles of the latency and the used heap.
+ * Run it from the benchmarks' jar:
+ * <pre>
+ * java -cp target/benchmarks.jar \
+ *     com.github.aistomin.testist.benchmarks.simulator.ExamDay \
+ *     students=10000 questions=20 tests=3 arrival=POISSON window=60 \
+ *     think=2000 accuracy=0.8 workers=4
+ * </pre>
+ * The window is in seconds and the mean think time is in milliseconds.
+ *
+ * @since 1.0
+ */
+public final class ExamDay {
+
+    /**
+     * The seed of the randomness, the same runs make the same students.
+     */
+    private static final long SEED = 20_190_101L;
+
+    /**
+     * The period of the heap's sampling in milliseconds.
+     */
+    private static final long SAMPLING = 100L;
+
+    /**
+     * The amount of the students.
+     */
+    private final int students;
+
+    /**
+     * The amount of the questions in the test.
+     */
+    private final int questions;
+
+    /**
+     * The amount of the tests in the student's suite.
+     */
+    private final int tests;
+
+    /**
+     * The arrival curve.
+     */
+    private final Arrival arrival;
+
+    /**
+     * The arrival window.
+     */
+    private final Duration window;
+
+    /**
+     * The mean think time before every answer.
+     */
+    private final Duration think;
+
+    /**
+     * The probability of the correct answer.
+     */
+    private final double accuracy;
+
+    /**
+     * The amount of the threads which serve the students.
+     */
+    private final int workers;
+
+    /**
+     * Ctor.
+     *
+     * @param crowd The amount of the students.
+     * @param size The amount of the questions in the test.
+     * @param suite The amount of the tests in the student's suite.
+     * @param curve The arrival curve.
+     * @param period The arrival window.
+     * @param pause The mean think time before every answer.
+     * @param probability The probability of the correct answer.
+     * @param threads The amount of the threads which serve the students.
+     */
+    public ExamDay(
+        final int crowd, final int size, final int suite,
+        final Arrival curve, final Duration period, final Duration pause,
+        final double probability, final int threads
+    ) {
+        if (crowd <= 0 || size < 0 || suite <= 0 || threads <= 0) {
+            throw new IllegalArgumentException(
+                String.join(
+                    " ",
+                    "Amounts of the students, the tests and the threads",
+                    "must be positive, of the questions - not negative."
+                )
+            );
+        }
+        if (probability < 0.0 || probability > 1.0) {
+            throw new IllegalArgumentException(
+                "Accuracy must be between 0 and 1."
+            );
+        }
+        this.students = crowd;
+        this.questions = size;
+        this.tests = suite;
+        this.arrival = curve;
+        this.window = period;
+        this.think = pause;
+        this.accuracy = probability;
+        this.workers = threads;
+    }
+
+    /**
+     * Run the simulation with the options {@code name=value}.
+     *
+     * @param args The options: students, questions, tests, arrival, window
+     *  (seconds), think (milliseconds), accuracy, workers.
+     * @throws InterruptedException If the simulation is interrupted.
+     */
+    public static void main(final String... args) throws InterruptedException {
+        final Map<String, String> options = new HashMap<>();
+        for (final String arg : args) {
+            final int sep = arg.indexOf('=');
+            if (sep < 0) {
+                throw new IllegalArgumentException(
+                    String.format("Option %s must be name=value.", arg)
+                );
+            }
+            options.put(arg.substring(0, sep), arg.substring(sep + 1));
+        }
+        final ExamDay day = new ExamDay(
+            Integer.parseInt(options.getOrDefault("students", "1000")),
+            Integer.parseInt(options.getOrDefault("questions", "20")),
+            Integer.parseInt(options.getOrDefault("tests", "1")),
+            Arrival.valueOf(options.getOrDefault("arrival", "RAMP")),
+            Duration.ofSeconds(
+                Long.parseLong(options.getOrDefault("window", "10"))
+            ),
+            Duration.ofMillis(
+                Long.parseLong(options.getOrDefault("think", "500"))
+            ),
+            Double.parseDouble(options.getOrDefault("accuracy", "0.8")),
+            Integer.parseInt(
+                options.getOrDefault(
+                    "workers",
+                    String.valueOf(Runtime.getRuntime().availableProcessors())
+                )
+            )
+        );
+        System.out.print(day.run());
+    }
+
+    /**
+     * Run the simulation and wait until every student finishes.
+     *
+     * @return The report.
+     * @throws InterruptedException If the simulation is interrupted.
+     */
+    public ExamDayReport run() throws InterruptedException {
+        final ScheduledExecutorService pool =
+            Executors.newScheduledThreadPool(this.workers);
+        final ScheduledExecutorService monitor =
+            Executors.newSingleThreadScheduledExecutor();
+        final HeapSampler heap = new HeapSampler();
+        final QuestionsProvider exam = ExamDay.exam(this.questions);
+        final CountDownLatch finished = new CountDownLatch(this.students);
+        final SplittableRandom random = new SplittableRandom(ExamDay.SEED);
+        final List<SyntheticStudent> crowd = new ArrayList<>(this.students);
+        for (int idx = 0; idx < this.students; ++idx) {
+            crowd.add(
+                new SyntheticStudent(
+                    exam, this.tests, pool, random.nextLong(),
+                    this.think.toNanos(), this.accuracy, finished
+                )
+            );
+        }
+        final long[] offsets = this.arrival.offsets(
+            this.students, this.window.toNanos(), random
+        );
+        final long gcs = ExamDay.collections();
+        final long gctime = ExamDay.pauses();
+        monitor.scheduleAtFixedRate(
+            heap, 0L, ExamDay.SAMPLING, TimeUnit.MILLISECONDS
+        );
+        final long start = System.nanoTime();
+        for (int idx = 0; idx < this.students; ++idx) {
+            crowd.get(idx).arrive(offsets[idx]);
+        }
+        finished.await();
+        final long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+        monitor.shutdown();
+        monitor.awaitTermination(1L, TimeUnit.MINUTES);
+        int passed = 0;
+        int steps = 0;
+        for (final SyntheticStudent student : crowd) {
+            if (student.passed()) {
+                passed += 1;
+            }
+            steps += student.latencies().length;
+        }
+        final long[] latencies = new long[steps];
+        int filled = 0;
+        for (final SyntheticStudent student : crowd) {
+            final long[] own = student.latencies();
+            System.arraycopy(own, 0, latencies, filled, own.length);
+            filled += own.length;
+        }
+        return new ExamDayReport(
+            this.students, passed,
+            (long) this.students * this.tests * this.questions,
+            latencies, elapsed, heap,
+            ExamDay.collections() - gcs, ExamDay.pauses() - gctime
+        );
+    }
+
+    /**
+     * The questions of the exam's test: "N + N = ?" whose answer is 2N.
+     * Every call makes the new questions, so every student answers their
+     * own.
+     *
+     * @param size The amount of the questions.
+     * @return The questions.
+     */
+    static QuestionsProvider exam(final int size) {
+        return () -> {
+            final List<Question> items = new ArrayList<>(size);
+            for (int idx = 0; idx < size; ++idx) {
+                items.add(
+                    new SimpleQuestion(
+                        new SimpleText(String.format("%d + %d = ?", idx, idx)),
+                        ExamDay.answer(idx)
+                    )
+                );
+            }
+            return items;
+        };
+    }
+
+    /**
+     * The correct answer of the exam's question.
+     *
+     * @param index The index of the question in the test.
+     * @return The answer.
+     */
+    static SimpleAnswer answer(final int index) {
+        return new SimpleAnswer(String.valueOf(index * 2));
+    }
+
+    /**
+     * The amount of the garbage collections since the start of the JVM.
+     *
+     * @return The amount.
+     */
+    private static long collections() {
+        long res = 0L;
+        for (final GarbageCollectorMXBean gc
+            : ManagementFactory.getGarbageCollectorMXBeans()) {
+            res += Math.max(gc.getCollectionCount(), 0L);
+        }
+        return res;
+    }
+
+    /**
+     * The time of the garbage collections since the start of the JVM.
+     *
+     * @return The time in milliseconds.
+     */
+    private static long pauses() {
+        long res = 0L;
+        for (final GarbageCollectorMXBean gc
+            : ManagementFactory.getGarbageCollectorMXBeans()) {
+            res += Math.max(gc.getCollectionTime(), 0L);
+        }
+        return res;
+    }
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks.simulator;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The report of the simulated exam day.
+ *
+ * @since 1.0
+ */
+public final class ExamDayReport {
+
+    /**
+     * The reported percentiles of the latency.
+     */
+    private static final double[] PERCENTILES = {0.5, 0.9, 0.99, 0.999};
+
+    /**
+     * The names of the reported percentiles.
+     */
+    private static final String[] NAMES = {"p50", "p90", "p99", "p99.9"};
+
+    /**
+     * The amount of the students.
+     */
+    private final int students;
+
+    /**
+     * The amount of the students who passed.
+     */
+    private final int passed;
+
+    /**
+     * The amount of the answers.
+     */
+    private final long answers;
+
+    /**
+     * The sorted latencies of the students' steps in nanoseconds.
+     */
+    private final long[] latencies;
+
+    /**
+     * The duration of the simulation in nanoseconds.
+     */
+    private final long duration;
+
+    /**
+     * The mean used heap in megabytes.
+     */
+    private final double heap;
+
+    /**
+     * The maximal used heap in megabytes.
+     */
+    private final double peak;
+
+    /**
+     * The amount of the garbage collections.
+     */
+    private final long collections;
+
+    /**
+     * The time of the garbage collections in milliseconds.
+     */
+    private final long pauses;
+
+    /**
+     * Ctor.
+     *
+     * @param total The amount of the students.
+     * @param succeeded The amount of the students who passed.
+     * @param answered The amount of the answers.
+     * @param steps The latencies of the students' steps in nanoseconds.
+     * @param elapsed The duration of the simulation in nanoseconds.
+     * @param sampler The samples of the used heap.
+     * @param gcs The amount of the garbage collections.
+     * @param gctime The time of the garbage collections in milliseconds.
+     */
+    ExamDayReport(
+        final int total, final int succeeded, final long answered,
+        final long[] steps, final long elapsed, final HeapSampler sampler,
+        final long gcs, final long gctime
+    ) {
+        this.students = total;
+        this.passed = succeeded;
+        this.answers = answered;
+        this.latencies = steps.clone();
+        Arrays.sort(this.latencies);
+        this.duration = elapsed;
+        this.heap = sampler.mean();
+        this.peak = sampler.max();
+        this.collections = gcs;
+        this.pauses = gctime;
+    }
+
+    /**
+     * The throughput of the simulation.
+     *
+     * @return The answers per second.
+     */
+    public double throughput() {
+        return this.answers * (double) TimeUnit.SECONDS.toNanos(1L)
+            / this.duration;
+    }
+
+    /**
+     * The percentile of the latency of the students' steps.
+     *
+     * @param fraction The percentile as the fraction, 0.99 is p99.
+     * @return The latency in nanoseconds or 0 if nothing was recorded.
+     */
+    public long latency(final double fraction) {
+        long res = 0L;
+        if (this.latencies.length > 0) {
+            final int rank = (int) Math.ceil(fraction * this.latencies.length);
+            res = this.latencies[
+                Math.min(Math.max(rank, 1), this.latencies.length) - 1
+            ];
+        }
+        return res;
+    }
+
+    /**
+     * The amount of the students who passed.
+     *
+     * @return The amount.
+     */
+    public int passed() {
+        return this.passed;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder out = new StringBuilder(0)
+            .append(
+                String.format(
+                    "Students: %d, passed: %d%n", this.students, this.passed
+                )
+            ).append(
+                String.format(
+                    "Duration: %.1f s, answers: %d, throughput: %.1f/s%n",
+                    this.duration / (double) TimeUnit.SECONDS.toNanos(1L),
+                    this.answers, this.throughput()
+                )
+            ).append("Latency, us:");
+        for (int idx = 0; idx < ExamDayReport.PERCENTILES.length; ++idx) {
+            out.append(
+                String.format(
+                    " %s %d,", ExamDayReport.NAMES[idx],
+                    TimeUnit.NANOSECONDS.toMicros(
+                        this.latency(ExamDayReport.PERCENTILES[idx])
+                    )
+                )
+            );
+        }
+        return out.append(
+            String.format(
+                " max %d%nHeap, MB: mean %.1f, max %.1f%n"
+                    + "GC: %d collections, %d ms%n",
+                TimeUnit.NANOSECONDS.toMicros(this.latency(1.0)),
+                this.heap, this.peak, this.collections, this.pauses
+            )
+        ).toString();
+    }
+}
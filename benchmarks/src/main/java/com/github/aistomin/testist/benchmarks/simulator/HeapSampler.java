@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks.simulator;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+
+/**
+ * The sampler of the used heap, run periodically during the simulation.
+ * The sampler is run by the single thread, the samples must be read after
+ * the thread is stopped.
+ *
+ * @since 1.0
+ */
+final class HeapSampler implements Runnable {
+
+    /**
+     * The bytes in a megabyte.
+     */
+    private static final double MEGABYTE = 1024.0 * 1024.0;
+
+    /**
+     * The memory of the JVM.
+     */
+    private final MemoryMXBean memory;
+
+    /**
+     * The maximal used heap in bytes.
+     */
+    private long max;
+
+    /**
+     * The sum of the samples in bytes.
+     */
+    private double sum;
+
+    /**
+     * The amount of the samples.
+     */
+    private long count;
+
+    /**
+     * Ctor.
+     */
+    HeapSampler() {
+        this.memory = ManagementFactory.getMemoryMXBean();
+    }
+
+    @Override
+    public void run() {
+        final long used = this.memory.getHeapMemoryUsage().getUsed();
+        this.max = Math.max(this.max, used);
+        this.sum += used;
+        this.count += 1L;
+    }
+
+    /**
+     * The maximal used heap.
+     *
+     * @return The heap in megabytes.
+     */
+    double max() {
+        return this.max / HeapSampler.MEGABYTE;
+    }
+
+    /**
+     * The mean used heap.
+     *
+     * @return The heap in megabytes or 0 if there are no samples.
+     */
+    double mean() {
+        double res = 0.0;
+        if (this.count > 0L) {
+            res = this.sum / this.count / HeapSampler.MEGABYTE;
+        }
+        return res;
+    }
+}
@@ -0,0 +1,240 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.benchmarks.simulator;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.Test;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleTest;
+import com.github.aistomin.testist.simple.SimpleTestSuite;
+import com.github.aistomin.testist.simple.SuiteResult;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The synthetic student who takes the suite of the tests of
+ * {@link ExamDay#exam(int)}. The student doesn't own a thread: every step,
+ * the arrival or the answer, is scheduled on the shared scheduler after the
+ * random think time, so thousands of the students fit into a small pool.
+ * The latency of the step is measured from the moment it is due, so the
+ * time it waits for the busy pool is counted too.
+ *
+ * @since 1.0
+ */
+final class SyntheticStudent implements Runnable {
+
+    /**
+     * The wrong answer.
+     */
+    private static final SimpleAnswer WRONG = new SimpleAnswer("wrong");
+
+    /**
+     * The questions of the tests.
+     */
+    private final QuestionsProvider provider;
+
+    /**
+     * The tests of the suite.
+     */
+    private final List<Test> tests;
+
+    /**
+     * The amount of the tests in the suite.
+     */
+    private final int size;
+
+    /**
+     * The scheduler of the steps.
+     */
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * The source of the randomness.
+     */
+    private final SplittableRandom random;
+
+    /**
+     * The mean think time in nanoseconds.
+     */
+    private final double think;
+
+    /**
+     * The probability of the correct answer.
+     */
+    private final double accuracy;
+
+    /**
+     * The signal of the finished students.
+     */
+    private final CountDownLatch finished;
+
+    /**
+     * The latencies of the steps in nanoseconds.
+     */
+    private long[] latencies;
+
+    /**
+     * The amount of the recorded latencies.
+     */
+    private int steps;
+
+    /**
+     * The index of the current question in the current test.
+     */
+    private int position;
+
+    /**
+     * The moment the current step is due.
+     */
+    private long due;
+
+    /**
+     * Did the student pass the suite?
+     */
+    private boolean passed;
+
+    /**
+     * Ctor.
+     *
+     * @param questions The questions of the tests.
+     * @param amount The amount of the tests in the suite.
+     * @param executor The scheduler of the steps.
+     * @param seed The seed of the randomness.
+     * @param pause The mean think time in nanoseconds.
+     * @param probability The probability of the correct answer.
+     * @param latch The signal of the finished students.
+     */
+    SyntheticStudent(
+        final QuestionsProvider questions, final int amount,
+        final ScheduledExecutorService executor, final long seed,
+        final double pause, final double probability,
+        final CountDownLatch latch
+    ) {
+        this.provider = questions;
+        this.size = amount;
+        this.tests = new ArrayList<>(amount);
+        this.scheduler = executor;
+        this.random = new SplittableRandom(seed);
+        this.think = pause;
+        this.accuracy = probability;
+        this.finished = latch;
+        this.latencies = new long[0];
+    }
+
+    /**
+     * Arrive after the delay.
+     *
+     * @param delay The delay in nanoseconds.
+     */
+    void arrive(final long delay) {
+        this.schedule(delay);
+    }
+
+    @Override
+    public void run() {
+        if (this.tests.isEmpty()) {
+            for (int idx = 0; idx < this.size; ++idx) {
+                this.tests.add(new SimpleTest(this.provider));
+            }
+        } else {
+            this.answer();
+        }
+        final boolean more = this.tests.get(this.tests.size() - 1)
+            .hasMoreQuestions();
+        if (more) {
+            this.record();
+            this.schedule(
+                (long) Arrival.exponential(this.think, this.random)
+            );
+        } else {
+            this.passed = new SuiteResult(
+                new SimpleTestSuite("exam", this.tests)
+            ).isPassed();
+            this.record();
+            this.finished.countDown();
+        }
+    }
+
+    /**
+     * The latencies of the student's steps.
+     *
+     * @return The latencies in nanoseconds.
+     */
+    long[] latencies() {
+        return Arrays.copyOf(this.latencies, this.steps);
+    }
+
+    /**
+     * Did the student pass the suite?
+     *
+     * @return True - passed; False - failed or hasn't finished yet.
+     */
+    boolean passed() {
+        return this.passed;
+    }
+
+    /**
+     * Answer the next question of the suite, correctly with the probability
+     * of the student's accuracy.
+     */
+    private void answer() {
+        Test test = null;
+        for (final Test candidate : this.tests) {
+            if (test == null && candidate.hasMoreQuestions()) {
+                test = candidate;
+            }
+        }
+        final Question question = test.nextQuestion();
+        if (this.random.nextDouble() < this.accuracy) {
+            question.answer(ExamDay.answer(this.position));
+        } else {
+            question.answer(SyntheticStudent.WRONG);
+        }
+        this.position += 1;
+        if (!test.hasMoreQuestions()) {
+            this.position = 0;
+        }
+    }
+
+    /**
+     * Schedule the next step.
+     *
+     * @param delay The delay in nanoseconds.
+     */
+    private void schedule(final long delay) {
+        this.due = System.nanoTime() + delay;
+        this.scheduler.schedule(this, delay, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record the latency of the current step.
+     */
+    private void record() {
+        if (this.steps == this.latencies.length) {
+            this.latencies = Arrays.copyOf(
+                this.latencies, Math.max(this.steps * 2, 16)
+            );
+        }
+        this.latencies[this.steps] = System.nanoTime() - this.due;
+        this.steps += 1;
+    }
+}
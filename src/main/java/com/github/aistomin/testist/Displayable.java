@@ -15,6 +15,7 @@
  */
 package com.github.aistomin.testist;
 
+import java.io.IOException;
 import org.json.simple.JSONObject;
 
 /**
@@ -31,10 +32,35 @@ public interface Displayable {
      */
     String toDisplayableString();
 
+    /**
+     * Write the displayable string straight to the output. It produces the
+     * same text as {@link #toDisplayableString()}, the implementations
+     * should override it to render into the output without building the
+     * intermediate strings.
+     *
+     * @param out The output.
+     */
+    default void writeDisplayable(final StringBuilder out) {
+        out.append(this.toDisplayableString());
+    }
+
     /**
      * Convert the entity to the valid JSON.
      *
      * @return JSON.
      */
     JSONObject toJson();
+
+    /**
+     * Write the entity as JSON straight to the output. It produces the same
+     * JSON as {@link #toJson()}, the implementations should override it to
+     * avoid building the intermediate objects.
+     *
+     * @param out The output: {@link StringBuilder}, {@link java.io.Writer},
+     *  {@link java.nio.CharBuffer} etc.
+     * @throws IOException If the output fails.
+     */
+    default void writeJson(final Appendable out) throws IOException {
+        out.append(this.toJson().toJSONString());
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Writes the JSON object straight to an {@link Appendable} without building
+ * intermediate maps. The strings are escaped the same way as json-simple does
+ * it, so the output can be read back by the JSON parser of json-simple.
+ *
+ * @since 1.0
+ */
+public final class JsonAppender {
+
+    /**
+     * Hexadecimal digits.
+     */
+    private static final String HEX = "0123456789ABCDEF";
+
+    /**
+     * The last control character of the C0 set.
+     */
+    private static final char C0_END = '\u001F';
+
+    /**
+     * The first control character of the DEL and C1 set.
+     */
+    private static final char C1_START = '\u007F';
+
+    /**
+     * The last control character of the DEL and C1 set.
+     */
+    private static final char C1_END = '\u009F';
+
+    /**
+     * The first character of the general punctuation and currency blocks.
+     */
+    private static final char PUNCT_START = '\u2000';
+
+    /**
+     * The last character of the general punctuation and currency blocks.
+     */
+    private static final char PUNCT_END = '\u20FF';
+
+    /**
+     * The shift of the most significant hexadecimal digit of a character.
+     */
+    private static final int SHIFT = 12;
+
+    /**
+     * The bits of a hexadecimal digit.
+     */
+    private static final int DIGIT = 4;
+
+    /**
+     * The mask of a hexadecimal digit.
+     */
+    private static final int MASK = 0xF;
+
+    /**
+     * The output.
+     */
+    private final Appendable out;
+
+    /**
+     * Whether the next field is the first one in the object.
+     */
+    private boolean first;
+
+    /**
+     * Ctor.
+     *
+     * @param output The output.
+     */
+    public JsonAppender(final Appendable output) {
+        this.out = output;
+        this.first = true;
+    }
+
+    /**
+     * Start the JSON object.
+     *
+     * @return This appender.
+     * @throws IOException If the output fails.
+     */
+    public JsonAppender begin() throws IOException {
+        this.out.append('{');
+        this.first = true;
+        return this;
+    }
+
+    /**
+     * Write the string field.
+     *
+     * @param name The field's name.
+     * @param value The field's value.
+     * @return This appender.
+     * @throws IOException If the output fails.
+     */
+    public JsonAppender string(final String name, final String value)
+        throws IOException {
+        this.name(name);
+        this.quoted(value);
+        return this;
+    }
+
+    /**
+     * Write the field which contains the nested object.
+     *
+     * @param name The field's name.
+     * @param value The field's value.
+     * @return This appender.
+     * @throws IOException If the output fails.
+     */
+    public JsonAppender object(final String name, final Displayable value)
+        throws IOException {
+        this.name(name);
+        value.writeJson(this.out);
+        return this;
+    }
+
+    /**
+     * Write the field which contains the nested object with the string
+     * values.
+     *
+     * @param name The field's name.
+     * @param values The field's value.
+     * @return This appender.
+     * @throws IOException If the output fails.
+     */
+    public JsonAppender map(final String name, final Map<?, String> values)
+        throws IOException {
+        this.name(name);
+        this.out.append('{');
+        boolean comma = false;
+        for (final Map.Entry<?, String> entry : values.entrySet()) {
+            if (comma) {
+                this.out.append(',');
+            }
+            this.quoted(String.valueOf(entry.getKey()));
+            this.out.append(':');
+            this.quoted(entry.getValue());
+            comma = true;
+        }
+        this.out.append('}');
+        return this;
+    }
+
+    /**
+     * Finish the JSON object.
+     *
+     * @throws IOException If the output fails.
+     */
+    public void end() throws IOException {
+        this.out.append('}');
+    }
+
+    /**
+     * Write the field's name.
+     *
+     * @param name The name.
+     * @throws IOException If the output fails.
+     */
+    private void name(final String name) throws IOException {
+        if (!this.first) {
+            this.out.append(',');
+        }
+        this.first = false;
+        this.quoted(name);
+        this.out.append(':');
+    }
+
+    /**
+     * Write the escaped string in quotes.
+     *
+     * @param value The string or null.
+     * @throws IOException If the output fails.
+     */
+    private void quoted(final String value) throws IOException {
+        if (value == null) {
+            this.out.append("null");
+        } else {
+            this.out.append('"');
+            int start = 0;
+            for (int idx = 0; idx < value.length(); ++idx) {
+                final char chr = value.charAt(idx);
+                if (JsonAppender.special(chr)) {
+                    this.out.append(value, start, idx);
+                    this.escape(chr);
+                    start = idx + 1;
+                }
+            }
+            this.out.append(value, start, value.length());
+            this.out.append('"');
+        }
+    }
+
+    /**
+     * Write the escaped character.
+     *
+     * @param chr The character.
+     * @throws IOException If the output fails.
+     */
+    private void escape(final char chr) throws IOException {
+        switch (chr) {
+            case '"':
+                this.out.append("\\\"");
+                break;
+            case '\\':
+                this.out.append("\\\\");
+                break;
+            case '/':
+                this.out.append("\\/");
+                break;
+            case '\b':
+                this.out.append("\\b");
+                break;
+            case '\f':
+                this.out.append("\\f");
+                break;
+            case '\n':
+                this.out.append("\\n");
+                break;
+            case '\r':
+                this.out.append("\\r");
+                break;
+            case '\t':
+                this.out.append("\\t");
+                break;
+            default:
+                this.out.append("\\u");
+                for (int shift = SHIFT; shift >= 0; shift -= DIGIT) {
+                    this.out.append(HEX.charAt(chr >> shift & MASK));
+                }
+                break;
+        }
+    }
+
+    /**
+     * Whether the character must be escaped.
+     *
+     * @param chr The character.
+     * @return True - must be escaped; False - must not.
+     */
+    private static boolean special(final char chr) {
+        return chr == '"' || chr == '\\' || chr == '/' || chr <= C0_END
+            || chr >= C1_START && chr <= C1_END
+            || chr >= PUNCT_START && chr <= PUNCT_END;
+    }
+}
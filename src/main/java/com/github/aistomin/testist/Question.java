@@ -15,6 +15,8 @@
  */
 package com.github.aistomin.testist;
 
+import java.util.function.Consumer;
+
 /**
  * The interface of a question object.
  *
@@ -29,6 +31,19 @@ public interface Question extends Displayable {
      */
     void answer(Answer answer);
 
+    /**
+     * Answer the question with the answer and check it. The implementations
+     * which guard their state with a lock should do both under the single
+     * acquisition of the lock.
+     *
+     * @param answer The answer.
+     * @return True - the answer is correct; False - isn't correct.
+     */
+    default Boolean grade(final Answer answer) {
+        this.answer(answer);
+        return this.isCorrect();
+    }
+
     /**
      * Is the question answered correctly?
      *
@@ -43,6 +58,16 @@ public interface Question extends Displayable {
      */
     Boolean isAnswered();
 
+    /**
+     * Register the listener of the answer. The listener is called once with
+     * whether the answer is correct when the question is answered, or right
+     * away if the question is already answered. The listener is called
+     * without holding the question's locks.
+     *
+     * @param listener The listener.
+     */
+    void listen(Consumer<Boolean> listener);
+
     /**
      * Return the correct answer to the question.
      *
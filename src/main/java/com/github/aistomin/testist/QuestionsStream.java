@@ -0,0 +1,28 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist;
+
+/**
+ * The interface of classes which provide the questions on demand. Unlike
+ * {@link QuestionsProvider}, the questions are not loaded all at once: every
+ * call of {@link #iterator()} starts a new pass over the questions, which are
+ * created or loaded only when they are requested. The stream may be
+ * unbounded.
+ *
+ * @since 1.0
+ */
+public interface QuestionsStream extends Iterable<Question> {
+}
@@ -0,0 +1,218 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The display template which is parsed once and then filled many times
+ * straight into a {@link StringBuilder}. It understands the subset of
+ * {@link String#format(String, Object...)} which the display layer uses:
+ * {@code %s} and {@code %d} are the placeholders, {@code %n} is the line
+ * separator and {@code %%} is the percent sign. The values are appended
+ * without any formatting, so rendering with the template doesn't parse the
+ * pattern and doesn't allocate the intermediate strings.
+ *
+ * @since 1.0
+ */
+public final class Template {
+
+    /**
+     * The pieces of text around the placeholders. There is always one piece
+     * more than the placeholders.
+     */
+    private final String[] pieces;
+
+    /**
+     * Ctor.
+     *
+     * @param pattern The pattern.
+     */
+    public Template(final String pattern) {
+        final List<String> parsed = new ArrayList<>(2);
+        final StringBuilder piece = new StringBuilder(pattern.length());
+        int idx = 0;
+        while (idx < pattern.length()) {
+            final char chr = pattern.charAt(idx);
+            if (chr == '%') {
+                if (idx + 1 == pattern.length()) {
+                    throw new IllegalArgumentException(
+                        String.format("Unfinished specifier in '%s'.", pattern)
+                    );
+                }
+                final char spec = pattern.charAt(idx + 1);
+                if (spec == 's' || spec == 'd') {
+                    parsed.add(piece.toString());
+                    piece.setLength(0);
+                } else if (spec == 'n') {
+                    piece.append(System.lineSeparator());
+                } else if (spec == '%') {
+                    piece.append('%');
+                } else {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Unsupported specifier %%%s in '%s'.", spec, pattern
+                        )
+                    );
+                }
+                idx += 2;
+            } else {
+                piece.append(chr);
+                ++idx;
+            }
+        }
+        parsed.add(piece.toString());
+        this.pieces = parsed.toArray(new String[0]);
+    }
+
+    /**
+     * The amount of the placeholders.
+     *
+     * @return The amount.
+     */
+    public int placeholders() {
+        return this.pieces.length - 1;
+    }
+
+    /**
+     * Start filling the template into the output. The text before the first
+     * placeholder is appended right away.
+     *
+     * @param out The output.
+     * @return The filler which accepts the values of the placeholders.
+     */
+    public Template.Filler fill(final StringBuilder out) {
+        out.append(this.pieces[0]);
+        return new Template.Filler(out);
+    }
+
+    /**
+     * Fill the template which has no placeholders into the output.
+     *
+     * @param out The output.
+     */
+    public void write(final StringBuilder out) {
+        this.fill(out).done();
+    }
+
+    /**
+     * Accepts the values of the placeholders one by one and appends them to
+     * the output together with the text which follows them.
+     *
+     * @since 1.0
+     */
+    public final class Filler {
+
+        /**
+         * The output.
+         */
+        private final StringBuilder out;
+
+        /**
+         * The amount of the filled placeholders.
+         */
+        private int filled;
+
+        /**
+         * Ctor.
+         *
+         * @param output The output.
+         */
+        private Filler(final StringBuilder output) {
+            this.out = output;
+        }
+
+        /**
+         * Fill the next placeholder with the text.
+         *
+         * @param value The text.
+         * @return This filler.
+         */
+        public Template.Filler with(final CharSequence value) {
+            this.check();
+            this.out.append(value);
+            return this.next();
+        }
+
+        /**
+         * Fill the next placeholder with the number.
+         *
+         * @param value The number.
+         * @return This filler.
+         */
+        public Template.Filler with(final long value) {
+            this.check();
+            this.out.append(value);
+            return this.next();
+        }
+
+        /**
+         * Fill the next placeholder with the displayable entity, which is
+         * written straight to the output.
+         *
+         * @param value The entity.
+         * @return This filler.
+         */
+        public Template.Filler with(final Displayable value) {
+            this.check();
+            value.writeDisplayable(this.out);
+            return this.next();
+        }
+
+        /**
+         * Finish filling the template.
+         *
+         * @return The output.
+         */
+        public StringBuilder done() {
+            if (this.filled != Template.this.placeholders()) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Template expects %d values, got %d.",
+                        Template.this.placeholders(), this.filled
+                    )
+                );
+            }
+            return this.out;
+        }
+
+        /**
+         * Check that there is a placeholder to fill.
+         */
+        private void check() {
+            if (this.filled == Template.this.placeholders()) {
+                throw new IllegalStateException(
+                    String.format(
+                        "Template expects only %d values.",
+                        Template.this.placeholders()
+                    )
+                );
+            }
+        }
+
+        /**
+         * Append the text which follows the filled placeholder.
+         *
+         * @return This filler.
+         */
+        private Template.Filler next() {
+            ++this.filled;
+            this.out.append(Template.this.pieces[this.filled]);
+            return this;
+        }
+    }
+}
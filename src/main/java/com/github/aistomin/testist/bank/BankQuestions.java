@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.bank;
+
+import com.github.aistomin.testist.Question;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The list view of {@link BinaryBank}. The question is decoded on the first
+ * access to it and the same instance is returned from then on, so the answer
+ * given to the question is kept by the list. Every new list decodes its own
+ * instances, the array of the decoded questions is allocated on the first
+ * access to any question, so the list which is only asked for its size
+ * costs nothing.
+ *
+ * @since 1.0
+ */
+final class BankQuestions extends AbstractList<Question>
+    implements RandomAccess {
+
+    /**
+     * The bank.
+     */
+    private final BinaryBank bank;
+
+    /**
+     * The decoded questions, null until any question is accessed, and its
+     * items are null until the question is accessed.
+     */
+    private final AtomicReference<AtomicReferenceArray<Question>> decoded;
+
+    /**
+     * Ctor.
+     *
+     * @param source The bank.
+     */
+    BankQuestions(final BinaryBank source) {
+        super();
+        this.bank = source;
+        this.decoded = new AtomicReference<>();
+    }
+
+    @Override
+    public Question get(final int index) {
+        final AtomicReferenceArray<Question> questions = this.questions();
+        Question res = questions.get(index);
+        if (res == null) {
+            final Question question = this.bank.question(index);
+            if (questions.compareAndSet(index, null, question)) {
+                res = question;
+            } else {
+                res = questions.get(index);
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public int size() {
+        return this.bank.size();
+    }
+
+    /**
+     * The decoded questions, allocated on the first call.
+     *
+     * @return The decoded questions.
+     */
+    private AtomicReferenceArray<Question> questions() {
+        AtomicReferenceArray<Question> res = this.decoded.get();
+        if (res == null) {
+            this.decoded.compareAndSet(
+                null, new AtomicReferenceArray<>(this.bank.size())
+            );
+            res = this.decoded.get();
+        }
+        return res;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.bank;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsStream;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The {@link QuestionsStream} over {@link BinaryBank}. Every pass decodes the
+ * questions one by one, when they are requested, and doesn't keep them, so
+ * the memory footprint of the pass doesn't depend on the size of the bank.
+ *
+ * @since 1.0
+ */
+final class BankQuestionsStream implements QuestionsStream {
+
+    /**
+     * The bank.
+     */
+    private final BinaryBank bank;
+
+    /**
+     * Ctor.
+     *
+     * @param source The bank.
+     */
+    BankQuestionsStream(final BinaryBank source) {
+        this.bank = source;
+    }
+
+    @Override
+    public Iterator<Question> iterator() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < BankQuestionsStream.this.bank.size();
+            }
+
+            @Override
+            public Question next() {
+                if (!this.hasNext()) {
+                    throw new NoSuchElementException(
+                        "The question bank has no more questions."
+                    );
+                }
+                final Question res =
+                    BankQuestionsStream.this.bank.question(this.index);
+                this.index += 1;
+                return res;
+            }
+        };
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.bank;
+
+import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleAnswerKey;
+import com.github.aistomin.testist.simple.SimpleQuestion;
+import com.github.aistomin.testist.simple.SimpleText;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The compact binary bank of the simple questions. The bank starts with the
+ * header: the magic number, the format's version and the amount of the
+ * questions. The header is followed by the index with the absolute offsets
+ * of the questions, so any question is decoded in O(1) without reading the
+ * other ones. Every question is stored as the mask of
+ * {@link SimpleAnswer.Conf}s of its answers, the maximal amount of the typos
+ * of {@link SimpleAnswer.Conf#IGNORE_TYPOS}, the question's text, the amount
+ * of the expected answers and their texts. The strings are stored as their
+ * length followed by the UTF-8 bytes. The header and the index are checked
+ * against the buffer's limit when the bank is created, and every question is
+ * checked when it is decoded, so opening the mapped bank doesn't read the
+ * whole file, and the truncated or the corrupted question is rejected rather
+ * than decoded from the foreign bytes. The bank only reads the buffer with
+ * the absolute methods, so it is safe to use it from several threads.
+ *
+ * @since 1.0
+ */
+public final class BinaryBank {
+
+    /**
+     * The magic number of the bank's file: "TSTB".
+     */
+    static final int MAGIC = 0x54535442;
+
+    /**
+     * The version of the format.
+     */
+    static final int VERSION = 2;
+
+    /**
+     * The size of the header in bytes.
+     */
+    static final int HEADER = Integer.BYTES * 3;
+
+    /**
+     * The configurations of the answers.
+     */
+    private static final SimpleAnswer.Conf[] CONFS =
+        SimpleAnswer.Conf.values();
+
+    /**
+     * The bank's content.
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * The amount of the questions.
+     */
+    private final int count;
+
+    /**
+     * Ctor.
+     *
+     * @param content The bank's content.
+     */
+    public BinaryBank(final ByteBuffer content) {
+        if (content.limit() < HEADER || content.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a question bank.");
+        }
+        if (content.getInt(Integer.BYTES) != VERSION) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Unsupported question bank version: %d.",
+                    content.getInt(Integer.BYTES)
+                )
+            );
+        }
+        this.buffer = content;
+        this.count = content.getInt(Integer.BYTES * 2);
+        if (this.count < 0 || this.records() > content.limit()) {
+            throw new IllegalArgumentException(
+                "Index of the question bank is truncated."
+            );
+        }
+    }
+
+    /**
+     * The amount of the questions in the bank.
+     *
+     * @return The amount.
+     */
+    public int size() {
+        return this.count;
+    }
+
+    /**
+     * Decode the question.
+     *
+     * @param index The question's index.
+     * @return The new question's instance.
+     * @throws IllegalArgumentException If the question doesn't fit into the
+     *  bank.
+     */
+    public Question question(final int index) {
+        if (index < 0 || index >= this.count) {
+            throw new IndexOutOfBoundsException(
+                String.format(
+                    "Index %d is out of bounds for %d questions.",
+                    index, this.count
+                )
+            );
+        }
+        this.check(index);
+        int pos = (int) this.buffer.getLong(HEADER + index * Long.BYTES);
+        final Set<SimpleAnswer.Conf> confs = BinaryBank.confs(
+            this.buffer.getInt(pos)
+        );
+        pos += Integer.BYTES;
+        final int typos = this.buffer.getInt(pos);
+        pos += Integer.BYTES;
+        final String text = this.string(pos);
+        pos += Integer.BYTES + this.buffer.getInt(pos);
+        final int answers = this.buffer.getInt(pos);
+        pos += Integer.BYTES;
+        final List<SimpleAnswer> expected = new ArrayList<>(answers);
+        for (int idx = 0; idx < answers; ++idx) {
+            expected.add(new SimpleAnswer(this.string(pos), confs, typos));
+            pos += Integer.BYTES + this.buffer.getInt(pos);
+        }
+        final Answer answer;
+        if (expected.size() == 1) {
+            answer = expected.get(0);
+        } else {
+            answer = new SimpleAnswerKey(expected);
+        }
+        return new SimpleQuestion(new SimpleText(text), answer);
+    }
+
+    /**
+     * Pack the configurations into the mask.
+     *
+     * @param confs The configurations.
+     * @return The mask.
+     */
+    static int mask(final Set<SimpleAnswer.Conf> confs) {
+        int mask = 0;
+        for (final SimpleAnswer.Conf conf : confs) {
+            mask |= 1 << conf.ordinal();
+        }
+        return mask;
+    }
+
+    /**
+     * Unpack the configurations from the mask.
+     *
+     * @param mask The mask.
+     * @return The configurations.
+     */
+    private static Set<SimpleAnswer.Conf> confs(final int mask) {
+        final Set<SimpleAnswer.Conf> res =
+            EnumSet.noneOf(SimpleAnswer.Conf.class);
+        for (final SimpleAnswer.Conf conf : CONFS) {
+            if ((mask & 1 << conf.ordinal()) != 0) {
+                res.add(conf);
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Check that every question lies within the buffer. It reads the whole
+     * bank, so it is meant for the bank which is already in memory.
+     */
+    void check() {
+        for (int idx = 0; idx < this.count; ++idx) {
+            this.check(idx);
+        }
+    }
+
+    /**
+     * The position of the first question, which is right after the index.
+     *
+     * @return The position.
+     */
+    private long records() {
+        return HEADER + (long) this.count * Long.BYTES;
+    }
+
+    /**
+     * Check that the question lies within the buffer.
+     *
+     * @param question The question's index.
+     */
+    private void check(final int question) {
+        final long start =
+            this.buffer.getLong(HEADER + question * Long.BYTES);
+        if (start < this.records()) {
+            throw BinaryBank.truncated(question);
+        }
+        long pos = this.field(question, start) + Integer.BYTES;
+        pos = this.field(question, pos) + Integer.BYTES;
+        pos = this.field(question, pos);
+        pos += Integer.BYTES + this.buffer.getInt((int) pos);
+        pos = this.field(question, pos);
+        final int answers = this.buffer.getInt((int) pos);
+        if (answers <= 0) {
+            throw BinaryBank.truncated(question);
+        }
+        pos += Integer.BYTES;
+        for (int answer = 0; answer < answers; ++answer) {
+            pos = this.field(question, pos);
+            pos += Integer.BYTES + this.buffer.getInt((int) pos);
+        }
+        if (pos > this.buffer.limit()) {
+            throw BinaryBank.truncated(question);
+        }
+    }
+
+    /**
+     * Check that the integer field, and the string if the field is its
+     * length, fit into the buffer.
+     *
+     * @param question The question's index.
+     * @param pos The absolute position of the field.
+     * @return The position.
+     */
+    private long field(final int question, final long pos) {
+        if (pos < 0L || pos > this.buffer.limit() - Integer.BYTES
+            || this.buffer.getInt((int) pos) < 0) {
+            throw BinaryBank.truncated(question);
+        }
+        return pos;
+    }
+
+    /**
+     * The failure of the question which doesn't fit into the bank.
+     *
+     * @param question The question's index.
+     * @return The failure.
+     */
+    private static IllegalArgumentException truncated(final int question) {
+        return new IllegalArgumentException(
+            String.format(
+                "Question %d is out of the question bank's bounds.", question
+            )
+        );
+    }
+
+    /**
+     * Decode the string.
+     *
+     * @param pos The absolute position of the string.
+     * @return The string.
+     */
+    private String string(final int pos) {
+        final byte[] bytes = new byte[this.buffer.getInt(pos)];
+        this.buffer.get(pos + Integer.BYTES, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
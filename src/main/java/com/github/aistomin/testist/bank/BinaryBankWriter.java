@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.bank;
+
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Writes the questions in the format of {@link BinaryBank}. The whole bank,
+ * including the index, must fit into 2 GB, since this is the limit of a
+ * single mapped buffer.
+ *
+ * @since 1.0
+ */
+public final class BinaryBankWriter {
+
+    /**
+     * The encoded questions.
+     */
+    private final List<ByteBuffer> records;
+
+    /**
+     * Ctor.
+     */
+    public BinaryBankWriter() {
+        this.records = new ArrayList<>(0);
+    }
+
+    /**
+     * Add the question. The answers ignore up to
+     * {@link SimpleAnswer#TYPOS} typos if the configurations contain
+     * {@link SimpleAnswer.Conf#IGNORE_TYPOS}.
+     *
+     * @param text The question's text.
+     * @param confs The configurations of the expected answers.
+     * @param answers The expected answers, the first one is the primary one.
+     * @return This writer.
+     */
+    public BinaryBankWriter add(
+        final String text, final Set<SimpleAnswer.Conf> confs,
+        final String... answers
+    ) {
+        return this.add(text, confs, SimpleAnswer.TYPOS, answers);
+    }
+
+    /**
+     * Add the question.
+     *
+     * @param text The question's text.
+     * @param confs The configurations of the expected answers.
+     * @param typos The maximal amount of the typos if the configurations
+     *  contain {@link SimpleAnswer.Conf#IGNORE_TYPOS}.
+     * @param answers The expected answers, the first one is the primary one.
+     * @return This writer.
+     */
+    public BinaryBankWriter add(
+        final String text, final Set<SimpleAnswer.Conf> confs,
+        final int typos, final String... answers
+    ) {
+        if (typos < 0) {
+            throw new IllegalArgumentException(
+                "Maximal amount of typos must not be negative."
+            );
+        }
+        if (answers.length == 0) {
+            throw new IllegalArgumentException(
+                "Question must have at least one expected answer."
+            );
+        }
+        final byte[][] encoded = new byte[answers.length + 1][];
+        encoded[0] = text.getBytes(StandardCharsets.UTF_8);
+        int size = Integer.BYTES * 2 + encoded[0].length;
+        for (int idx = 0; idx < answers.length; ++idx) {
+            encoded[idx + 1] = answers[idx].getBytes(StandardCharsets.UTF_8);
+            size += Integer.BYTES + encoded[idx + 1].length;
+        }
+        final ByteBuffer record = ByteBuffer.allocate(size + Integer.BYTES * 2);
+        record.putInt(BinaryBank.mask(confs));
+        record.putInt(typos);
+        record.putInt(encoded[0].length).put(encoded[0]);
+        record.putInt(answers.length);
+        for (int idx = 1; idx < encoded.length; ++idx) {
+            record.putInt(encoded[idx].length).put(encoded[idx]);
+        }
+        record.flip();
+        this.records.add(record);
+        return this;
+    }
+
+    /**
+     * Write the bank to the buffer.
+     *
+     * @return The buffer, ready to be read.
+     */
+    public ByteBuffer toBuffer() {
+        final ByteBuffer header = this.header();
+        int size = header.remaining();
+        for (final ByteBuffer record : this.records) {
+            size += record.remaining();
+        }
+        final ByteBuffer res = ByteBuffer.allocate(size).put(header);
+        for (final ByteBuffer record : this.records) {
+            res.put(record.duplicate());
+        }
+        return res.flip();
+    }
+
+    /**
+     * Write the bank to the file. The bank is written to the temporary file
+     * first, which is then moved to the target, so the readers never see the
+     * incomplete bank. The temporary file is deleted if the bank can't be
+     * written or moved.
+     *
+     * @param path The file.
+     * @throws IOException If something goes wrong.
+     */
+    public void write(final Path path) throws IOException {
+        final Path parent = path.toAbsolutePath().getParent();
+        final Path temp = Files.createTempFile(parent, "bank", ".tmp");
+        try {
+            this.flush(temp);
+            Files.move(
+                temp, path, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+        } catch (final IOException | RuntimeException ex) {
+            BinaryBankWriter.delete(temp, ex);
+            throw ex;
+        }
+    }
+
+    /**
+     * Write the bank to the file and synchronize it with the disk.
+     *
+     * @param file The file.
+     * @throws IOException If something goes wrong.
+     */
+    private void flush(final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(
+            file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING
+        )) {
+            final ByteBuffer[] buffers =
+                new ByteBuffer[this.records.size() + 1];
+            buffers[0] = this.header();
+            for (int idx = 0; idx < this.records.size(); ++idx) {
+                buffers[idx + 1] = this.records.get(idx).duplicate();
+            }
+            while (buffers[buffers.length - 1].hasRemaining()) {
+                channel.write(buffers);
+            }
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Delete the temporary file after the failure. The failure to delete it
+     * is attached to the original failure.
+     *
+     * @param temp The temporary file.
+     * @param failure The original failure.
+     */
+    private static void delete(final Path temp, final Exception failure) {
+        try {
+            Files.deleteIfExists(temp);
+        } catch (final IOException ex) {
+            failure.addSuppressed(ex);
+        }
+    }
+
+    /**
+     * Build the header and the index of the bank.
+     *
+     * @return The header and the index, ready to be read.
+     */
+    private ByteBuffer header() {
+        final int size = BinaryBank.HEADER + this.records.size() * Long.BYTES;
+        final ByteBuffer header = ByteBuffer.allocate(size);
+        header.putInt(BinaryBank.MAGIC);
+        header.putInt(BinaryBank.VERSION);
+        header.putInt(this.records.size());
+        long offset = size;
+        for (final ByteBuffer record : this.records) {
+            header.putLong(offset);
+            offset += record.remaining();
+        }
+        return header.flip();
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.bank;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.QuestionsStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * The {@link QuestionsProvider} which reads {@link BinaryBank} from the
+ * memory-mapped file. The file is mapped once, in the constructor, and the
+ * questions are decoded on demand, so the startup is almost instant and the
+ * pages of the bank are shared via the OS page cache by all the JVMs on the
+ * host. Every list decodes a question on the first access to it and keeps
+ * the instance, while {@link #stream()} decodes the questions one by one
+ * without keeping them, for
+ * {@link com.github.aistomin.testist.simple.StreamingTest}.
+ *
+ * @since 1.0
+ */
+public final class MappedQuestionsProvider implements QuestionsProvider {
+
+    /**
+     * The bank.
+     */
+    private final BinaryBank bank;
+
+    /**
+     * Ctor.
+     *
+     * @param path The bank's file.
+     */
+    public MappedQuestionsProvider(final Path path) {
+        try (FileChannel channel = FileChannel.open(
+            path, StandardOpenOption.READ
+        )) {
+            this.bank = new BinaryBank(
+                channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size())
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @Override
+    public List<Question> questions() {
+        return new BankQuestions(this.bank);
+    }
+
+    /**
+     * The lazy stream of the bank's questions.
+     *
+     * @return The stream.
+     */
+    public QuestionsStream stream() {
+        return new BankQuestionsStream(this.bank);
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.bank;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The {@link QuestionsProvider} which reloads {@link BinaryBank} when its
+ * file is replaced. The new version of the bank must be written to the
+ * temporary file in the same directory and then atomically moved to the
+ * bank's file, as {@link BinaryBankWriter#write(Path)} does. The directory is
+ * watched with {@link WatchService} by the background thread, which reacts
+ * only to the file appearing under the bank's name, so the bank which is
+ * being written in place is never picked up half-written. The new version is
+ * read and its whole structure is checked before it is published with the
+ * atomic swap, so the readers never wait and never see a broken bank. Every
+ * call of {@link #questions()} returns the version of the bank which is
+ * current at the moment of the call, so the new tests pick up the new version
+ * and the running tests keep the version they started with. If the new
+ * version can't be read or is broken, the provider logs the problem and keeps
+ * the current version. The file is read into memory rather than mapped, so
+ * editing it in place can't break the running tests.
+ *
+ * @since 1.0
+ */
+public final class ReloadingQuestionsProvider
+    implements QuestionsProvider, Closeable {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG =
+        LoggerFactory.getLogger(ReloadingQuestionsProvider.class);
+
+    /**
+     * The bank's file.
+     */
+    private final Path file;
+
+    /**
+     * The current version of the bank.
+     */
+    private final AtomicReference<BinaryBank> current;
+
+    /**
+     * The amount of the loaded versions of the bank.
+     */
+    private final AtomicLong loaded;
+
+    /**
+     * The watcher of the bank's directory.
+     */
+    private final WatchService watcher;
+
+    /**
+     * Ctor.
+     *
+     * @param path The bank's file.
+     */
+    public ReloadingQuestionsProvider(final Path path) {
+        this.file = path.toAbsolutePath();
+        this.loaded = new AtomicLong(1L);
+        try {
+            this.current = new AtomicReference<>(
+                ReloadingQuestionsProvider.read(this.file)
+            );
+            this.watcher = this.file.getFileSystem().newWatchService();
+            this.file.getParent().register(
+                this.watcher, StandardWatchEventKinds.ENTRY_CREATE
+            );
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        final Thread thread = new Thread(this::watch, "bank-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public List<Question> questions() {
+        return new BankQuestions(this.current.get());
+    }
+
+    /**
+     * Reload the bank from the file right now. The bank is checked before it
+     * replaces the current version.
+     *
+     * @return True - the new version is loaded; False - the file can't be
+     *  read or the bank is broken, and the current version is kept.
+     */
+    public boolean reload() {
+        boolean res;
+        try {
+            this.current.set(ReloadingQuestionsProvider.read(this.file));
+            this.loaded.incrementAndGet();
+            res = true;
+        } catch (final IOException | IllegalArgumentException ex) {
+            LOG.warn("Can't reload the question bank {}", this.file, ex);
+            res = false;
+        }
+        return res;
+    }
+
+    /**
+     * The amount of the versions of the bank loaded so far.
+     *
+     * @return The amount of the versions.
+     */
+    public long versions() {
+        return this.loaded.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.watcher.close();
+    }
+
+    /**
+     * Read the bank from the file and check all its questions.
+     *
+     * @param path The bank's file.
+     * @return The bank.
+     * @throws IOException If the file can't be read.
+     */
+    private static BinaryBank read(final Path path) throws IOException {
+        final BinaryBank bank =
+            new BinaryBank(ByteBuffer.wrap(Files.readAllBytes(path)));
+        bank.check();
+        return bank;
+    }
+
+    /**
+     * Watch the bank's directory and reload the bank when its file changes.
+     */
+    private void watch() {
+        try {
+            boolean valid = true;
+            while (valid) {
+                final WatchKey key = this.watcher.take();
+                boolean changed = false;
+                for (final WatchEvent<?> event : key.pollEvents()) {
+                    changed = changed
+                        || event.kind() == StandardWatchEventKinds.OVERFLOW
+                        || this.file.getFileName().equals(event.context());
+                }
+                if (changed) {
+                    this.reload();
+                }
+                valid = key.reset();
+            }
+        } catch (final ClosedWatchServiceException | InterruptedException ex) {
+            LOG.debug("Stopped watching the question bank {}", this.file, ex);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.grading;
+
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.Test;
+import com.github.aistomin.testist.TestSuite;
+import com.github.aistomin.testist.simple.PrecomputedResult;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Grades the big batches of the submissions in parallel. The batch is split
+ * into the chunks which are graded by the fork/join pool, every submission
+ * is graded with {@link com.github.aistomin.testist.Question#grade}, so the
+ * question's lock is taken once. The questions of the submissions must be
+ * returned by their tests, for example by
+ * {@link com.github.aistomin.testist.simple.SimpleTest#question(int)}, so
+ * the tests count the answers as they are graded. The chunks are the ranges
+ * of the batch, so the submissions of the same test should be adjacent to be
+ * graded mostly by the same thread. The submission which fails, for example
+ * because its question rejects the answer, gets {@link Verdict#FAILED} and
+ * doesn't affect the rest of the batch.
+ *
+ * <p>The results describe the submissions of the batch: every test's
+ * submissions are counted while they are graded, the failed ones as not
+ * answered, so the result is finished when all the test's submissions are
+ * graded and passed when all of them are correct. The tests themselves are
+ * not asked for their results.</p>
+ *
+ * @since 1.0
+ */
+public final class BulkGrader {
+
+    /**
+     * The default size of the chunk which is graded by one task.
+     */
+    private static final int CHUNK = 1024;
+
+    /**
+     * The pool which grades the submissions.
+     */
+    private final ForkJoinPool pool;
+
+    /**
+     * The size of the chunk which is graded by one task.
+     */
+    private final int chunk;
+
+    /**
+     * Ctor. The submissions are graded by the common pool.
+     */
+    public BulkGrader() {
+        this(ForkJoinPool.commonPool(), BulkGrader.CHUNK);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param forkjoin The pool which grades the submissions.
+     * @param size The size of the chunk which is graded by one task.
+     */
+    public BulkGrader(final ForkJoinPool forkjoin, final int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException(
+                "Chunk size must be positive."
+            );
+        }
+        this.pool = forkjoin;
+        this.chunk = size;
+    }
+
+    /**
+     * Grade the submissions to the tests of the suite.
+     *
+     * @param suite The suite.
+     * @param submissions The submissions.
+     * @return The results of the submissions of the suite's tests and the
+     *  verdicts of the submissions.
+     */
+    public Graded grade(
+        final TestSuite suite, final List<Submission> submissions
+    ) {
+        final List<Test> tests = suite.suite();
+        final Map<Test, Integer> known = new IdentityHashMap<>(tests.size());
+        for (final Test test : tests) {
+            known.putIfAbsent(test, known.size());
+        }
+        final List<Submission> batch = new ArrayList<>(submissions);
+        final int[] owners = new int[batch.size()];
+        final int[] totals = new int[known.size()];
+        for (int idx = 0; idx < owners.length; ++idx) {
+            final Integer owner = known.get(batch.get(idx).test());
+            if (owner == null) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Submission's test doesn't belong to the suite %s.",
+                        suite.topic()
+                    )
+                );
+            }
+            owners[idx] = owner;
+            totals[owner] += 1;
+        }
+        final Verdict[] verdicts = new Verdict[batch.size()];
+        final RuntimeException[] failures =
+            new RuntimeException[batch.size()];
+        final AtomicLongArray counts = new AtomicLongArray(totals.length);
+        this.pool.invoke(
+            new Chunk(
+                new Batch(batch, owners, counts), verdicts, failures,
+                0, batch.size(), this.chunk
+            )
+        );
+        final List<Result> results = new ArrayList<>(tests.size());
+        for (final Test test : tests) {
+            final int owner = known.get(test);
+            final long value = counts.get(owner);
+            results.add(
+                new PrecomputedResult(
+                    totals[owner], value >>> Batch.SHIFT, value & Batch.MASK
+                )
+            );
+        }
+        return new Graded(results, verdicts, failures);
+    }
+
+    /**
+     * The task which grades the range of the submissions.
+     *
+     * @since 1.0
+     */
+    private static final class Chunk extends RecursiveAction {
+
+        /**
+         * Serial version UID.
+         */
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * The batch.
+         */
+        private final transient Batch batch;
+
+        /**
+         * The verdicts of the submissions.
+         */
+        private final transient Verdict[] verdicts;
+
+        /**
+         * The failures of the submissions.
+         */
+        private final transient RuntimeException[] failures;
+
+        /**
+         * The first submission of the range.
+         */
+        private final int from;
+
+        /**
+         * The end of the range, exclusive.
+         */
+        private final int till;
+
+        /**
+         * The size of the range which is graded without splitting.
+         */
+        private final int threshold;
+
+        /**
+         * Ctor.
+         *
+         * @param submissions The batch.
+         * @param outcomes The verdicts of the submissions.
+         * @param errors The failures of the submissions.
+         * @param start The first submission of the range.
+         * @param end The end of the range, exclusive.
+         * @param size The size of the range which is graded without
+         *  splitting.
+         */
+        Chunk(
+            final Batch submissions, final Verdict[] outcomes,
+            final RuntimeException[] errors, final int start,
+            final int end, final int size
+        ) {
+            super();
+            this.batch = submissions;
+            this.verdicts = outcomes;
+            this.failures = errors;
+            this.from = start;
+            this.till = end;
+            this.threshold = size;
+        }
+
+        @Override
+        protected void compute() {
+            if (this.till - this.from <= this.threshold) {
+                for (int idx = this.from; idx < this.till; ++idx) {
+                    this.grade(idx);
+                }
+            } else {
+                final int middle = (this.from + this.till) >>> 1;
+                RecursiveAction.invokeAll(
+                    new Chunk(
+                        this.batch, this.verdicts, this.failures,
+                        this.from, middle, this.threshold
+                    ),
+                    new Chunk(
+                        this.batch, this.verdicts, this.failures,
+                        middle, this.till, this.threshold
+                    )
+                );
+            }
+        }
+
+        /**
+         * Grade the submission and record its verdict, or its failure.
+         *
+         * @param index The submission's index.
+         */
+        private void grade(final int index) {
+            try {
+                if (this.batch.grade(index)) {
+                    this.verdicts[index] = Verdict.CORRECT;
+                } else {
+                    this.verdicts[index] = Verdict.WRONG;
+                }
+            } catch (final RuntimeException ex) {
+                this.verdicts[index] = Verdict.FAILED;
+                this.failures[index] = ex;
+            }
+        }
+    }
+
+    /**
+     * The submissions of the batch and the counters of their tests. The
+     * answered and the correctly answered submissions of the test are
+     * packed into one atomic value.
+     *
+     * @since 1.0
+     */
+    private static final class Batch {
+
+        /**
+         * The shift of the answered submissions counter.
+         */
+        private static final int SHIFT = 32;
+
+        /**
+         * The mask of the correct submissions counter.
+         */
+        private static final long MASK = 0xFFFFFFFFL;
+
+        /**
+         * The submissions.
+         */
+        private final List<Submission> submissions;
+
+        /**
+         * The indexes of the submissions' tests.
+         */
+        private final int[] owners;
+
+        /**
+         * The packed counters of the tests.
+         */
+        private final AtomicLongArray counts;
+
+        /**
+         * Ctor.
+         *
+         * @param items The submissions.
+         * @param tests The indexes of the submissions' tests.
+         * @param counters The packed counters of the tests.
+         */
+        Batch(
+            final List<Submission> items, final int[] tests,
+            final AtomicLongArray counters
+        ) {
+            this.submissions = items;
+            this.owners = tests;
+            this.counts = counters;
+        }
+
+        /**
+         * Grade the submission and count it for its test.
+         *
+         * @param index The submission's index.
+         * @return True - the answer is correct; False - isn't correct.
+         */
+        boolean grade(final int index) {
+            final boolean res = this.submissions.get(index).grade();
+            long delta = 1L << Batch.SHIFT;
+            if (res) {
+                delta += 1L;
+            }
+            this.counts.addAndGet(this.owners[index], delta);
+            return res;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.grading;
+
+import com.github.aistomin.testist.Result;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of grading the batch of the submissions: the results of the
+ * submissions of the suite's tests and the verdicts of the submissions, one
+ * per submission in the order of the batch.
+ *
+ * @since 1.0
+ */
+public final class Graded {
+
+    /**
+     * The results of the suite's tests, in the order of the tests.
+     */
+    private final List<Result> tests;
+
+    /**
+     * The verdicts of the submissions, in the order of the batch.
+     */
+    private final List<Verdict> outcomes;
+
+    /**
+     * The failures of the submissions, null for the graded ones.
+     */
+    private final RuntimeException[] errors;
+
+    /**
+     * Ctor.
+     *
+     * @param results The results of the suite's tests.
+     * @param verdicts The verdicts of the submissions.
+     * @param failures The failures of the submissions, null for the graded
+     *  ones.
+     */
+    Graded(
+        final List<Result> results, final Verdict[] verdicts,
+        final RuntimeException[] failures
+    ) {
+        this.tests = Collections.unmodifiableList(results);
+        this.outcomes = Collections.unmodifiableList(Arrays.asList(verdicts));
+        this.errors = failures;
+    }
+
+    /**
+     * The results of the suite's tests.
+     *
+     * @return The results, in the order of the tests.
+     */
+    public List<Result> results() {
+        return this.tests;
+    }
+
+    /**
+     * The verdicts of the submissions.
+     *
+     * @return The verdicts, one per submission in the order of the batch.
+     */
+    public List<Verdict> verdicts() {
+        return this.outcomes;
+    }
+
+    /**
+     * The failure of the submission.
+     *
+     * @param index The submission's index in the batch.
+     * @return The failure, or null if the submission is graded.
+     */
+    public RuntimeException failure(final int index) {
+        return this.errors[index];
+    }
+}
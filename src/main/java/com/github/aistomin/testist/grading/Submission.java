@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.grading;
+
+import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.Test;
+
+/**
+ * The answer to the question of the test, submitted for grading.
+ *
+ * @since 1.0
+ */
+public final class Submission {
+
+    /**
+     * The test which the question belongs to.
+     */
+    private final Test owner;
+
+    /**
+     * The question.
+     */
+    private final Question target;
+
+    /**
+     * The answer.
+     */
+    private final Answer given;
+
+    /**
+     * Ctor.
+     *
+     * @param test The test which the question belongs to.
+     * @param question The question, as returned by the test.
+     * @param answer The answer.
+     */
+    public Submission(
+        final Test test, final Question question, final Answer answer
+    ) {
+        this.owner = test;
+        this.target = question;
+        this.given = answer;
+    }
+
+    /**
+     * The test which the question belongs to.
+     *
+     * @return The test.
+     */
+    public Test test() {
+        return this.owner;
+    }
+
+    /**
+     * Grade the answer.
+     *
+     * @return True - the answer is correct; False - isn't correct.
+     */
+    public Boolean grade() {
+        return this.target.grade(this.given);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.grading;
+
+/**
+ * The outcome of grading one submission.
+ *
+ * @since 1.0
+ */
+public enum Verdict {
+
+    /**
+     * The answer is correct.
+     */
+    CORRECT,
+
+    /**
+     * The answer is wrong.
+     */
+    WRONG,
+
+    /**
+     * The submission can't be graded, for example the question rejects the
+     * answer or is already answered.
+     */
+    FAILED
+}
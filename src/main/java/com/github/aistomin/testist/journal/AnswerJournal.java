@@ -0,0 +1,435 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.journal;
+
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.simple.SimpleTest;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The append-only journal of the answers, which survives the crash of the
+ * process. Every answer given to the question of {@link JournaledTest} is
+ * written to the journal before the call of the answer returns. The records
+ * are written by the single background thread, which takes all the records
+ * waiting in the queue and writes them with one call of
+ * {@link FileChannel#force(boolean)}, so the concurrent answers share the
+ * cost of the synchronization with the disk.
+ *
+ * <p>When the journal is opened, it reads the file and keeps the answers of
+ * the sessions which are not finished, so {@link #test(String,
+ * QuestionsProvider)} can restore them. The reading stops at the first
+ * damaged record, so the new records are never written after it: the
+ * partially written record at the end of the file is cut off when the
+ * journal is opened, the batch which fails to be written is cut off right
+ * away and the next batch is written in its place. {@link #compact()}
+ * rewrites the file without the records of the finished sessions.</p>
+ *
+ * @since 1.0
+ */
+public final class AnswerJournal implements Closeable {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG =
+        LoggerFactory.getLogger(AnswerJournal.class);
+
+    /**
+     * The journal's file.
+     */
+    private final Path file;
+
+    /**
+     * Mutex object which guards the channel.
+     */
+    private final Object mutex;
+
+    /**
+     * The records waiting to be written.
+     */
+    private final BlockingQueue<Pending> queue;
+
+    /**
+     * The answers of the unfinished sessions which are not restored yet.
+     */
+    private final Map<String, List<JournalRecord>> recovered;
+
+    /**
+     * The amount of the writes synchronized with the disk.
+     */
+    private final AtomicLong commits;
+
+    /**
+     * The marker which stops the writer.
+     */
+    private final Pending stop;
+
+    /**
+     * The channel of the journal's file.
+     */
+    private FileChannel channel;
+
+    /**
+     * The length of the valid part of the journal, where the next batch is
+     * written.
+     */
+    private long valid;
+
+    /**
+     * Is the journal closed?
+     */
+    private boolean closed;
+
+    /**
+     * Ctor.
+     *
+     * @param path The journal's file, it is created if it doesn't exist.
+     */
+    public AnswerJournal(final Path path) {
+        this.file = path.toAbsolutePath();
+        this.mutex = new Object();
+        this.queue = new LinkedBlockingQueue<>();
+        this.recovered = new LinkedHashMap<>();
+        this.commits = new AtomicLong();
+        this.stop = new Pending(null);
+        try {
+            this.channel = FileChannel.open(
+                this.file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+            );
+            this.valid = AnswerJournal.scan(this.channel, this.recovered);
+            this.channel.truncate(this.valid);
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+        final Thread writer = new Thread(this::write, "answer-journal");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * The unfinished sessions found in the journal which are not restored
+     * yet.
+     *
+     * @return The sessions' identifiers.
+     */
+    public Set<String> sessions() {
+        synchronized (this.recovered) {
+            return Collections.unmodifiableSet(
+                new HashSet<>(this.recovered.keySet())
+            );
+        }
+    }
+
+    /**
+     * Create the journaled test of the session. If the journal contains the
+     * answers of the unfinished session, they are given to the new test's
+     * questions again, so the provider must return the new questions for
+     * every test.
+     *
+     * @param session The session's identifier.
+     * @param provider Questions provider.
+     * @return The test.
+     */
+    public JournaledTest test(
+        final String session, final QuestionsProvider provider
+    ) {
+        final SimpleTest test = new SimpleTest(provider);
+        final List<JournalRecord> answers;
+        synchronized (this.recovered) {
+            answers = this.recovered.remove(session);
+        }
+        if (answers != null) {
+            for (final JournalRecord record : answers) {
+                test.question(record.index()).answer(record.given());
+            }
+        }
+        return new JournaledTest(session, test, this);
+    }
+
+    /**
+     * Mark the session as finished, so its answers are not restored and are
+     * removed by the next compaction.
+     *
+     * @param session The session's identifier.
+     */
+    public void finish(final String session) {
+        this.append(
+            new JournalRecord(JournalRecord.FINISH, session, -1, "")
+        );
+    }
+
+    /**
+     * Rewrite the journal without the records of the finished sessions and
+     * without the damaged tail. The new journal is written to the temporary
+     * file first, which then replaces the journal, so the crash during the
+     * compaction leaves the old journal intact. The writer waits until the
+     * compaction is done.
+     *
+     * @throws IOException If something goes wrong.
+     */
+    public void compact() throws IOException {
+        synchronized (this.mutex) {
+            final Map<String, List<JournalRecord>> live =
+                new LinkedHashMap<>();
+            AnswerJournal.scan(this.channel, live);
+            final Path temp = Files.createTempFile(
+                this.file.getParent(), "journal", ".tmp"
+            );
+            try (FileChannel out = FileChannel.open(
+                temp, StandardOpenOption.WRITE
+            )) {
+                for (final List<JournalRecord> records : live.values()) {
+                    for (final JournalRecord record : records) {
+                        final ByteBuffer buffer = record.encode();
+                        while (buffer.hasRemaining()) {
+                            out.write(buffer);
+                        }
+                    }
+                }
+                out.force(true);
+            }
+            Files.move(
+                temp, this.file, StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE
+            );
+            this.channel.close();
+            this.channel = FileChannel.open(
+                this.file, StandardOpenOption.READ, StandardOpenOption.WRITE
+            );
+            this.valid = this.channel.size();
+        }
+    }
+
+    /**
+     * The amount of the writes synchronized with the disk so far. Every
+     * write contains one or more records.
+     *
+     * @return The amount of the writes.
+     */
+    public long commits() {
+        return this.commits.get();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this.queue) {
+            if (!this.closed) {
+                this.closed = true;
+                this.queue.add(this.stop);
+            }
+        }
+        this.stop.done().join();
+        synchronized (this.mutex) {
+            this.channel.close();
+        }
+    }
+
+    /**
+     * Append the record to the journal and wait until it is synchronized
+     * with the disk.
+     *
+     * @param record The record.
+     */
+    void append(final JournalRecord record) {
+        final Pending pending = new Pending(record.encode());
+        synchronized (this.queue) {
+            if (this.closed) {
+                throw new IllegalStateException("Journal is closed.");
+            }
+            this.queue.add(pending);
+        }
+        final IOException error = pending.done().join();
+        if (error != null) {
+            throw new UncheckedIOException("Can't write the journal.", error);
+        }
+    }
+
+    /**
+     * Read the valid records of the journal.
+     *
+     * @param source The journal's channel.
+     * @param live Where to put the answers of the unfinished sessions.
+     * @return The length of the valid part of the journal.
+     * @throws IOException If something goes wrong.
+     */
+    private static long scan(
+        final FileChannel source, final Map<String, List<JournalRecord>> live
+    ) throws IOException {
+        final ByteBuffer content = ByteBuffer.allocate(
+            Math.toIntExact(source.size())
+        );
+        while (content.hasRemaining()) {
+            source.read(content, content.position());
+        }
+        content.flip();
+        JournalRecord record = JournalRecord.read(content);
+        while (record != null) {
+            if (record.type() == JournalRecord.FINISH) {
+                live.remove(record.session());
+            } else {
+                live.computeIfAbsent(
+                    record.session(), key -> new ArrayList<>(1)
+                ).add(record);
+            }
+            record = JournalRecord.read(content);
+        }
+        return content.position();
+    }
+
+    /**
+     * Write the records from the queue until the journal is closed. The
+     * writer ignores the interruptions, since the interruption during the
+     * write closes the channel. The interruption which comes together with
+     * the new record doesn't throw, so the interrupted status is cleared
+     * before the write.
+     */
+    private void write() {
+        final List<Pending> batch = new ArrayList<>(0);
+        while (!this.stop.done().isDone()) {
+            try {
+                batch.add(this.queue.take());
+            } catch (final InterruptedException ex) {
+                LOG.debug("Ignored the interruption of the journal's writer");
+            }
+            if (Thread.interrupted()) {
+                LOG.debug("Ignored the interruption of the journal's writer");
+            }
+            this.queue.drainTo(batch);
+            this.commit(batch);
+            batch.clear();
+        }
+    }
+
+    /**
+     * Write the batch of the records and synchronize them with the disk.
+     * The batch is written at the end of the valid part of the journal, so
+     * it replaces the batch which failed before it.
+     *
+     * @param batch The records.
+     */
+    private void commit(final List<Pending> batch) {
+        final List<ByteBuffer> records = new ArrayList<>(batch.size());
+        for (final Pending pending : batch) {
+            if (pending.record() != null) {
+                records.add(pending.record());
+            }
+        }
+        IOException error = null;
+        if (!records.isEmpty()) {
+            final ByteBuffer[] buffers = records.toArray(new ByteBuffer[0]);
+            synchronized (this.mutex) {
+                try {
+                    this.channel.position(this.valid);
+                    while (buffers[buffers.length - 1].hasRemaining()) {
+                        this.channel.write(buffers);
+                    }
+                    this.channel.force(false);
+                    this.valid = this.channel.position();
+                    this.commits.incrementAndGet();
+                } catch (final IOException ex) {
+                    error = ex;
+                    this.discard();
+                }
+            }
+        }
+        for (final Pending pending : batch) {
+            pending.done().complete(error);
+        }
+    }
+
+    /**
+     * Cut off the part of the batch which failed to be written. If it can't
+     * be cut off, the next batch overwrites it. Must be called under the
+     * mutex.
+     */
+    private void discard() {
+        try {
+            this.channel.truncate(this.valid);
+        } catch (final IOException ex) {
+            LOG.warn("Can't cut off the failed write of {}", this.file, ex);
+        }
+    }
+
+    /**
+     * The record waiting to be written.
+     *
+     * @since 1.0
+     */
+    private static final class Pending {
+
+        /**
+         * The encoded record.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * The future which completes when the record is written, with the
+         * error of the write or null.
+         */
+        private final CompletableFuture<IOException> future;
+
+        /**
+         * Ctor.
+         *
+         * @param encoded The encoded record.
+         */
+        Pending(final ByteBuffer encoded) {
+            this.buffer = encoded;
+            this.future = new CompletableFuture<>();
+        }
+
+        /**
+         * The encoded record.
+         *
+         * @return The buffer.
+         */
+        ByteBuffer record() {
+            return this.buffer;
+        }
+
+        /**
+         * The future which completes when the record is written, with the
+         * error of the write or null.
+         *
+         * @return The future.
+         */
+        CompletableFuture<IOException> done() {
+            return this.future;
+        }
+    }
+}
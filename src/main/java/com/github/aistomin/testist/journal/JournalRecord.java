@@ -0,0 +1,243 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.journal;
+
+import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.multichoice.MultiChoiceAnswer;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+/**
+ * The record of {@link AnswerJournal}. The record is encoded as the length
+ * of the payload, the CRC32 checksum of the payload and the payload itself:
+ * the type, the session's identifier, the question's index and the answer.
+ * The type of the answer's record tells the type of the answer, so the
+ * answer is restored as the same {@link Answer} it was given as. The
+ * checksum detects the record which was only partially written when the
+ * process died.
+ *
+ * @since 1.0
+ */
+final class JournalRecord {
+
+    /**
+     * The type of the record of the answer.
+     */
+    static final byte ANSWER = 1;
+
+    /**
+     * The type of the record of the finished session.
+     */
+    static final byte FINISH = 2;
+
+    /**
+     * The type of the record of the {@link MultiChoiceAnswer}, its text is
+     * the mask of the selected choices.
+     */
+    static final byte CHOICES = 3;
+
+    /**
+     * The size of the record's header: the length and the checksum.
+     */
+    static final int HEADER = Integer.BYTES * 2;
+
+    /**
+     * The record's type.
+     */
+    private final byte type;
+
+    /**
+     * The session's identifier.
+     */
+    private final String session;
+
+    /**
+     * The question's index.
+     */
+    private final int index;
+
+    /**
+     * The answer's text.
+     */
+    private final String answer;
+
+    /**
+     * Ctor.
+     *
+     * @param kind The record's type.
+     * @param id The session's identifier.
+     * @param position The question's index.
+     * @param text The answer's text.
+     */
+    JournalRecord(
+        final byte kind, final String id, final int position,
+        final String text
+    ) {
+        this.type = kind;
+        this.session = id;
+        this.index = position;
+        this.answer = text;
+    }
+
+    /**
+     * The record of the answer.
+     *
+     * @param id The session's identifier.
+     * @param position The question's index.
+     * @param answer The answer.
+     * @return The record.
+     */
+    static JournalRecord answer(
+        final String id, final int position, final Answer answer
+    ) {
+        final JournalRecord res;
+        if (answer instanceof MultiChoiceAnswer) {
+            res = new JournalRecord(
+                JournalRecord.CHOICES, id, position,
+                String.valueOf(((MultiChoiceAnswer) answer).mask())
+            );
+        } else {
+            res = new JournalRecord(
+                JournalRecord.ANSWER, id, position,
+                answer.toDisplayableString()
+            );
+        }
+        return res;
+    }
+
+    /**
+     * Read the record from the buffer.
+     *
+     * @param buffer The buffer positioned at the record's start.
+     * @return The record or null if the rest of the buffer doesn't contain
+     *  the whole valid record. The buffer is positioned after the record if
+     *  it is read and isn't moved otherwise.
+     */
+    static JournalRecord read(final ByteBuffer buffer) {
+        JournalRecord res = null;
+        if (buffer.remaining() >= JournalRecord.HEADER) {
+            final int start = buffer.position();
+            final int length = buffer.getInt(start);
+            final int checksum = buffer.getInt(start + Integer.BYTES);
+            if (
+                length > 0
+                    && length <= buffer.remaining() - JournalRecord.HEADER
+            ) {
+                final ByteBuffer payload = buffer.slice(
+                    start + JournalRecord.HEADER, length
+                );
+                final CRC32 crc = new CRC32();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() == checksum) {
+                    buffer.position(start + JournalRecord.HEADER + length);
+                    res = new JournalRecord(
+                        payload.get(), JournalRecord.string(payload),
+                        payload.getInt(), JournalRecord.string(payload)
+                    );
+                }
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Encode the record.
+     *
+     * @return The buffer, ready to be read.
+     */
+    ByteBuffer encode() {
+        final byte[] id = this.session.getBytes(StandardCharsets.UTF_8);
+        final byte[] text = this.answer.getBytes(StandardCharsets.UTF_8);
+        final int length =
+            1 + Integer.BYTES * 3 + id.length + text.length;
+        final ByteBuffer res = ByteBuffer.allocate(
+            JournalRecord.HEADER + length
+        );
+        res.putInt(length).putInt(0).put(this.type);
+        res.putInt(id.length).put(id);
+        res.putInt(this.index);
+        res.putInt(text.length).put(text);
+        final CRC32 crc = new CRC32();
+        crc.update(res.array(), JournalRecord.HEADER, length);
+        res.putInt(Integer.BYTES, (int) crc.getValue());
+        return res.flip();
+    }
+
+    /**
+     * The record's type.
+     *
+     * @return The type.
+     */
+    byte type() {
+        return this.type;
+    }
+
+    /**
+     * The session's identifier.
+     *
+     * @return The identifier.
+     */
+    String session() {
+        return this.session;
+    }
+
+    /**
+     * The question's index.
+     *
+     * @return The index.
+     */
+    int index() {
+        return this.index;
+    }
+
+    /**
+     * The answer's text.
+     *
+     * @return The text.
+     */
+    String answer() {
+        return this.answer;
+    }
+
+    /**
+     * The answer of the answer's record, of the type it was given as.
+     *
+     * @return The answer.
+     */
+    Answer given() {
+        final Answer res;
+        if (this.type == JournalRecord.CHOICES) {
+            res = new MultiChoiceAnswer(Integer.parseInt(this.answer));
+        } else {
+            res = new SimpleAnswer(this.answer);
+        }
+        return res;
+    }
+
+    /**
+     * Read the length-prefixed UTF-8 string.
+     *
+     * @param buffer The buffer.
+     * @return The string.
+     */
+    private static String string(final ByteBuffer buffer) {
+        final byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.journal;
+
+import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.Question;
+import java.io.IOException;
+import java.util.function.Consumer;
+import org.json.simple.JSONObject;
+
+/**
+ * The decorator of the {@link Question} which writes the answer to
+ * {@link AnswerJournal}. The answer is written after the question accepts
+ * it, and the call returns only when the record is synchronized with the
+ * disk.
+ *
+ * @since 1.0
+ */
+final class JournaledQuestion implements Question {
+
+    /**
+     * The question which we decorate.
+     */
+    private final Question origin;
+
+    /**
+     * The question's index in the test.
+     */
+    private final int index;
+
+    /**
+     * The session's identifier.
+     */
+    private final String session;
+
+    /**
+     * The journal.
+     */
+    private final AnswerJournal journal;
+
+    /**
+     * Ctor.
+     *
+     * @param question The question which we decorate.
+     * @param position The question's index in the test.
+     * @param id The session's identifier.
+     * @param log The journal.
+     */
+    JournaledQuestion(
+        final Question question, final int position, final String id,
+        final AnswerJournal log
+    ) {
+        this.origin = question;
+        this.index = position;
+        this.session = id;
+        this.journal = log;
+    }
+
+    @Override
+    public void answer(final Answer answer) {
+        this.grade(answer);
+    }
+
+    @Override
+    public Boolean grade(final Answer answer) {
+        final Boolean res = this.origin.grade(answer);
+        this.journal.append(
+            JournalRecord.answer(this.session, this.index, answer)
+        );
+        return res;
+    }
+
+    @Override
+    public Boolean isCorrect() {
+        return this.origin.isCorrect();
+    }
+
+    @Override
+    public Boolean isAnswered() {
+        return this.origin.isAnswered();
+    }
+
+    @Override
+    public void listen(final Consumer<Boolean> listener) {
+        this.origin.listen(listener);
+    }
+
+    @Override
+    public Answer help() {
+        return this.origin.help();
+    }
+
+    @Override
+    public JSONObject toJson() {
+        return this.origin.toJson();
+    }
+
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        this.origin.writeJson(out);
+    }
+
+    @Override
+    public String toDisplayableString() {
+        return this.origin.toDisplayableString();
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.journal;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.Test;
+import com.github.aistomin.testist.simple.SimpleTest;
+
+/**
+ * The {@link Test} which writes every answer to {@link AnswerJournal}, so
+ * the test can be restored after the crash of the process. The tests are
+ * created by {@link AnswerJournal#test(String,
+ * com.github.aistomin.testist.QuestionsProvider)}.
+ *
+ * @since 1.0
+ */
+public final class JournaledTest implements Test {
+
+    /**
+     * The session's identifier.
+     */
+    private final String session;
+
+    /**
+     * The test which we decorate.
+     */
+    private final SimpleTest origin;
+
+    /**
+     * The journal.
+     */
+    private final AnswerJournal journal;
+
+    /**
+     * Mutex object.
+     */
+    private final Object mutex;
+
+    /**
+     * Ctor.
+     *
+     * @param id The session's identifier.
+     * @param test The test which we decorate.
+     * @param log The journal.
+     */
+    JournaledTest(
+        final String id, final SimpleTest test, final AnswerJournal log
+    ) {
+        this.session = id;
+        this.origin = test;
+        this.journal = log;
+        this.mutex = new Object();
+    }
+
+    @Override
+    public Boolean hasMoreQuestions() {
+        return this.origin.hasMoreQuestions();
+    }
+
+    @Override
+    public Question nextQuestion() {
+        synchronized (this.mutex) {
+            final Question question = this.origin.nextQuestion();
+            return new JournaledQuestion(
+                question, this.origin.position(), this.session, this.journal
+            );
+        }
+    }
+
+    @Override
+    public Result currentTestResult() {
+        return this.origin.currentTestResult();
+    }
+
+    /**
+     * Mark the test as finished in the journal.
+     */
+    public void finish() {
+        this.journal.finish(this.session);
+    }
+}
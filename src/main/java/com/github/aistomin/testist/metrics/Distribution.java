@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The distribution of the values, kept in the buckets of the powers of two.
+ * The bucket with the index N counts the values which take N bits, so the
+ * recording takes constant time and the counters are striped.
+ *
+ * @since 1.0
+ */
+final class Distribution implements Histogram {
+
+    /**
+     * The amount of the buckets.
+     */
+    private static final int BUCKETS = Long.SIZE;
+
+    /**
+     * The buckets.
+     */
+    private final LongAdder[] buckets;
+
+    /**
+     * The sum of the values.
+     */
+    private final LongAdder sum;
+
+    /**
+     * Ctor.
+     */
+    Distribution() {
+        this.buckets = new LongAdder[Distribution.BUCKETS];
+        for (int idx = 0; idx < Distribution.BUCKETS; ++idx) {
+            this.buckets[idx] = new LongAdder();
+        }
+        this.sum = new LongAdder();
+    }
+
+    @Override
+    public void record(final long value) {
+        final long positive = Math.max(value, 0L);
+        this.buckets[
+            Math.min(
+                Long.SIZE - Long.numberOfLeadingZeros(positive),
+                Distribution.BUCKETS - 1
+            )
+        ].increment();
+        this.sum.add(positive);
+    }
+
+    /**
+     * Write the distribution in the text exposition format.
+     *
+     * @param name The histogram's name.
+     * @param out Where to write.
+     */
+    void expose(final String name, final StringBuilder out) {
+        final long[] counts = new long[Distribution.BUCKETS];
+        int last = 0;
+        for (int idx = 0; idx < Distribution.BUCKETS; ++idx) {
+            counts[idx] = this.buckets[idx].sum();
+            if (counts[idx] > 0L) {
+                last = idx;
+            }
+        }
+        out.append("# TYPE ").append(name).append(" histogram\n");
+        long total = 0L;
+        for (int idx = 0; idx <= last; ++idx) {
+            total += counts[idx];
+            out.append(name).append("_bucket{le=\"")
+                .append((1L << idx) - 1L).append("\"} ")
+                .append(total).append('\n');
+        }
+        out.append(name).append("_bucket{le=\"+Inf\"} ")
+            .append(total).append('\n');
+        out.append(name).append("_sum ")
+            .append(this.sum.sum()).append('\n');
+        out.append(name).append("_count ")
+            .append(total).append('\n');
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.metrics;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The registry which keeps the metrics in memory. The metrics are exposed in
+ * the Prometheus text format, the histograms and the timers with the
+ * buckets of the powers of two. The names of the metrics must be valid
+ * Prometheus names. Every metric is created once, on the first lookup of its
+ * name, and the same instance is returned from then on, so the callers may
+ * look the metrics up on every update without allocating.
+ *
+ * @since 1.0
+ */
+public final class InMemoryRegistry implements MetricsRegistry {
+
+    /**
+     * The counters.
+     */
+    private final Map<String, StripedCounter> counters;
+
+    /**
+     * The histograms and the timers.
+     */
+    private final Map<String, Distribution> distributions;
+
+    /**
+     * Ctor.
+     */
+    public InMemoryRegistry() {
+        this.counters = new ConcurrentHashMap<>();
+        this.distributions = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public Counter counter(final String name) {
+        StripedCounter found = this.counters.get(name);
+        if (found == null) {
+            found = this.counters.computeIfAbsent(
+                name, key -> new StripedCounter()
+            );
+        }
+        return found;
+    }
+
+    @Override
+    public Histogram histogram(final String name) {
+        Distribution found = this.distributions.get(name);
+        if (found == null) {
+            found = this.distributions.computeIfAbsent(
+                name, key -> new Distribution()
+            );
+        }
+        return found;
+    }
+
+    @Override
+    public Histogram timer(final String name) {
+        return this.histogram(name);
+    }
+
+    /**
+     * Write all the metrics in the text exposition format, sorted by their
+     * names.
+     *
+     * @param out Where to write.
+     * @throws IOException If something goes wrong.
+     */
+    public void scrape(final Appendable out) throws IOException {
+        out.append(this.scrape());
+    }
+
+    /**
+     * All the metrics in the text exposition format, sorted by their names.
+     *
+     * @return The metrics.
+     */
+    public String scrape() {
+        final StringBuilder out = new StringBuilder();
+        for (final Map.Entry<String, StripedCounter> entry
+            : new TreeMap<>(this.counters).entrySet()) {
+            out.append("# TYPE ").append(entry.getKey()).append(" counter\n");
+            out.append(entry.getKey()).append(' ')
+                .append(entry.getValue().value()).append('\n');
+        }
+        for (final Map.Entry<String, Distribution> entry
+            : new TreeMap<>(this.distributions).entrySet()) {
+            entry.getValue().expose(entry.getKey(), out);
+        }
+        return out.toString();
+    }
+}
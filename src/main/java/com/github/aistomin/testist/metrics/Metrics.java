@@ -0,0 +1,147 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.metrics;
+
+/**
+ * The instrumentation of the library. The instruments returned by the
+ * factory methods forward the events to the installed registry. Nothing is
+ * installed by default, so the instruments cost one volatile read and the
+ * timers don't read the clock:
+ *
+ * <pre>
+ * private static final Histogram TIMER = Metrics.timer("name");
+ *
+ * final long start = Metrics.start();
+ * ...
+ * Metrics.stop(TIMER, start);
+ * </pre>
+ *
+ * @since 1.0
+ */
+public final class Metrics {
+
+    /**
+     * The start of the timing when the metrics are disabled.
+     */
+    private static final long DISABLED = Long.MIN_VALUE;
+
+    /**
+     * The installed registry or null if the metrics are disabled.
+     */
+    private static volatile MetricsRegistry registry;
+
+    /**
+     * Ctor.
+     */
+    private Metrics() {
+    }
+
+    /**
+     * Install the registry, all the events are recorded to it from now on.
+     *
+     * @param target The registry.
+     */
+    public static void install(final MetricsRegistry target) {
+        Metrics.registry = target;
+    }
+
+    /**
+     * Disable the metrics.
+     */
+    public static void disable() {
+        Metrics.registry = null;
+    }
+
+    /**
+     * Are the metrics enabled?
+     *
+     * @return True - the registry is installed; False - isn't installed.
+     */
+    public static boolean enabled() {
+        return Metrics.registry != null;
+    }
+
+    /**
+     * The counter which forwards to the installed registry.
+     *
+     * @param name The counter's name.
+     * @return The counter.
+     */
+    public static Counter counter(final String name) {
+        return delta -> {
+            final MetricsRegistry current = Metrics.registry;
+            if (current != null) {
+                current.counter(name).add(delta);
+            }
+        };
+    }
+
+    /**
+     * The histogram which forwards to the installed registry.
+     *
+     * @param name The histogram's name.
+     * @return The histogram.
+     */
+    public static Histogram histogram(final String name) {
+        return value -> {
+            final MetricsRegistry current = Metrics.registry;
+            if (current != null) {
+                current.histogram(name).record(value);
+            }
+        };
+    }
+
+    /**
+     * The timer which forwards to the installed registry.
+     *
+     * @param name The timer's name.
+     * @return The timer.
+     */
+    public static Histogram timer(final String name) {
+        return value -> {
+            final MetricsRegistry current = Metrics.registry;
+            if (current != null) {
+                current.timer(name).record(value);
+            }
+        };
+    }
+
+    /**
+     * Start the timing.
+     *
+     * @return The start of the timing, the clock is read only if the metrics
+     *  are enabled.
+     */
+    public static long start() {
+        long res = Metrics.DISABLED;
+        if (Metrics.registry != null) {
+            res = System.nanoTime();
+        }
+        return res;
+    }
+
+    /**
+     * Stop the timing and record its duration.
+     *
+     * @param timer The timer.
+     * @param start The start of the timing.
+     */
+    public static void stop(final Histogram timer, final long start) {
+        if (start != Metrics.DISABLED) {
+            timer.record(System.nanoTime() - start);
+        }
+    }
+}
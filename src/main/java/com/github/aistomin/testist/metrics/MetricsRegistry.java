@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.metrics;
+
+/**
+ * The registry of the metrics, the service provider interface of the
+ * instrumentation. The registry is installed with
+ * {@link Metrics#install(MetricsRegistry)}. The instruments are requested by
+ * their names on every event, so the registry should find them quickly.
+ *
+ * @since 1.0
+ */
+public interface MetricsRegistry {
+
+    /**
+     * The counter.
+     *
+     * @param name The counter's name.
+     * @return The counter.
+     */
+    Counter counter(String name);
+
+    /**
+     * The histogram.
+     *
+     * @param name The histogram's name.
+     * @return The histogram.
+     */
+    Histogram histogram(String name);
+
+    /**
+     * The timer, which is the histogram of the durations in nanoseconds.
+     *
+     * @param name The timer's name.
+     * @return The timer.
+     */
+    Histogram timer(String name);
+}
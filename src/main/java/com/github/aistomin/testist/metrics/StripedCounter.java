@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counter of {@link InMemoryRegistry}. The events are summed up in the
+ * striped counter, so the concurrent updates don't contend.
+ *
+ * @since 1.0
+ */
+final class StripedCounter implements Counter {
+
+    /**
+     * The sum of the events.
+     */
+    private final LongAdder sum;
+
+    /**
+     * Ctor.
+     */
+    StripedCounter() {
+        this.sum = new LongAdder();
+    }
+
+    @Override
+    public void add(final long delta) {
+        this.sum.add(delta);
+    }
+
+    /**
+     * The amount of the events counted so far.
+     *
+     * @return The amount.
+     */
+    long value() {
+        return this.sum.sum();
+    }
+}
@@ -16,26 +16,38 @@
 package com.github.aistomin.testist.multichoice;
 
 import com.github.aistomin.testist.Answer;
-import java.util.ArrayList;
-import java.util.Comparator;
+import com.github.aistomin.testist.JsonAppender;
+import com.github.aistomin.testist.MagicNumbers;
+import java.io.IOException;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 import org.json.simple.JSONObject;
 
 /**
- * The multi-choice test implementation of the {@link Answer}.
+ * The multi-choice test implementation of the {@link Answer}. The selected
+ * options are packed into the bit mask, where the bit number is the ordinal
+ * of the {@link Choice}, so validation, equality and hashing are the integer
+ * operations. The displayable string is built only when it is requested.
  *
  * @since 0.1
  */
 public final class MultiChoiceAnswer implements Answer {
 
     /**
-     * The options selected by user.
+     * All the available choices.
      */
-    private final Set<Choice> selected;
+    private static final Choice[] CHOICES = Choice.values();
+
+    /**
+     * The mask of all the available choices.
+     */
+    private static final int ALL = (1 << CHOICES.length) - 1;
+
+    /**
+     * The options selected by user, packed into the bit mask.
+     */
+    private final int selected;
 
     /**
      * Ctor.
@@ -43,13 +55,36 @@ public final class MultiChoiceAnswer implements Answer {
      * @param selection The options selected by user.
      */
     public MultiChoiceAnswer(final Set<Choice> selection) {
-        this.selected = selection;
+        this(MultiChoiceAnswer.pack(selection));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param mask The options selected by user packed into the bit mask,
+     *  where the bit number is the ordinal of the {@link Choice}.
+     */
+    public MultiChoiceAnswer(final int mask) {
+        if ((mask & ~ALL) != 0) {
+            throw new IllegalArgumentException(
+                String.format("Invalid choices mask: %x.", mask)
+            );
+        }
+        this.selected = mask;
     }
 
     @Override
     public Boolean validate(final Answer answer) {
-        return answer != null
-            && this.toDisplayableString().equals(answer.toDisplayableString());
+        final boolean res;
+        if (answer instanceof MultiChoiceAnswer) {
+            res = this.selected == ((MultiChoiceAnswer) answer).selected;
+        } else {
+            res = answer != null
+                && this.toDisplayableString().equals(
+                    answer.toDisplayableString()
+                );
+        }
+        return res;
     }
 
     @Override
@@ -59,13 +94,61 @@ public final class MultiChoiceAnswer implements Answer {
         return new JSONObject(json);
     }
 
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        new JsonAppender(out).begin()
+            .string("text", this.toDisplayableString())
+            .end();
+    }
+
     @Override
     public String toDisplayableString() {
-        final List<Choice> sorted = new ArrayList<>(this.selected);
-        sorted.sort(Comparator.naturalOrder());
-        return sorted
-            .stream()
-            .map(Enum::name)
-            .collect(Collectors.joining("; "));
+        final StringBuilder builder = new StringBuilder(
+            CHOICES.length * MagicNumbers.THREE.number()
+        );
+        int rest = this.selected;
+        while (rest != 0) {
+            if (builder.length() > 0) {
+                builder.append("; ");
+            }
+            builder.append(CHOICES[Integer.numberOfTrailingZeros(rest)].name());
+            rest &= rest - 1;
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The options selected by user packed into the bit mask.
+     *
+     * @return The bit mask.
+     */
+    public int mask() {
+        return this.selected;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return this == obj
+            || obj instanceof MultiChoiceAnswer
+            && this.selected == ((MultiChoiceAnswer) obj).selected;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.selected;
+    }
+
+    /**
+     * Pack the choices into the bit mask.
+     *
+     * @param choices The choices.
+     * @return The bit mask.
+     */
+    private static int pack(final Set<Choice> choices) {
+        int mask = 0;
+        for (final Choice choice : choices) {
+            mask |= 1 << choice.ordinal();
+        }
+        return mask;
     }
 }
@@ -18,8 +18,10 @@ package com.github.aistomin.testist.multichoice;
 import com.github.aistomin.testist.Answer;
 import com.github.aistomin.testist.Question;
 import com.github.aistomin.testist.simple.SimpleQuestion;
+import java.io.IOException;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 import org.json.simple.JSONObject;
 
 /**
@@ -61,7 +63,7 @@ public final class MultiChoiceQuestion implements Question {
         final Answer answer
     ) {
         this.simple = new SimpleQuestion(
-            new MultiChoiceQuestionText(text, choices), answer
+            new PrecompiledQuestionText(text, choices), answer
         );
     }
 
@@ -70,6 +72,11 @@ public final class MultiChoiceQuestion implements Question {
         this.simple.answer(answer);
     }
 
+    @Override
+    public Boolean grade(final Answer answer) {
+        return this.simple.grade(answer);
+    }
+
     @Override
     public Boolean isCorrect() {
         return this.simple.isCorrect();
@@ -80,6 +87,11 @@ public final class MultiChoiceQuestion implements Question {
         return this.simple.isAnswered();
     }
 
+    @Override
+    public void listen(final Consumer<Boolean> listener) {
+        this.simple.listen(listener);
+    }
+
     @Override
     public Answer help() {
         return this.simple.help();
@@ -90,6 +102,11 @@ public final class MultiChoiceQuestion implements Question {
         return this.simple.toJson();
     }
 
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        this.simple.writeJson(out);
+    }
+
     @Override
     public String toDisplayableString() {
         return this.simple.toDisplayableString();
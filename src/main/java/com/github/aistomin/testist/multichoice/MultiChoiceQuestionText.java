@@ -15,7 +15,10 @@
  */
 package com.github.aistomin.testist.multichoice;
 
+import com.github.aistomin.testist.JsonAppender;
 import com.github.aistomin.testist.QuestionsText;
+import com.github.aistomin.testist.Template;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -30,6 +33,16 @@ import org.json.simple.JSONObject;
  */
 public final class MultiChoiceQuestionText implements QuestionsText {
 
+    /**
+     * The template of the question's text.
+     */
+    private static final Template TEXT = new Template("%s%n");
+
+    /**
+     * The template of a choice.
+     */
+    private static final Template CHOICE = new Template("%n%s. %s");
+
     /**
      * The question's text.
      */
@@ -55,16 +68,22 @@ public final class MultiChoiceQuestionText implements QuestionsText {
 
     @Override
     public String toDisplayableString() {
-        final StringBuilder builder = new StringBuilder(this.text);
-        builder.append(String.format("%n"));
-        this.sortedChoices().forEach(
-            entry -> builder.append(
-                String.format("%n%s. %s", entry.getKey(), entry.getValue())
-            )
-        );
+        final StringBuilder builder = new StringBuilder(this.text.length());
+        this.writeDisplayable(builder);
         return builder.toString();
     }
 
+    @Override
+    public void writeDisplayable(final StringBuilder out) {
+        MultiChoiceQuestionText.TEXT.fill(out).with(this.text).done();
+        for (final Map.Entry<Choice, String> entry : this.sortedChoices()) {
+            MultiChoiceQuestionText.CHOICE.fill(out)
+                .with(entry.getKey().name())
+                .with(entry.getValue())
+                .done();
+        }
+    }
+
     @Override
     public JSONObject toJson() {
         final Map<String, Object> json = new HashMap<>();
@@ -73,6 +92,14 @@ public final class MultiChoiceQuestionText implements QuestionsText {
         return new JSONObject(json);
     }
 
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        new JsonAppender(out).begin()
+            .string("text", this.text)
+            .map("choices", this.choices)
+            .end();
+    }
+
     /**
      * Sort and get the choices.
      *
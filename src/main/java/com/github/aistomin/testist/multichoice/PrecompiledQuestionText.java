@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.multichoice;
+
+import com.github.aistomin.testist.QuestionsText;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.json.simple.JSONObject;
+
+/**
+ * The multi-choice question's text which is rendered once, when it is
+ * created. The choices are ordered by {@link EnumMap}, the rendered text and
+ * the JSON form are stored, so displaying the text costs nothing. The text
+ * is rendered exactly like {@link MultiChoiceQuestionText}.
+ *
+ * @since 1.0
+ */
+public final class PrecompiledQuestionText implements QuestionsText {
+
+    /**
+     * The JSON form of the text.
+     */
+    private final Map<String, Object> form;
+
+    /**
+     * The rendered text.
+     */
+    private final String display;
+
+    /**
+     * The JSON form of the text, serialized.
+     */
+    private final String json;
+
+    /**
+     * Ctor.
+     *
+     * @param txt The question's text.
+     * @param options The choices that will be displayed to the user.
+     */
+    public PrecompiledQuestionText(
+        final String txt, final Map<Choice, String> options
+    ) {
+        final Map<Choice, String> sorted = new EnumMap<>(Choice.class);
+        sorted.putAll(options);
+        final Map<Choice, String> choices =
+            Collections.unmodifiableMap(sorted);
+        final Map<String, Object> map = new HashMap<>();
+        map.put("text", txt);
+        map.put("choices", choices);
+        this.form = Collections.unmodifiableMap(map);
+        this.display =
+            new MultiChoiceQuestionText(txt, choices).toDisplayableString();
+        this.json = new JSONObject(this.form).toJSONString();
+    }
+
+    @Override
+    public String toDisplayableString() {
+        return this.display;
+    }
+
+    @Override
+    public void writeDisplayable(final StringBuilder out) {
+        out.append(this.display);
+    }
+
+    @Override
+    public JSONObject toJson() {
+        return new JSONObject(this.form);
+    }
+
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        out.append(this.json);
+    }
+}
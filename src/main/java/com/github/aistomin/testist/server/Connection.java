@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.server;
+
+import com.github.aistomin.testist.Displayable;
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.Test;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The test session of a single connection of {@link ConsoleServer}. The
+ * connection reads the answers line by line, renders the questions and the
+ * result into its own buffers and writes them back. The answers are taken
+ * from the buffers only while the unwritten output is small, so the client
+ * which sends many answers and doesn't read the output can't make the
+ * server buffer unlimited amounts of text. The connection is used only by
+ * the thread of its selector.
+ *
+ * @since 1.0
+ */
+final class Connection {
+
+    /**
+     * The size of the buffers.
+     */
+    static final int BUFFER = 4096;
+
+    /**
+     * The maximal length of the answer.
+     */
+    static final int MAX_LINE = 4096;
+
+    /**
+     * The channel.
+     */
+    private final SocketChannel channel;
+
+    /**
+     * The test.
+     */
+    private final Test test;
+
+    /**
+     * The bytes which are read from the channel and not decoded yet.
+     */
+    private final ByteBuffer input;
+
+    /**
+     * The decoded characters.
+     */
+    private final CharBuffer chars;
+
+    /**
+     * The line which is being read.
+     */
+    private final StringBuilder line;
+
+    /**
+     * The rendered text which is being encoded.
+     */
+    private final StringBuilder text;
+
+    /**
+     * The decoder of the input.
+     */
+    private final CharsetDecoder decoder;
+
+    /**
+     * The encoder of the output.
+     */
+    private final CharsetEncoder encoder;
+
+    /**
+     * The bytes which are not written to the channel yet, ready to be read.
+     */
+    private ByteBuffer output;
+
+    /**
+     * The current question.
+     */
+    private Question question;
+
+    /**
+     * Is the test finished?
+     */
+    private boolean finished;
+
+    /**
+     * Has the client closed its side of the connection?
+     */
+    private boolean eof;
+
+    /**
+     * Ctor.
+     *
+     * @param socket The channel.
+     * @param session The test.
+     */
+    Connection(final SocketChannel socket, final Test session) {
+        this.channel = socket;
+        this.test = session;
+        this.input = ByteBuffer.allocate(Connection.BUFFER);
+        this.chars = CharBuffer.allocate(Connection.BUFFER).flip();
+        this.line = new StringBuilder(0);
+        this.text = new StringBuilder(Connection.BUFFER);
+        this.decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        this.output = ByteBuffer.allocate(Connection.BUFFER).flip();
+    }
+
+    /**
+     * Send the first question.
+     *
+     * @param key The key of the channel.
+     * @return True - the connection stays open; False - it must be closed.
+     * @throws IOException If the channel fails.
+     */
+    boolean start(final SelectionKey key) throws IOException {
+        this.ask();
+        this.channel.write(this.output);
+        return this.interest(key);
+    }
+
+    /**
+     * Handle the readiness of the channel. The answers are processed while
+     * the unwritten output is small, the rest of them waits in the buffers
+     * until the client reads the output. When the client closes its side of
+     * the connection, all the complete answers which are already buffered
+     * are processed, and the connection is closed once their output is
+     * written.
+     *
+     * @param key The key of the channel.
+     * @return True - the connection stays open; False - it must be closed.
+     * @throws IOException If the channel fails.
+     */
+    boolean handle(final SelectionKey key) throws IOException {
+        if (key.isReadable()) {
+            this.eof = this.channel.read(this.input) < 0;
+        }
+        boolean res = true;
+        boolean again = true;
+        while (again) {
+            while (res && (this.eof
+                || this.output.remaining() < Connection.BUFFER)
+                && this.buffered()) {
+                res = this.readLine();
+            }
+            this.channel.write(this.output);
+            again = res && !this.output.hasRemaining() && this.buffered();
+        }
+        return res && this.interest(key);
+    }
+
+    /**
+     * Check whether there are decoded characters which are not processed
+     * yet, decoding the input if needed.
+     *
+     * @return True - there are characters to process; False - otherwise.
+     */
+    private boolean buffered() {
+        if (!this.chars.hasRemaining()) {
+            this.chars.clear();
+            this.input.flip();
+            this.decoder.decode(this.input, this.chars, false);
+            this.input.compact();
+            this.chars.flip();
+        }
+        return this.chars.hasRemaining();
+    }
+
+    /**
+     * Process the decoded characters up to the end of the line, which is
+     * the answer to the current question.
+     *
+     * @return True - the input is fine; False - the line is too long.
+     */
+    private boolean readLine() {
+        boolean res = true;
+        boolean end = false;
+        while (res && !end && this.chars.hasRemaining()) {
+            final char chr = this.chars.get();
+            if (chr == '\n') {
+                this.answer();
+                this.line.setLength(0);
+                end = true;
+            } else if (chr != '\r') {
+                this.line.append(chr);
+                res = this.line.length() <= Connection.MAX_LINE;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Answer the current question with the line and send the next one.
+     */
+    private void answer() {
+        if (!this.finished && !this.line.toString().isBlank()) {
+            this.question.answer(
+                new SimpleAnswer(this.line.toString().trim())
+            );
+            this.render(this.question);
+            this.ask();
+        }
+    }
+
+    /**
+     * Render the next question or the result if there are no more questions.
+     */
+    private void ask() {
+        if (this.test.hasMoreQuestions()) {
+            this.question = this.test.nextQuestion();
+            this.render(this.question);
+        } else {
+            this.render(this.test.currentTestResult());
+            this.finished = true;
+        }
+    }
+
+    /**
+     * Render the entity and add it to the output.
+     *
+     * @param item The entity.
+     */
+    private void render(final Displayable item) {
+        this.text.setLength(0);
+        item.writeDisplayable(this.text);
+        this.text.append(System.lineSeparator());
+        final CharBuffer src = CharBuffer.wrap(this.text);
+        this.output.compact();
+        this.encoder.reset();
+        while (this.encoder.encode(src, this.output, true)
+            == CoderResult.OVERFLOW) {
+            final ByteBuffer larger = ByteBuffer.allocate(
+                this.output.capacity() * 2
+            );
+            this.output = larger.put(this.output.flip());
+        }
+        this.output.flip();
+    }
+
+    /**
+     * Wait for the channel to accept the output if there is the unwritten
+     * one, or for the next answers otherwise.
+     *
+     * @param key The key of the channel.
+     * @return True - the connection stays open; False - the test is finished
+     *  or the client closed its side, and the whole output is written.
+     */
+    private boolean interest(final SelectionKey key) {
+        final boolean pending = this.output.hasRemaining();
+        if (pending) {
+            key.interestOps(SelectionKey.OP_WRITE);
+        } else {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+        return pending || !this.finished && !this.eof;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.server;
+
+import com.github.aistomin.testist.QuestionsProvider;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The line-oriented TCP server which runs a test for every connection. The
+ * server sends the question, reads the answer from the next line, sends the
+ * checked question and the next one, and so on until the test is finished;
+ * then it sends the result and closes the connection. The connections are
+ * served by the fixed amount of the threads with non-blocking
+ * {@link java.nio.channels.Selector}s, so a few threads can run hundreds of
+ * sessions. The provider must return new questions on every call, since
+ * every session answers its own questions.
+ *
+ * @since 1.0
+ */
+public final class ConsoleServer implements Closeable {
+
+    /**
+     * The maximal amount of the connections which wait to be accepted.
+     */
+    private static final int BACKLOG = 1024;
+
+    /**
+     * The server channel.
+     */
+    private final ServerSocketChannel channel;
+
+    /**
+     * The loops which serve the connections.
+     */
+    private final SelectorLoop[] loops;
+
+    /**
+     * The amount of the open connections.
+     */
+    private final AtomicInteger active;
+
+    /**
+     * The amount of the accepted connections, used to choose their loops.
+     */
+    private final AtomicInteger accepted;
+
+    /**
+     * Ctor.
+     *
+     * @param address The address to listen to, the port 0 means any free
+     *  port.
+     * @param provider The questions of the tests.
+     * @param threads The amount of the threads which serve the connections.
+     * @throws IOException If the server can't be started.
+     */
+    public ConsoleServer(
+        final InetSocketAddress address, final QuestionsProvider provider,
+        final int threads
+    ) throws IOException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException(
+                "Amount of the threads must be positive."
+            );
+        }
+        this.active = new AtomicInteger();
+        this.accepted = new AtomicInteger();
+        this.loops = new SelectorLoop[threads];
+        for (int idx = 0; idx < threads; ++idx) {
+            this.loops[idx] = new SelectorLoop(provider, this.active);
+        }
+        this.channel = ServerSocketChannel.open();
+        this.channel.bind(address, ConsoleServer.BACKLOG);
+        this.channel.configureBlocking(false);
+        this.loops[0].listen(this.channel, this::dispatch);
+        for (int idx = 0; idx < threads; ++idx) {
+            final Thread thread = new Thread(
+                this.loops[idx], String.format("console-server-%d", idx)
+            );
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * The address the server listens to.
+     *
+     * @return The address.
+     * @throws IOException If the server is closed.
+     */
+    public InetSocketAddress address() throws IOException {
+        return (InetSocketAddress) this.channel.getLocalAddress();
+    }
+
+    /**
+     * The amount of the open connections.
+     *
+     * @return The amount.
+     */
+    public int sessions() {
+        return this.active.get();
+    }
+
+    /**
+     * Stop accepting the connections, close all the open ones and wait
+     * until the threads are stopped.
+     *
+     * @throws IOException If the server channel can't be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        for (final SelectorLoop loop : this.loops) {
+            loop.stop();
+        }
+        this.channel.close();
+    }
+
+    /**
+     * Hand the accepted connection to the next loop.
+     *
+     * @param connection The connection.
+     */
+    private void dispatch(final SocketChannel connection) {
+        this.loops[
+            Math.floorMod(this.accepted.getAndIncrement(), this.loops.length)
+        ].register(connection);
+    }
+}
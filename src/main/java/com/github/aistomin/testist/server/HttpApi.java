@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.server;
+
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.session.SessionEngine;
+import com.sun.net.httpserver.HttpServer;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.concurrent.Executor;
+
+/**
+ * The embedded HTTP server which runs the tests through the JSON API:
+ * <ul>
+ *  <li>{@code POST /sessions} opens the session and returns its
+ *  {@code id};</li>
+ *  <li>{@code GET /sessions/{id}/question} returns the next question
+ *  without its expected answer, or nothing if the test is finished;</li>
+ *  <li>{@code POST /sessions/{id}/answer} answers the next question with
+ *  {@code {"text": "..."}} and returns whether it is {@code correct};</li>
+ *  <li>{@code GET /sessions/{id}/result} returns the current result;</li>
+ *  <li>{@code DELETE /sessions/{id}} closes the session and returns its
+ *  final result.</li>
+ * </ul>
+ * The questions and the results have the shapes of
+ * {@link com.github.aistomin.testist.Displayable#toJson()}, the failures
+ * are {@code {"error": "..."}}.
+ * The requests are served by the executor, which is provided by the client:
+ * a small pool of platform threads or, on JDK 21 and newer, the
+ * virtual-thread-per-task executor. The provider must return new questions
+ * on every call, since every session answers its own questions.
+ *
+ * @since 1.0
+ */
+public final class HttpApi implements Closeable {
+
+    /**
+     * The maximal amount of the connections which wait to be accepted.
+     */
+    private static final int BACKLOG = 1024;
+
+    /**
+     * The server.
+     */
+    private final HttpServer server;
+
+    /**
+     * The sessions.
+     */
+    private final SessionEngine engine;
+
+    /**
+     * Ctor.
+     *
+     * @param address The address to listen to, the port 0 means any free
+     *  port.
+     * @param provider The questions of the tests.
+     * @param executor The executor of the requests, it stays open when the
+     *  server is closed.
+     * @throws IOException If the server can't be started.
+     */
+    public HttpApi(
+        final InetSocketAddress address, final QuestionsProvider provider,
+        final Executor executor
+    ) throws IOException {
+        this.engine = new SessionEngine(provider, Runnable::run);
+        this.server = HttpServer.create(address, HttpApi.BACKLOG);
+        this.server.createContext(
+            SessionsHandler.PATH, new SessionsHandler(this.engine)
+        );
+        this.server.setExecutor(executor);
+        this.server.start();
+    }
+
+    /**
+     * The address the server listens to.
+     *
+     * @return The address.
+     */
+    public InetSocketAddress address() {
+        return this.server.getAddress();
+    }
+
+    /**
+     * The amount of the open sessions.
+     *
+     * @return The amount.
+     */
+    public int sessions() {
+        return this.engine.size();
+    }
+
+    /**
+     * Stop the server and close all the exchanges in progress.
+     */
+    @Override
+    public void close() {
+        this.server.stop(0);
+    }
+}
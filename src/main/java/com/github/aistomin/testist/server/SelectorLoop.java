@@ -0,0 +1,300 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.server;
+
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.simple.SimpleTest;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.StandardSocketOptions;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The thread of {@link ConsoleServer} which serves its share of the
+ * connections with a single {@link Selector}. One of the loops also accepts
+ * the new connections and hands them out to all the loops.
+ *
+ * @since 1.0
+ */
+final class SelectorLoop implements Runnable {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG =
+        LoggerFactory.getLogger(SelectorLoop.class);
+
+    /**
+     * The selector.
+     */
+    private final Selector selector;
+
+    /**
+     * The questions of the tests.
+     */
+    private final QuestionsProvider provider;
+
+    /**
+     * The amount of the open connections of the server.
+     */
+    private final AtomicInteger sessions;
+
+    /**
+     * The connections which are handed to this loop and not registered yet.
+     */
+    private final Queue<SocketChannel> incoming;
+
+    /**
+     * Completed when the loop is stopped and all its connections are closed.
+     */
+    private final CompletableFuture<Void> done;
+
+    /**
+     * The consumer of the accepted connections, if this loop accepts them.
+     */
+    private Consumer<SocketChannel> dispatch;
+
+    /**
+     * Should the loop keep running?
+     */
+    private volatile boolean running;
+
+    /**
+     * Ctor.
+     *
+     * @param questions The questions of the tests.
+     * @param counter The amount of the open connections of the server.
+     * @throws IOException If the selector can't be opened.
+     */
+    SelectorLoop(final QuestionsProvider questions, final AtomicInteger counter)
+        throws IOException {
+        this.selector = Selector.open();
+        this.provider = questions;
+        this.sessions = counter;
+        this.incoming = new ConcurrentLinkedQueue<>();
+        this.done = new CompletableFuture<>();
+        this.running = true;
+    }
+
+    /**
+     * Accept the connections of the server channel. Must be called before
+     * the loop is started.
+     *
+     * @param server The server channel.
+     * @param consumer The consumer of the accepted connections.
+     * @throws IOException If the channel can't be registered.
+     */
+    void listen(
+        final ServerSocketChannel server, final Consumer<SocketChannel> consumer
+    ) throws IOException {
+        this.dispatch = consumer;
+        server.register(this.selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Hand the connection to this loop.
+     *
+     * @param channel The connection.
+     */
+    void register(final SocketChannel channel) {
+        this.incoming.add(channel);
+        this.selector.wakeup();
+    }
+
+    /**
+     * Stop the loop and wait until all its connections are closed.
+     */
+    void stop() {
+        this.running = false;
+        this.selector.wakeup();
+        this.done.join();
+    }
+
+    @Override
+    public void run() {
+        try {
+            boolean alive = true;
+            while (alive && this.running) {
+                alive = this.attempt(this.selector, this::cycle);
+            }
+            this.drain();
+            for (final SelectionKey key : this.selector.keys()) {
+                if (key.attachment() instanceof Connection) {
+                    this.close((SocketChannel) key.channel());
+                }
+            }
+            this.attempt(this.selector, SelectorLoop.closing(this.selector));
+        } finally {
+            this.done.complete(null);
+        }
+    }
+
+    /**
+     * Wait for the ready channels and serve them.
+     *
+     * @return Always true.
+     * @throws IOException If the selector fails.
+     */
+    private boolean cycle() throws IOException {
+        this.selector.select();
+        this.drain();
+        final Iterator<SelectionKey> keys =
+            this.selector.selectedKeys().iterator();
+        while (keys.hasNext()) {
+            final SelectionKey key = keys.next();
+            keys.remove();
+            if (key.isAcceptable()) {
+                this.attempt(key.channel(), () -> this.accept(key));
+            } else {
+                final SocketChannel channel = (SocketChannel) key.channel();
+                if (!this.attempt(
+                    channel, () -> ((Connection) key.attachment()).handle(key)
+                )) {
+                    this.close(channel);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Start the test sessions of the connections handed to this loop.
+     */
+    private void drain() {
+        SocketChannel channel = this.incoming.poll();
+        while (channel != null) {
+            final SocketChannel accepted = channel;
+            this.sessions.incrementAndGet();
+            if (!this.attempt(accepted, () -> this.open(accepted))) {
+                this.close(accepted);
+            }
+            channel = this.incoming.poll();
+        }
+    }
+
+    /**
+     * Accept all the pending connections and hand them out.
+     *
+     * @param key The key of the server channel.
+     * @return Always true.
+     * @throws IOException If the connection can't be accepted.
+     */
+    private boolean accept(final SelectionKey key) throws IOException {
+        final ServerSocketChannel server = (ServerSocketChannel) key.channel();
+        SocketChannel channel = server.accept();
+        while (channel != null) {
+            this.dispatch.accept(channel);
+            channel = server.accept();
+        }
+        return true;
+    }
+
+    /**
+     * Register the connection and send it the first question.
+     *
+     * @param channel The connection.
+     * @return True - the connection stays open; False - it must be closed.
+     * @throws IOException If the connection fails.
+     */
+    private boolean open(final SocketChannel channel) throws IOException {
+        final Connection connection =
+            new Connection(channel, new SimpleTest(this.provider));
+        channel.configureBlocking(false);
+        channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        return connection.start(
+            channel.register(this.selector, 0, connection)
+        );
+    }
+
+    /**
+     * Close the connection unless it is already closed. The closed channel's
+     * key stays in the selector until the next selection, so the connection
+     * may be closed again when the loop stops.
+     *
+     * @param channel The connection.
+     */
+    private void close(final SocketChannel channel) {
+        if (channel.isOpen()) {
+            this.sessions.decrementAndGet();
+            this.attempt(channel, SelectorLoop.closing(channel));
+        }
+    }
+
+    /**
+     * Run the step which works with the channel and log its failure. The
+     * unexpected failure of the step, for example of the question which
+     * rejects the answer, fails only the step, so the caller closes only
+     * the channel the step works with and the loop keeps running.
+     *
+     * @param subject The channel or the selector the step works with.
+     * @param step The step.
+     * @return The result of the step, or false if it fails.
+     */
+    private boolean attempt(final Object subject, final Step step) {
+        boolean res;
+        try {
+            res = step.run();
+        } catch (final IOException ex) {
+            LOG.debug("I/O failed on {}", subject, ex);
+            res = false;
+        } catch (final RuntimeException ex) {
+            LOG.warn("Failed to serve {}", subject, ex);
+            res = false;
+        }
+        return res;
+    }
+
+    /**
+     * The step which closes the resource.
+     *
+     * @param resource The resource.
+     * @return The step.
+     */
+    private static Step closing(final Closeable resource) {
+        return () -> {
+            resource.close();
+            return true;
+        };
+    }
+
+    /**
+     * The step of serving a channel which may fail.
+     *
+     * @since 1.0
+     */
+    @FunctionalInterface
+    private interface Step {
+
+        /**
+         * Run the step.
+         *
+         * @return True - the channel stays open; False - it must be closed.
+         * @throws IOException If the channel fails.
+         */
+        boolean run() throws IOException;
+    }
+}
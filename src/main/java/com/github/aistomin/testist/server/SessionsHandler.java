@@ -0,0 +1,278 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.server;
+
+import com.github.aistomin.testist.JsonAppender;
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.session.SessionEngine;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletionException;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.json.simple.parser.ParseException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The handler of the sessions' resources of {@link HttpApi}. The operations
+ * are executed right in the thread of the request, so the executor of the
+ * server is the only pool the requests use.
+ *
+ * @since 1.0
+ */
+final class SessionsHandler implements HttpHandler {
+
+    /**
+     * Logger.
+     */
+    private static final Logger LOG =
+        LoggerFactory.getLogger(SessionsHandler.class);
+
+    /**
+     * The path of the sessions.
+     */
+    static final String PATH = "/sessions";
+
+    /**
+     * The amount of the segments of the session's operation's path.
+     */
+    private static final int OPERATION = 3;
+
+    /**
+     * The sessions.
+     */
+    private final SessionEngine engine;
+
+    /**
+     * Ctor.
+     *
+     * @param sessions The sessions.
+     */
+    SessionsHandler(final SessionEngine sessions) {
+        this.engine = sessions;
+    }
+
+    @Override
+    public void handle(final HttpExchange exchange) throws IOException {
+        final StringBuilder body = new StringBuilder(0);
+        int status;
+        try {
+            status = this.route(exchange, body);
+        } catch (final CompletionException ex) {
+            status = SessionsHandler.failure(ex.getCause(), body);
+        } catch (final RuntimeException ex) {
+            status = SessionsHandler.failure(ex, body);
+        }
+        final byte[] bytes = body.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders()
+            .set("Content-Type", "application/json; charset=utf-8");
+        if (bytes.length == 0) {
+            exchange.sendResponseHeaders(status, -1L);
+        } else {
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+        exchange.close();
+    }
+
+    /**
+     * Execute the request.
+     *
+     * @param exchange The request.
+     * @param body The body of the response.
+     * @return The status of the response.
+     * @throws IOException If the request can't be read.
+     */
+    private int route(final HttpExchange exchange, final StringBuilder body)
+        throws IOException {
+        final String[] path = exchange.getRequestURI().getPath()
+            .substring(SessionsHandler.PATH.length()).split("/", -1);
+        final String method = exchange.getRequestMethod();
+        final boolean operation = path.length == SessionsHandler.OPERATION;
+        final int res;
+        if (!path[0].isEmpty()) {
+            res = SessionsHandler.unknown(exchange, body);
+        } else if (path.length == 1 && "POST".equals(method)) {
+            new JsonAppender(body).begin()
+                .string("id", this.engine.open())
+                .end();
+            res = HttpURLConnection.HTTP_CREATED;
+        } else if (path.length == 2 && "DELETE".equals(method)) {
+            this.engine.close(path[1]).writeJson(body);
+            res = HttpURLConnection.HTTP_OK;
+        } else if (operation && "GET".equals(method)
+            && "question".equals(path[2])) {
+            res = this.question(path[1], body);
+        } else if (operation && "POST".equals(method)
+            && "answer".equals(path[2])) {
+            res = this.answer(path[1], exchange.getRequestBody(), body);
+        } else if (operation && "GET".equals(method)
+            && "result".equals(path[2])) {
+            this.engine.result(path[1]).writeJson(body);
+            res = HttpURLConnection.HTTP_OK;
+        } else {
+            res = SessionsHandler.unknown(exchange, body);
+        }
+        return res;
+    }
+
+    /**
+     * Describe the unknown resource.
+     *
+     * @param exchange The request.
+     * @param body The body of the response.
+     * @return The status of the response.
+     */
+    private static int unknown(
+        final HttpExchange exchange, final StringBuilder body
+    ) {
+        SessionsHandler.error(
+            body,
+            String.format(
+                "Unknown resource %s %s.",
+                exchange.getRequestMethod(), exchange.getRequestURI().getPath()
+            )
+        );
+        return HttpURLConnection.HTTP_NOT_FOUND;
+    }
+
+    /**
+     * Write the next question of the session without its expected answer.
+     *
+     * @param id The session's identifier.
+     * @param body The body of the response.
+     * @return The status of the response.
+     */
+    private int question(final String id, final StringBuilder body) {
+        final Question question = this.engine.next(id).join();
+        final int res;
+        if (question == null) {
+            res = HttpURLConnection.HTTP_NO_CONTENT;
+        } else {
+            final JSONObject json = question.toJson();
+            json.remove("expected");
+            body.append(json.toJSONString());
+            res = HttpURLConnection.HTTP_OK;
+        }
+        return res;
+    }
+
+    /**
+     * Answer the next question of the session. The request's body has the
+     * JSON shape of {@link SimpleAnswer}.
+     *
+     * @param id The session's identifier.
+     * @param request The body of the request.
+     * @param body The body of the response.
+     * @return The status of the response.
+     * @throws IOException If the request can't be read.
+     */
+    private int answer(
+        final String id, final InputStream request, final StringBuilder body
+    ) throws IOException {
+        final String text = SessionsHandler.text(
+            new String(request.readAllBytes(), StandardCharsets.UTF_8)
+        );
+        final int res;
+        if (text == null) {
+            SessionsHandler.error(
+                body, "Answer must be a JSON object with the text."
+            );
+            res = HttpURLConnection.HTTP_BAD_REQUEST;
+        } else {
+            final boolean correct =
+                this.engine.answer(id, new SimpleAnswer(text)).join();
+            new JsonAppender(body).begin()
+                .string("correct", String.valueOf(correct))
+                .end();
+            res = HttpURLConnection.HTTP_OK;
+        }
+        return res;
+    }
+
+    /**
+     * Read the text of the answer.
+     *
+     * @param json The answer in JSON.
+     * @return The text or null if the JSON is not an answer.
+     */
+    private static String text(final String json) {
+        String res = null;
+        try {
+            final Object parsed = new JSONParser().parse(json);
+            if (parsed instanceof JSONObject
+                && ((JSONObject) parsed).get("text") instanceof String) {
+                res = (String) ((JSONObject) parsed).get("text");
+            }
+        } catch (final ParseException ex) {
+            res = null;
+        }
+        return res;
+    }
+
+    /**
+     * Describe the failure of the session's operation instead of the
+     * partial body. The unexpected failure is logged and reported without
+     * its details.
+     *
+     * @param failure The failure: {@link IllegalArgumentException} if the
+     *  session is unknown, {@link IllegalStateException} if it is finished,
+     *  anything else is unexpected.
+     * @param body The body of the response.
+     * @return The status of the response.
+     */
+    private static int failure(
+        final Throwable failure, final StringBuilder body
+    ) {
+        body.setLength(0);
+        final int res;
+        if (failure instanceof IllegalStateException) {
+            SessionsHandler.error(body, failure.getMessage());
+            res = HttpURLConnection.HTTP_CONFLICT;
+        } else if (failure instanceof IllegalArgumentException) {
+            SessionsHandler.error(body, failure.getMessage());
+            res = HttpURLConnection.HTTP_NOT_FOUND;
+        } else {
+            LOG.error("Session's operation failed", failure);
+            SessionsHandler.error(body, "Internal server error.");
+            res = HttpURLConnection.HTTP_INTERNAL_ERROR;
+        }
+        return res;
+    }
+
+    /**
+     * Write the error.
+     *
+     * @param body The body of the response.
+     * @param message The error's message.
+     */
+    private static void error(final StringBuilder body, final String message) {
+        try {
+            new JsonAppender(body).begin().string("error", message).end();
+        } catch (final IOException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
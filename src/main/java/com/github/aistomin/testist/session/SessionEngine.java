@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.session;
+
+import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.Test;
+import com.github.aistomin.testist.simple.SimpleTest;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * The engine which hosts many concurrent test sessions. Every session is a
+ * {@link SimpleTest} registered by its identifier, it doesn't own a thread,
+ * so an idle session costs only the memory of its test. The operations of
+ * the sessions are executed by the executor, which is provided by the
+ * client: a small pool of platform threads or, on JDK 21 and newer, the
+ * virtual-thread-per-task executor, so the clients may block while waiting
+ * for the operations of many sessions at once. The operations of the same
+ * session are serialized on its test, so the concurrent answers to the
+ * session never answer the same question twice or ask for the question of
+ * the finished test.
+ *
+ * @since 1.0
+ */
+public final class SessionEngine {
+
+    /**
+     * Questions provider of the new sessions.
+     */
+    private final QuestionsProvider provider;
+
+    /**
+     * The executor of the sessions' operations.
+     */
+    private final Executor executor;
+
+    /**
+     * The sessions' registry.
+     */
+    private final Map<String, Test> sessions;
+
+    /**
+     * Ctor.
+     *
+     * @param questions Questions provider of the new sessions.
+     * @param runner The executor of the sessions' operations.
+     */
+    public SessionEngine(
+        final QuestionsProvider questions, final Executor runner
+    ) {
+        this.provider = questions;
+        this.executor = runner;
+        this.sessions = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Open the new session.
+     *
+     * @return The session's identifier.
+     */
+    public String open() {
+        final String id = UUID.randomUUID().toString();
+        this.sessions.put(id, new SimpleTest(this.provider));
+        return id;
+    }
+
+    /**
+     * Get the next question of the session.
+     *
+     * @param id The session's identifier.
+     * @return The question or null if the session's test is finished.
+     */
+    public CompletableFuture<Question> next(final String id) {
+        final Test test = this.session(id);
+        return CompletableFuture.supplyAsync(
+            () -> {
+                synchronized (test) {
+                    final Question question;
+                    if (test.hasMoreQuestions()) {
+                        question = test.nextQuestion();
+                    } else {
+                        question = null;
+                    }
+                    return question;
+                }
+            },
+            this.executor
+        );
+    }
+
+    /**
+     * Answer the next question of the session.
+     *
+     * @param id The session's identifier.
+     * @param answer The answer.
+     * @return Whether the answer is correct. The future fails with
+     *  {@link IllegalStateException} if the session's test is finished.
+     */
+    public CompletableFuture<Boolean> answer(
+        final String id, final Answer answer
+    ) {
+        final Test test = this.session(id);
+        return CompletableFuture.supplyAsync(
+            () -> {
+                synchronized (test) {
+                    if (!test.hasMoreQuestions()) {
+                        throw new IllegalStateException(
+                            String.format("Session %s is finished.", id)
+                        );
+                    }
+                    return test.nextQuestion().grade(answer);
+                }
+            },
+            this.executor
+        );
+    }
+
+    /**
+     * The current result of the session.
+     *
+     * @param id The session's identifier.
+     * @return The result.
+     */
+    public Result result(final String id) {
+        return this.session(id).currentTestResult();
+    }
+
+    /**
+     * Close the session.
+     *
+     * @param id The session's identifier.
+     * @return The final result of the session.
+     */
+    public Result close(final String id) {
+        final Result result = this.result(id);
+        this.sessions.remove(id);
+        return result;
+    }
+
+    /**
+     * The amount of the open sessions.
+     *
+     * @return The amount.
+     */
+    public int size() {
+        return this.sessions.size();
+    }
+
+    /**
+     * Find the session.
+     *
+     * @param id The session's identifier.
+     * @return The session's test.
+     */
+    private Test session(final String id) {
+        final Test test = this.sessions.get(id);
+        if (test == null) {
+            throw new IllegalArgumentException(
+                String.format("Unknown session %s.", id)
+            );
+        }
+        return test;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.Test;
+import com.github.aistomin.testist.TestSuite;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The {@link TestSuite} which keeps its result up to date as the answers
+ * come in. The suite creates its tests, which report every answer to the
+ * suite's counters when the answer is given, so {@link #result()} reflects
+ * all the given answers and takes constant time regardless of the amount of
+ * the tests.
+ *
+ * @since 1.0
+ */
+public final class LiveTestSuite implements TestSuite {
+
+    /**
+     * Topic's name.
+     */
+    private final String name;
+
+    /**
+     * Tests' suite.
+     */
+    private final List<Test> tests;
+
+    /**
+     * The counters of the suite.
+     */
+    private final SuiteCounters counters;
+
+    /**
+     * Ctor.
+     *
+     * @param topic Topic's name.
+     */
+    public LiveTestSuite(final String topic) {
+        this.name = topic;
+        this.tests = Collections.synchronizedList(new ArrayList<>(0));
+        this.counters = new SuiteCounters();
+    }
+
+    /**
+     * Add the new test to the suite.
+     *
+     * @param provider Questions provider of the test.
+     * @return The test.
+     */
+    public SimpleTest add(final QuestionsProvider provider) {
+        final SimpleTest test = new SimpleTest(provider, this.counters);
+        this.tests.add(test);
+        return test;
+    }
+
+    /**
+     * The current result of the suite.
+     *
+     * @return The result.
+     */
+    public SuiteResult result() {
+        return this.counters.result();
+    }
+
+    @Override
+    public String topic() {
+        return this.name;
+    }
+
+    @Override
+    public List<Test> suite() {
+        synchronized (this.tests) {
+            return Collections.unmodifiableList(new ArrayList<>(this.tests));
+        }
+    }
+}
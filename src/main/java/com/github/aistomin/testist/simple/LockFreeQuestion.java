@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.JsonAppender;
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsText;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.json.simple.JSONObject;
+
+/**
+ * The lock-free implementation of {@link Question}. The answer is stored in
+ * an atomic slot which can be set only once, so all the reads are wait-free
+ * and the second answer is rejected atomically. The listeners of the answer
+ * are kept by a lock-free future.
+ *
+ * @since 1.0
+ */
+public final class LockFreeQuestion implements Question {
+
+    /**
+     * Question's text.
+     */
+    private final QuestionsText text;
+
+    /**
+     * List of answers that are considered as the correct ones.
+     */
+    private final List<Answer> expected;
+
+    /**
+     * The answer which we got from the client.
+     */
+    private final AtomicReference<Answer> got;
+
+    /**
+     * Whether the answer is correct, completed when the question is
+     * answered.
+     */
+    private final CompletableFuture<Boolean> graded;
+
+    /**
+     * Question's identifier.
+     */
+    private final String identifier;
+
+    /**
+     * Ctor.
+     *
+     * @param txt Question's text.
+     * @param answer Expected answer to the question.
+     */
+    public LockFreeQuestion(final QuestionsText txt, final Answer answer) {
+        this(txt, Collections.singletonList(answer));
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param txt Question's text.
+     * @param answers List of answers that are considered as the correct ones.
+     */
+    public LockFreeQuestion(
+        final QuestionsText txt, final List<Answer> answers
+    ) {
+        this.text = txt;
+        this.expected = answers;
+        this.got = new AtomicReference<>();
+        this.graded = new CompletableFuture<>();
+        this.identifier = txt.toDisplayableString();
+    }
+
+    @Override
+    public void answer(final Answer answer) {
+        this.grade(answer);
+    }
+
+    @Override
+    public Boolean grade(final Answer answer) {
+        if (answer == null) {
+            throw new IllegalArgumentException("Answer must be provided.");
+        }
+        if (!this.got.compareAndSet(null, answer)) {
+            throw new IllegalStateException(
+                "Can not answer the same question twice."
+            );
+        }
+        final Boolean res = this.isCorrect(answer);
+        this.graded.complete(res);
+        return res;
+    }
+
+    @Override
+    public Boolean isCorrect() {
+        return this.isCorrect(this.got.get());
+    }
+
+    @Override
+    public Boolean isAnswered() {
+        return this.got.get() != null;
+    }
+
+    @Override
+    public void listen(final Consumer<Boolean> listener) {
+        this.graded.thenAccept(listener);
+    }
+
+    @Override
+    public Answer help() {
+        return this.expected.get(0);
+    }
+
+    @Override
+    public JSONObject toJson() {
+        final Answer answer = this.got.get();
+        final Map<String, Object> json = new HashMap<>();
+        json.put("question", this.text.toJson());
+        json.put("expected", this.expected.get(0).toJson());
+        if (answer != null) {
+            json.put("got", answer.toJson());
+        }
+        return new JSONObject(json);
+    }
+
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        final Answer answer = this.got.get();
+        final JsonAppender json = new JsonAppender(out).begin()
+            .object("question", this.text)
+            .object("expected", this.expected.get(0));
+        if (answer != null) {
+            json.object("got", answer);
+        }
+        json.end();
+    }
+
+    @Override
+    public String toDisplayableString() {
+        final Answer answer = this.got.get();
+        final StringBuilder builder =
+            new StringBuilder(SimpleQuestion.CAPACITY);
+        SimpleQuestion.HEADER.fill(builder).with(this.text).done();
+        if (answer != null) {
+            if (this.isCorrect(answer)) {
+                SimpleQuestion.CORRECT.fill(builder)
+                    .with(this.expected.get(0))
+                    .done();
+            } else {
+                SimpleQuestion.WRONG.fill(builder)
+                    .with(this.expected.get(0))
+                    .with(answer)
+                    .done();
+            }
+        }
+        builder.append(SimpleQuestion.FOOTER);
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        final boolean res;
+        if (this == obj) {
+            res = true;
+        } else if (obj == null || getClass() != obj.getClass()) {
+            res = false;
+        } else {
+            res = this.identifier.equals(((LockFreeQuestion) obj).identifier);
+        }
+        return res;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.identifier.hashCode();
+    }
+
+    /**
+     * Check the answer against the expected ones.
+     *
+     * @param answer The answer or null if the question is not answered.
+     * @return True - the answer is correct; False - it isn't correct.
+     */
+    private boolean isCorrect(final Answer answer) {
+        boolean res = false;
+        if (answer != null) {
+            for (final Answer item : this.expected) {
+                if (item.validate(answer)) {
+                    res = true;
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+}
@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.JsonAppender;
+import com.github.aistomin.testist.MagicNumbers;
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.metrics.Metrics;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.json.simple.JSONObject;
+
+/**
+ * The result which is validated and evaluated once, when it is created. It
+ * is displayed and converted to JSON exactly like {@link SimpleResult}, but
+ * it keeps the amounts in primitive longs and the verdict in the fields, so
+ * reading it is a plain field access. The pass mark is compared without
+ * overflow for any amount of the questions, the test without the questions
+ * is passed.
+ *
+ * @since 1.0
+ */
+public final class PrecomputedResult implements Result {
+
+    /**
+     * The total amount of questions in the test.
+     */
+    private final long total;
+
+    /**
+     * The amount of answered questions in the test.
+     */
+    private final long answered;
+
+    /**
+     * The amount of correctly answered questions in the test.
+     */
+    private final long correct;
+
+    /**
+     * The percentage of the correct answers which must be reached to pass the
+     * test.
+     */
+    private final int percentage;
+
+    /**
+     * Is the test finished?
+     */
+    private final boolean finished;
+
+    /**
+     * Is the test passed?
+     */
+    private final boolean passed;
+
+    /**
+     * Ctor. The percentage is 100% in this case.
+     *
+     * @param all The total amount of questions in the test.
+     * @param done The amount of answered questions in the test.
+     * @param right The amount of correctly answered questions in the test.
+     */
+    public PrecomputedResult(
+        final long all, final long done, final long right
+    ) {
+        this(all, done, right, MagicNumbers.HUNDRED.number());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param all The total amount of questions in the test.
+     * @param done The amount of answered questions in the test.
+     * @param right The amount of correctly answered questions in the test.
+     * @param threshold The percentage of the correct answers which must be
+     *  reached to pass the test.
+     */
+    public PrecomputedResult(
+        final long all, final long done, final long right,
+        final int threshold
+    ) {
+        this(all, done, right, threshold, false);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param all The total amount of questions in the test or the amount of
+     *  questions asked so far if the test may have more questions.
+     * @param done The amount of answered questions in the test.
+     * @param right The amount of correctly answered questions in the test.
+     * @param threshold The percentage of the correct answers which must be
+     *  reached to pass the test.
+     * @param open Whether the test may have more questions, then it is not
+     *  finished whatever the amounts are.
+     */
+    PrecomputedResult(
+        final long all, final long done, final long right,
+        final int threshold, final boolean open
+    ) {
+        if (all < 0L || done < 0L || right < 0L) {
+            throw new IllegalArgumentException(
+                "All the constructor parameters must be positive."
+            );
+        }
+        if (threshold < 0 || threshold > MagicNumbers.HUNDRED.number()) {
+            throw new IllegalArgumentException(
+                "'percentage' parameter must be between 0 and 100."
+            );
+        }
+        if (all < done || done < right) {
+            throw new IllegalArgumentException(
+                "Constructor parameters must not contradict the common sense."
+            );
+        }
+        this.total = all;
+        this.answered = done;
+        this.correct = right;
+        this.percentage = threshold;
+        this.finished = !open && all == done;
+        this.passed = this.finished && PrecomputedResult.atLeast(
+            right, MagicNumbers.HUNDRED.number(), threshold, all
+        );
+    }
+
+    @Override
+    public Boolean isFinished() {
+        return this.finished;
+    }
+
+    @Override
+    public Boolean isPassed() {
+        return this.passed;
+    }
+
+    /**
+     * The total amount of questions in the test.
+     *
+     * @return The amount.
+     */
+    public long total() {
+        return this.total;
+    }
+
+    /**
+     * The amount of answered questions in the test.
+     *
+     * @return The amount.
+     */
+    public long answered() {
+        return this.answered;
+    }
+
+    /**
+     * The amount of correctly answered questions in the test.
+     *
+     * @return The amount.
+     */
+    public long correct() {
+        return this.correct;
+    }
+
+    @Override
+    public JSONObject toJson() {
+        final Map<String, String> json = new HashMap<>();
+        json.put("total", String.valueOf(this.total));
+        json.put("answered", String.valueOf(this.answered));
+        json.put("correct", String.valueOf(this.correct));
+        json.put("wrong", String.valueOf(this.answered - this.correct));
+        json.put("percentage", String.valueOf(this.percentage));
+        return new JSONObject(json);
+    }
+
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        new JsonAppender(out).begin()
+            .string("total", String.valueOf(this.total))
+            .string("answered", String.valueOf(this.answered))
+            .string("correct", String.valueOf(this.correct))
+            .string("wrong", String.valueOf(this.answered - this.correct))
+            .string("percentage", String.valueOf(this.percentage))
+            .end();
+    }
+
+    @Override
+    public String toDisplayableString() {
+        final long start = Metrics.start();
+        final StringBuilder builder =
+            new StringBuilder(MagicNumbers.HUNDRED.number());
+        this.writeDisplayable(builder);
+        final String res = builder.toString();
+        Metrics.stop(SimpleResult.DISPLAY, start);
+        return res;
+    }
+
+    @Override
+    public void writeDisplayable(final StringBuilder out) {
+        SimpleResult.HEADER.write(out);
+        if (this.finished) {
+            SimpleResult.FINISHED.write(out);
+        } else {
+            SimpleResult.UNFINISHED.fill(out)
+                .with(this.total)
+                .with(this.answered)
+                .done();
+        }
+        SimpleResult.SCORE.fill(out)
+            .with(this.correct)
+            .with(this.answered - this.correct)
+            .with(this.percentage)
+            .done();
+        if (this.passed) {
+            SimpleResult.PASSED.write(out);
+        } else if (this.finished) {
+            SimpleResult.FAILED.write(out);
+        } else {
+            SimpleResult.CONTINUE.write(out);
+        }
+        out.append(SimpleQuestion.FOOTER);
+    }
+
+    /**
+     * Compare two products of the non-negative numbers without overflow.
+     *
+     * @param left The first factor of the left product.
+     * @param lmul The second factor of the left product.
+     * @param right The first factor of the right product.
+     * @param rmul The second factor of the right product.
+     * @return True - the left product is greater than or equal to the right
+     *  one; False - otherwise.
+     */
+    private static boolean atLeast(
+        final long left, final long lmul, final long right, final long rmul
+    ) {
+        final long high = Math.multiplyHigh(left, lmul);
+        final long other = Math.multiplyHigh(right, rmul);
+        final boolean res;
+        if (high == other) {
+            res = Long.compareUnsigned(left * lmul, right * rmul) >= 0;
+        } else {
+            res = high > other;
+        }
+        return res;
+    }
+}
@@ -16,11 +16,16 @@
 package com.github.aistomin.testist.simple;
 
 import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.JsonAppender;
+import com.github.aistomin.testist.metrics.Histogram;
+import com.github.aistomin.testist.metrics.Metrics;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Pattern;
 import org.json.simple.JSONObject;
 
 /**
@@ -30,6 +35,28 @@ import org.json.simple.JSONObject;
  */
 public final class SimpleAnswer implements Answer {
 
+    /**
+     * The default maximal amount of the typos of {@link Conf#IGNORE_TYPOS}.
+     */
+    public static final int TYPOS = 1;
+
+    /**
+     * The timer of the validation.
+     */
+    private static final Histogram VALIDATE =
+        Metrics.timer("testist_answer_validate_nanoseconds");
+
+    /**
+     * Repeated whitespaces.
+     */
+    private static final Pattern SPACES = Pattern.compile("\\s+");
+
+    /**
+     * Everything except letters and digits.
+     */
+    private static final Pattern PUNCTUATION =
+        Pattern.compile("[^\\p{IsAlphabetic}\\p{IsDigit}]");
+
     /**
      * The answer's text.
      */
@@ -40,6 +67,12 @@ public final class SimpleAnswer implements Answer {
      */
     private final Set<Conf> configs;
 
+    /**
+     * The matcher of the answers with the typos or null if the typos are
+     * not ignored.
+     */
+    private final TypoMatcher typos;
+
     /**
      * Ctor.
      *
@@ -56,16 +89,39 @@ public final class SimpleAnswer implements Answer {
      * @param misc Additional configurations.
      */
     public SimpleAnswer(final String txt, final Set<Conf> misc) {
+        this(txt, misc, SimpleAnswer.TYPOS);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param txt The answer's text.
+     * @param misc Additional configurations.
+     * @param distance The maximal amount of the typos, which are the
+     *  inserted, deleted or replaced characters, if the configurations
+     *  contain {@link Conf#IGNORE_TYPOS}.
+     */
+    public SimpleAnswer(
+        final String txt, final Set<Conf> misc, final int distance
+    ) {
         this.configs = misc;
-        this.text = txt.trim().replaceAll("\\s+", " ");
+        this.text = SPACES.matcher(txt.trim()).replaceAll(" ");
+        if (misc.contains(Conf.IGNORE_TYPOS)) {
+            this.typos = new TypoMatcher(normalise(this.text, misc), distance);
+        } else {
+            this.typos = null;
+        }
     }
 
     @Override
     public Boolean validate(final Answer answer) {
-        return answer != null
-            && this.normalise(this.toDisplayableString()).equals(
-                this.normalise(answer.toDisplayableString())
+        final long start = Metrics.start();
+        final boolean res = answer != null
+            && this.matches(
+                normalise(answer.toDisplayableString(), this.configs)
             );
+        Metrics.stop(SimpleAnswer.VALIDATE, start);
+        return res;
     }
 
     @Override
@@ -75,19 +131,51 @@ public final class SimpleAnswer implements Answer {
         return new JSONObject(json);
     }
 
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        new JsonAppender(out).begin().string("text", this.text).end();
+    }
+
     @Override
     public String toDisplayableString() {
         return this.text;
     }
 
+    /**
+     * Additional configurations of the answer.
+     *
+     * @return Configurations.
+     */
+    Set<Conf> configs() {
+        return this.configs;
+    }
+
+    /**
+     * Does the normalised text of the other answer match this answer?
+     *
+     * @param normalised The text normalised with the configurations of this
+     *  answer.
+     * @return True - matches; False - doesn't match.
+     */
+    boolean matches(final String normalised) {
+        final boolean res;
+        if (this.typos == null) {
+            res = normalise(this.text, this.configs).equals(normalised);
+        } else {
+            res = this.typos.matches(normalised);
+        }
+        return res;
+    }
+
     /**
      * Normalise the original string.
      *
      * @param str Original string.
+     * @param confs Configurations which define the normalisation.
      * @return Normalised string.
      */
-    private String normalise(final String str) {
-        return this.fixPunctuationIfNecessary(this.fixCaseIfNecessary(str));
+    static String normalise(final String str, final Set<Conf> confs) {
+        return fixPunctuationIfNecessary(fixCaseIfNecessary(str, confs), confs);
     }
 
     /**
@@ -95,11 +183,14 @@ public final class SimpleAnswer implements Answer {
      * the string.
      *
      * @param str Original string.
+     * @param confs Configurations.
      * @return Normalised string.
      */
-    private String fixCaseIfNecessary(final String str) {
+    private static String fixCaseIfNecessary(
+        final String str, final Set<Conf> confs
+    ) {
         final String res;
-        if (this.configs.contains(Conf.IGNORE_CASE)) {
+        if (confs.contains(Conf.IGNORE_CASE)) {
             res = str.toLowerCase(Locale.getDefault());
         } else {
             res = str;
@@ -112,12 +203,15 @@ public final class SimpleAnswer implements Answer {
      * normalise the string.
      *
      * @param str Original string.
+     * @param confs Configurations.
      * @return Normalised string.
      */
-    private String fixPunctuationIfNecessary(final String str) {
+    private static String fixPunctuationIfNecessary(
+        final String str, final Set<Conf> confs
+    ) {
         final String res;
-        if (this.configs.contains(Conf.IGNORE_PUNCTUATION)) {
-            res = str.replaceAll("[^\\p{IsAlphabetic}\\p{IsDigit}]", "");
+        if (confs.contains(Conf.IGNORE_PUNCTUATION)) {
+            res = PUNCTUATION.matcher(str).replaceAll("");
         } else {
             res = str;
         }
@@ -137,6 +231,12 @@ public final class SimpleAnswer implements Answer {
         /**
          * Ignore punctuation inside the text.
          */
-        IGNORE_PUNCTUATION
+        IGNORE_PUNCTUATION,
+
+        /**
+         * Ignore the typos: the text may differ by a few inserted, deleted
+         * or replaced characters, one by default.
+         */
+        IGNORE_TYPOS
     }
 }
@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.Answer;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.json.simple.JSONObject;
+
+/**
+ * The compiled answer key: the set of {@link SimpleAnswer}s which are
+ * considered as the correct ones. Every expected answer is normalised only
+ * once, in the constructor, so validation of the answer costs one
+ * normalisation and one hash lookup per distinct set of
+ * {@link SimpleAnswer.Conf}, no matter how many expected answers the key has.
+ * The answers which ignore the typos can't be looked up, they are matched
+ * one by one, but the answer is still normalised once per distinct set of
+ * the configurations. The first answer is the primary one, it is used to
+ * display the key.
+ *
+ * @since 1.0
+ */
+public final class SimpleAnswerKey implements Answer {
+
+    /**
+     * The primary answer.
+     */
+    private final SimpleAnswer primary;
+
+    /**
+     * Normalised expected answers grouped by their configurations.
+     */
+    private final Map<Set<SimpleAnswer.Conf>, Set<String>> index;
+
+    /**
+     * Expected answers which ignore the typos grouped by their
+     * configurations.
+     */
+    private final Map<Set<SimpleAnswer.Conf>, List<SimpleAnswer>> typos;
+
+    /**
+     * Ctor.
+     *
+     * @param answers The answers that are considered as the correct ones.
+     */
+    public SimpleAnswerKey(final List<SimpleAnswer> answers) {
+        if (answers.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Answer key must contain at least one answer."
+            );
+        }
+        this.primary = answers.get(0);
+        this.index = new LinkedHashMap<>();
+        this.typos = new LinkedHashMap<>();
+        for (final SimpleAnswer answer : answers) {
+            final Set<SimpleAnswer.Conf> confs =
+                EnumSet.noneOf(SimpleAnswer.Conf.class);
+            confs.addAll(answer.configs());
+            if (confs.contains(SimpleAnswer.Conf.IGNORE_TYPOS)) {
+                this.typos.computeIfAbsent(confs, key -> new ArrayList<>(1))
+                    .add(answer);
+            } else {
+                this.index.computeIfAbsent(confs, key -> new HashSet<>()).add(
+                    SimpleAnswer.normalise(answer.toDisplayableString(), confs)
+                );
+            }
+        }
+    }
+
+    @Override
+    public Boolean validate(final Answer answer) {
+        boolean res = false;
+        if (answer != null) {
+            final String text = answer.toDisplayableString();
+            for (final Map.Entry<Set<SimpleAnswer.Conf>, Set<String>> entry
+                : this.index.entrySet()) {
+                if (
+                    entry.getValue().contains(
+                        SimpleAnswer.normalise(text, entry.getKey())
+                    )
+                ) {
+                    res = true;
+                    break;
+                }
+            }
+            for (final Map.Entry<Set<SimpleAnswer.Conf>, List<SimpleAnswer>>
+                entry : this.typos.entrySet()) {
+                res = res || SimpleAnswerKey.matches(
+                    entry.getValue(),
+                    SimpleAnswer.normalise(text, entry.getKey())
+                );
+            }
+        }
+        return res;
+    }
+
+    @Override
+    public JSONObject toJson() {
+        return this.primary.toJson();
+    }
+
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        this.primary.writeJson(out);
+    }
+
+    @Override
+    public String toDisplayableString() {
+        return this.primary.toDisplayableString();
+    }
+
+    /**
+     * Does any of the expected answers match the normalised text?
+     *
+     * @param expected The expected answers with the same configurations.
+     * @param normalised The text normalised with these configurations.
+     * @return True - some answer matches; False - none matches.
+     */
+    private static boolean matches(
+        final List<SimpleAnswer> expected, final String normalised
+    ) {
+        boolean res = false;
+        for (final SimpleAnswer answer : expected) {
+            if (answer.matches(normalised)) {
+                res = true;
+                break;
+            }
+        }
+        return res;
+    }
+}
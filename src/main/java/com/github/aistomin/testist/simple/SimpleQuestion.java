@@ -16,17 +16,28 @@
 package com.github.aistomin.testist.simple;
 
 import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.JsonAppender;
 import com.github.aistomin.testist.Question;
 import com.github.aistomin.testist.QuestionsText;
+import com.github.aistomin.testist.Template;
+import com.github.aistomin.testist.metrics.Counter;
+import com.github.aistomin.testist.metrics.Histogram;
+import com.github.aistomin.testist.metrics.Metrics;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import org.json.simple.JSONObject;
 
 /**
- * The simple implementation of {@link Question}.
+ * The simple implementation of {@link Question}. The question has only two
+ * renderings: before and after it is answered. The rendering is cached, so
+ * the question is rendered at most twice, and the cached rendering is read
+ * without locking.
  *
  * @since 0.1
  */
@@ -37,6 +48,49 @@ public final class SimpleQuestion implements Question {
      */
     public static final int CAPACITY = 100;
 
+    /**
+     * The template of the question's header.
+     */
+    static final Template HEADER =
+        new Template("%n**********************************%n%s%n");
+
+    /**
+     * The template of the correct answer.
+     */
+    static final Template CORRECT =
+        new Template("YOUR ANSWER IS CORRECT!%nANSWER: %s%n");
+
+    /**
+     * The template of the wrong answer.
+     */
+    static final Template WRONG = new Template(
+        "YOUR ANSWER IS NOT CORRECT!%nCORRECT ANSWER: %s%n"
+            + "PROVIDED ANSWER: %s%n"
+    );
+
+    /**
+     * The question's footer.
+     */
+    static final String FOOTER = "**********************************";
+
+    /**
+     * The counter of the answers.
+     */
+    private static final Counter ANSWERS =
+        Metrics.counter("testist_question_answers_total");
+
+    /**
+     * The timer of the rendering.
+     */
+    private static final Histogram DISPLAY =
+        Metrics.timer("testist_question_display_nanoseconds");
+
+    /**
+     * The histogram of the length of the rendered question.
+     */
+    private static final Histogram LENGTH =
+        Metrics.histogram("testist_question_display_chars");
+
     /**
      * Question's text.
      */
@@ -62,6 +116,18 @@ public final class SimpleQuestion implements Question {
      */
     private final Object mutex;
 
+    /**
+     * Whether the answer is correct, completed when the question is
+     * answered.
+     */
+    private final CompletableFuture<Boolean> graded;
+
+    /**
+     * The rendering of the question in its current state or null if the
+     * question isn't rendered in this state yet.
+     */
+    private volatile String rendered;
+
     /**
      * Ctor.
      *
@@ -85,11 +151,18 @@ public final class SimpleQuestion implements Question {
         this.expected = answers;
         this.mutex = new Object();
         this.got = new ArrayList<>(1);
+        this.graded = new CompletableFuture<>();
         this.identifier = txt.toDisplayableString();
     }
 
     @Override
     public void answer(final Answer answer) {
+        this.grade(answer);
+    }
+
+    @Override
+    public Boolean grade(final Answer answer) {
+        final Boolean res;
         synchronized (this.mutex) {
             if (this.got.size() != 0) {
                 throw new IllegalStateException(
@@ -97,7 +170,12 @@ public final class SimpleQuestion implements Question {
                 );
             }
             this.got.add(answer);
+            this.rendered = null;
+            res = this.isCorrect();
         }
+        SimpleQuestion.ANSWERS.add(1L);
+        this.graded.complete(res);
+        return res;
     }
 
     @Override
@@ -117,6 +195,11 @@ public final class SimpleQuestion implements Question {
         }
     }
 
+    @Override
+    public void listen(final Consumer<Boolean> listener) {
+        this.graded.thenAccept(listener);
+    }
+
     @Override
     public Answer help() {
         return this.expected.get(0);
@@ -136,41 +219,69 @@ public final class SimpleQuestion implements Question {
     }
 
     @Override
-    public String toDisplayableString() {
+    public void writeJson(final Appendable out) throws IOException {
         synchronized (this.mutex) {
-            final StringBuilder builder = new StringBuilder(CAPACITY);
-            builder.append(
-                String.format(
-                    "%n**********************************%n%s%n",
-                    this.text.toDisplayableString()
-                )
-            );
+            final JsonAppender json = new JsonAppender(out).begin()
+                .object("question", this.text)
+                .object("expected", this.expected.get(0));
             if (this.isAnswered()) {
-                if (this.isCorrect()) {
-                    builder.append(
-                        String.format(
-                            "YOUR ANSWER IS CORRECT!%nANSWER: %s%n",
-                            this.expected.get(0).toDisplayableString()
-                        )
-                    );
-                } else {
-                    builder.append(
-                        String.format(
-                            "YOUR ANSWER IS NOT CORRECT!%nCORRECT ANSWER: %s%n",
-                            this.expected.get(0).toDisplayableString()
-                        )
-                    );
-                    builder.append(
-                        String.format(
-                            "PROVIDED ANSWER: %s%n",
-                            this.got.get(0).toDisplayableString()
-                        )
-                    );
-                }
+                json.object("got", this.got.get(0));
+            }
+            json.end();
+        }
+    }
+
+    @Override
+    public String toDisplayableString() {
+        final long start = Metrics.start();
+        String res = this.rendered;
+        if (res == null) {
+            res = this.display();
+        }
+        Metrics.stop(SimpleQuestion.DISPLAY, start);
+        SimpleQuestion.LENGTH.record(res.length());
+        return res;
+    }
+
+    /**
+     * Render the question in its current state unless it is already
+     * rendered.
+     *
+     * @return The question's text with the answer if it is answered.
+     */
+    private String display() {
+        synchronized (this.mutex) {
+            String res = this.rendered;
+            if (res == null) {
+                res = this.render();
+                this.rendered = res;
+            }
+            return res;
+        }
+    }
+
+    /**
+     * Render the question. Must be called under the mutex.
+     *
+     * @return The question's text with the answer if it is answered.
+     */
+    private String render() {
+        final StringBuilder builder = new StringBuilder(CAPACITY);
+        SimpleQuestion.HEADER.fill(builder).with(this.text).done();
+        if (this.isAnswered()) {
+            if (this.isCorrect()) {
+                SimpleQuestion.CORRECT.fill(builder)
+                    .with(this.expected.get(0))
+                    .done();
+            } else {
+                SimpleQuestion.WRONG.fill(builder)
+                    .with(this.expected.get(0))
+                    .with(this.got.get(0))
+                    .done();
             }
-            builder.append("**********************************");
-            return builder.toString();
         }
+        builder.append(SimpleQuestion.FOOTER);
+        return builder.toString();
     }
 
     @Override
@@ -0,0 +1,73 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.QuestionsStream;
+import java.util.Iterator;
+
+/**
+ * The {@link QuestionsStream} over the questions of {@link QuestionsProvider}.
+ * The provider is asked for the questions only when the first question is
+ * requested, but then it builds its whole list, so the stream is only as lazy
+ * as the provider. The stream of
+ * {@link com.github.aistomin.testist.bank.MappedQuestionsProvider#stream()}
+ * decodes the questions one by one.
+ *
+ * @since 1.0
+ */
+public final class SimpleQuestionsStream implements QuestionsStream {
+
+    /**
+     * Questions provider.
+     */
+    private final QuestionsProvider provider;
+
+    /**
+     * Ctor.
+     *
+     * @param origin Questions provider.
+     */
+    public SimpleQuestionsStream(final QuestionsProvider origin) {
+        this.provider = origin;
+    }
+
+    @Override
+    public Iterator<Question> iterator() {
+        return new Iterator<>() {
+            private Iterator<Question> origin;
+
+            @Override
+            public boolean hasNext() {
+                return this.items().hasNext();
+            }
+
+            @Override
+            public Question next() {
+                return this.items().next();
+            }
+
+            private Iterator<Question> items() {
+                if (this.origin == null) {
+                    this.origin = SimpleQuestionsStream.this.provider
+                        .questions().iterator();
+                }
+                return this.origin;
+            }
+        };
+    }
+}
@@ -15,8 +15,13 @@
  */
 package com.github.aistomin.testist.simple;
 
+import com.github.aistomin.testist.JsonAppender;
 import com.github.aistomin.testist.MagicNumbers;
 import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.Template;
+import com.github.aistomin.testist.metrics.Histogram;
+import com.github.aistomin.testist.metrics.Metrics;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import org.json.simple.JSONObject;
@@ -29,6 +34,56 @@ import org.json.simple.JSONObject;
  */
 public final class SimpleResult implements Result {
 
+    /**
+     * The timer of the rendering.
+     */
+    static final Histogram DISPLAY =
+        Metrics.timer("testist_result_display_nanoseconds");
+
+    /**
+     * The result's header.
+     */
+    static final Template HEADER =
+        new Template("%n**********************************%n");
+
+    /**
+     * The status of the finished test.
+     */
+    static final Template FINISHED =
+        new Template("YOUR TEST IS FINISHED.%n");
+
+    /**
+     * The status of the unfinished test.
+     */
+    static final Template UNFINISHED = new Template(
+        "YOU TEST IS NOT FINISHED. %nTOTAL: %d, %nANSWERED: %d%n"
+    );
+
+    /**
+     * The score.
+     */
+    static final Template SCORE = new Template(
+        "CORRECT: %d%nWRONG: %d%nPASSING PERCENTAGE: %d%n"
+    );
+
+    /**
+     * The verdict of the passed test.
+     */
+    static final Template PASSED =
+        new Template(":) CONGRATULATIONS!!! :)%n");
+
+    /**
+     * The verdict of the failed test.
+     */
+    static final Template FAILED =
+        new Template(":( PREPARE AND TRY AGAIN LATER :(%n");
+
+    /**
+     * The verdict of the unfinished test.
+     */
+    static final Template CONTINUE =
+        new Template("PLEASE CONTINUE.%n");
+
     /**
      * User's input data.
      */
@@ -87,6 +142,33 @@ public final class SimpleResult implements Result {
             / this.data.total >= this.percentage;
     }
 
+    /**
+     * The total amount of questions in the test.
+     *
+     * @return The amount.
+     */
+    public Integer total() {
+        return this.data.total;
+    }
+
+    /**
+     * The amount of answered questions in the test.
+     *
+     * @return The amount.
+     */
+    public Integer answered() {
+        return this.data.answered;
+    }
+
+    /**
+     * The amount of correctly answered questions in the test.
+     *
+     * @return The amount.
+     */
+    public Integer correct() {
+        return this.data.correct;
+    }
+
     @Override
     public JSONObject toJson() {
         this.validate();
@@ -100,36 +182,53 @@ public final class SimpleResult implements Result {
     }
 
     @Override
-    public String toDisplayableString() {
+    public void writeJson(final Appendable out) throws IOException {
         this.validate();
+        new JsonAppender(out).begin()
+            .string("total", this.data.total.toString())
+            .string("answered", this.data.answered.toString())
+            .string("correct", this.data.correct.toString())
+            .string("wrong", this.data.wrong().toString())
+            .string("percentage", this.percentage.toString())
+            .end();
+    }
+
+    @Override
+    public String toDisplayableString() {
+        final long start = Metrics.start();
         final StringBuilder builder =
             new StringBuilder(MagicNumbers.HUNDRED.number());
-        builder.append("%n**********************************%n");
+        this.writeDisplayable(builder);
+        final String res = builder.toString();
+        Metrics.stop(SimpleResult.DISPLAY, start);
+        return res;
+    }
+
+    @Override
+    public void writeDisplayable(final StringBuilder out) {
+        this.validate();
+        SimpleResult.HEADER.write(out);
         if (this.isFinished()) {
-            builder.append("YOUR TEST IS FINISHED.%n");
+            SimpleResult.FINISHED.write(out);
         } else {
-            builder.append(
-                String.format(
-                    "YOU TEST IS NOT FINISHED. %nTOTAL: %d, %nANSWERED: %d%n",
-                    this.data.total, this.data.answered
-                )
-            );
+            SimpleResult.UNFINISHED.fill(out)
+                .with(this.data.total)
+                .with(this.data.answered)
+                .done();
         }
-        builder.append(
-            String.format(
-                "CORRECT: %d%nWRONG: %d%nPASSING PERCENTAGE: %d%n",
-                this.data.correct, this.data.wrong(), this.percentage
-            )
-        );
+        SimpleResult.SCORE.fill(out)
+            .with(this.data.correct)
+            .with(this.data.wrong())
+            .with(this.percentage)
+            .done();
         if (this.isPassed()) {
-            builder.append(":) CONGRATULATIONS!!! :)%n");
+            SimpleResult.PASSED.write(out);
         } else if (this.isFinished()) {
-            builder.append(":( PREPARE AND TRY AGAIN LATER :(%n");
+            SimpleResult.FAILED.write(out);
         } else {
-            builder.append("PLEASE CONTINUE.%n");
+            SimpleResult.CONTINUE.write(out);
         }
-        builder.append("**********************************");
-        return builder.toString();
+        out.append(SimpleQuestion.FOOTER);
     }
 
     /**
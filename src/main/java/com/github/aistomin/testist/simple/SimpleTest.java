@@ -19,16 +19,32 @@ import com.github.aistomin.testist.Question;
 import com.github.aistomin.testist.QuestionsProvider;
 import com.github.aistomin.testist.Result;
 import com.github.aistomin.testist.Test;
-import java.util.ArrayList;
+import com.github.aistomin.testist.metrics.Histogram;
+import com.github.aistomin.testist.metrics.Metrics;
 import java.util.List;
 
 /**
- * The simple implementation of {@link Test}.
+ * The simple implementation of {@link Test}. The test keeps track of the
+ * current position, so the questions can be skipped and answered later: the
+ * next question is the first unanswered one starting from the current
+ * position, the search wraps around to the beginning of the test.
+ *
+ * <p>The test returns the provider's questions themselves and listens to
+ * their answers, so every answer is counted when it is given no matter
+ * which reference of the question was answered. Both the navigation and
+ * {@link #currentTestResult()} read the counters only, without touching the
+ * questions.</p>
  *
  * @since 0.1
  */
 public final class SimpleTest implements Test {
 
+    /**
+     * The timer of the search of the next question.
+     */
+    private static final Histogram NEXT =
+        Metrics.timer("testist_test_next_question_nanoseconds");
+
     /**
      * The list of the questions of the test.
      */
@@ -39,14 +55,62 @@ public final class SimpleTest implements Test {
      */
     private final Object mutex;
 
+    /**
+     * The questions which are not answered yet.
+     */
+    private final Unanswered pending;
+
+    /**
+     * The counters of the answered questions.
+     */
+    private final Tally tally;
+
+    /**
+     * The index of the current question.
+     */
+    private int cursor;
+
     /**
      * Ctor.
      *
      * @param provider Questions provider.
      */
     public SimpleTest(final QuestionsProvider provider) {
-        this.questions = provider.questions();
+        this(provider.questions(), null);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param provider Questions provider.
+     * @param counters The counters of the suite which the test reports its
+     *  answers to.
+     */
+    SimpleTest(final QuestionsProvider provider, final SuiteCounters counters) {
+        this(provider.questions(), counters);
+        counters.register(this.questions.size());
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param items The questions of the test.
+     * @param counters The counters of the suite which the test reports its
+     *  answers to or null.
+     */
+    private SimpleTest(
+        final List<Question> items, final SuiteCounters counters
+    ) {
+        this.questions = items;
         this.mutex = new Object();
+        this.pending = new Unanswered(this.questions.size());
+        this.tally = new Tally(this.questions.size(), counters);
+        for (int index = 0; index < this.questions.size(); ++index) {
+            final int position = index;
+            this.questions.get(index).listen(
+                correct -> this.count(position, correct)
+            );
+        }
     }
 
     @Override
@@ -58,46 +122,98 @@ public final class SimpleTest implements Test {
 
     @Override
     public Question nextQuestion() {
+        final long start = Metrics.start();
+        final Question question;
         synchronized (this.mutex) {
-            return this.questions.get(this.nextIndex());
+            this.cursor = this.nextIndex();
+            question = this.questions.get(this.cursor);
         }
+        Metrics.stop(SimpleTest.NEXT, start);
+        return question;
     }
 
-    @Override
-    public Result currentTestResult() {
+    /**
+     * Skip the next question, so it will be asked again only after all the
+     * following unanswered questions.
+     */
+    public void skip() {
         synchronized (this.mutex) {
-            final List<Question> correct = new ArrayList<>(0);
-            final List<Question> wrong = new ArrayList<>(0);
-            for (final Question question : this.questions) {
-                if (question.isAnswered()) {
-                    if (question.isCorrect()) {
-                        correct.add(question);
-                    } else {
-                        wrong.add(question);
-                    }
-                }
-            }
-            final int cor = correct.size();
-            final int wrg = wrong.size();
-            return new SimpleResult(
-                this.questions.size(), cor + wrg, cor
-            );
+            this.cursor = this.nextIndex() + 1;
         }
     }
 
     /**
-     * The next question's index.
+     * Go to the question with the index. The following calls of
+     * {@link #nextQuestion()} continue from this question.
+     *
+     * @param index The question's index.
+     * @return The question.
+     */
+    public Question question(final int index) {
+        synchronized (this.mutex) {
+            final Question question = this.questions.get(index);
+            this.cursor = index;
+            return question;
+        }
+    }
+
+    /**
+     * The index of the current question, which is the question returned by
+     * the last call of {@link #nextQuestion()} or {@link #question(int)}.
      *
      * @return The index.
      */
+    public int position() {
+        synchronized (this.mutex) {
+            return this.cursor;
+        }
+    }
+
+    @Override
+    public Result currentTestResult() {
+        return this.tally.result(this.questions.size());
+    }
+
+    /**
+     * The next question's index.
+     *
+     * @return The index or the amount of questions if all of them are
+     *  answered.
+     */
     private Integer nextIndex() {
-        int index = this.questions.size();
-        for (final Question question : this.questions) {
-            if (!question.isAnswered()) {
-                index = this.questions.indexOf(question);
-                break;
-            }
+        int index = this.unanswered(this.cursor);
+        if (index == -1) {
+            index = this.questions.size();
+        }
+        return index;
+    }
+
+    /**
+     * The first unanswered question's index starting from the position. The
+     * search wraps around to the beginning of the test.
+     *
+     * @param from The position.
+     * @return The index or -1 if all the questions are answered.
+     */
+    private int unanswered(final int from) {
+        int index = this.pending.next(from);
+        if (index == -1) {
+            index = this.pending.next(0);
         }
         return index;
     }
+
+    /**
+     * Count the answered question unless it is already counted.
+     *
+     * @param index The question's index.
+     * @param correct Whether the question is answered correctly.
+     */
+    private void count(final int index, final boolean correct) {
+        synchronized (this.mutex) {
+            if (this.pending.remove(index)) {
+                this.tally.add(correct);
+            }
+        }
+    }
 }
@@ -15,7 +15,9 @@
  */
 package com.github.aistomin.testist.simple;
 
+import com.github.aistomin.testist.JsonAppender;
 import com.github.aistomin.testist.QuestionsText;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 import org.json.simple.JSONObject;
@@ -48,6 +50,11 @@ public final class SimpleText implements QuestionsText {
         return new JSONObject(json);
     }
 
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        new JsonAppender(out).begin().string("text", this.text).end();
+    }
+
     @Override
     public String toDisplayableString() {
         return this.text;
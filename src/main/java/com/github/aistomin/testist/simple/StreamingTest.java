@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsStream;
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.Test;
+import java.util.Iterator;
+
+/**
+ * The implementation of {@link Test} which pulls the questions from
+ * {@link QuestionsStream} one by one. Only the current question is kept in
+ * memory, so the test's memory footprint doesn't depend on the amount of the
+ * questions, and the stream may be unbounded. The answer to the current
+ * question is counted when the test moves to the next question or reports
+ * the result. Since the amount of the questions is not known until the
+ * stream is exhausted, the total amount of the questions in the result is
+ * the amount of the questions asked so far, and the test is not finished
+ * while the stream has more questions.
+ *
+ * @since 1.0
+ */
+public final class StreamingTest implements Test {
+
+    /**
+     * The questions.
+     */
+    private final Iterator<Question> source;
+
+    /**
+     * Mutex object.
+     */
+    private final Object mutex;
+
+    /**
+     * The counters of the answered questions.
+     */
+    private final Tally tally;
+
+    /**
+     * The current question.
+     */
+    private Question current;
+
+    /**
+     * Is the answer to the current question counted?
+     */
+    private boolean counted;
+
+    /**
+     * The amount of the questions pulled from the stream.
+     */
+    private int pulled;
+
+    /**
+     * Ctor.
+     *
+     * @param stream The questions.
+     */
+    public StreamingTest(final QuestionsStream stream) {
+        this.source = stream.iterator();
+        this.mutex = new Object();
+        this.tally = new Tally();
+    }
+
+    @Override
+    public Boolean hasMoreQuestions() {
+        synchronized (this.mutex) {
+            return this.current != null && !this.current.isAnswered()
+                || this.source.hasNext();
+        }
+    }
+
+    @Override
+    public Question nextQuestion() {
+        synchronized (this.mutex) {
+            if (this.current == null || this.current.isAnswered()) {
+                final Question next = this.source.next();
+                this.count();
+                this.current = next;
+                this.counted = false;
+                this.pulled += 1;
+            }
+            return this.current;
+        }
+    }
+
+    @Override
+    public Result currentTestResult() {
+        synchronized (this.mutex) {
+            this.count();
+            return this.tally.result(this.pulled, this.source.hasNext());
+        }
+    }
+
+    /**
+     * Count the answer to the current question once it is answered.
+     */
+    private void count() {
+        if (this.current != null && !this.counted
+            && this.current.isAnswered()) {
+            this.tally.add(this.current.isCorrect());
+            this.counted = true;
+        }
+    }
+}
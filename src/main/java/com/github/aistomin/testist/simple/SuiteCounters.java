@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The counters of the suite which are updated by its tests as the answers
+ * come in, so the suite's result is read without scanning the tests. Every
+ * counter only grows and a counter is never incremented before the
+ * counter which bounds it, so reading them in the reverse order gives the
+ * consistent result.
+ *
+ * @since 1.0
+ */
+final class SuiteCounters {
+
+    /**
+     * The amount of the tests.
+     */
+    private final LongAdder tests;
+
+    /**
+     * The amount of the finished tests.
+     */
+    private final LongAdder finished;
+
+    /**
+     * The amount of the passed tests.
+     */
+    private final LongAdder passed;
+
+    /**
+     * The total amount of the questions.
+     */
+    private final LongAdder total;
+
+    /**
+     * The amount of the answered questions.
+     */
+    private final LongAdder answered;
+
+    /**
+     * The amount of the correctly answered questions.
+     */
+    private final LongAdder correct;
+
+    /**
+     * Ctor.
+     */
+    SuiteCounters() {
+        this.tests = new LongAdder();
+        this.finished = new LongAdder();
+        this.passed = new LongAdder();
+        this.total = new LongAdder();
+        this.answered = new LongAdder();
+        this.correct = new LongAdder();
+    }
+
+    /**
+     * Count the new test. The test without the questions is finished and
+     * passed right away, as its {@link PrecomputedResult} is.
+     *
+     * @param size The amount of the questions in the test.
+     */
+    void register(final int size) {
+        this.tests.increment();
+        this.total.add(size);
+        if (size == 0) {
+            this.finished.increment();
+            this.passed.increment();
+        }
+    }
+
+    /**
+     * Count the answered question.
+     *
+     * @param right Whether the question is answered correctly.
+     * @param done Whether the question is the last one of its test.
+     * @param pass Whether the test is passed.
+     */
+    void add(final boolean right, final boolean done, final boolean pass) {
+        this.answered.increment();
+        if (right) {
+            this.correct.increment();
+        }
+        if (done) {
+            this.finished.increment();
+            if (pass) {
+                this.passed.increment();
+            }
+        }
+    }
+
+    /**
+     * The suite's result.
+     *
+     * @return The result.
+     */
+    SuiteResult result() {
+        final long right = this.correct.sum();
+        final long done = this.answered.sum();
+        final long pass = this.passed.sum();
+        final long complete = this.finished.sum();
+        final long all = this.total.sum();
+        return new SuiteResult(
+            this.tests.sum(), complete, pass, all, done, right
+        );
+    }
+}
@@ -0,0 +1,306 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.JsonAppender;
+import com.github.aistomin.testist.MagicNumbers;
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.Template;
+import com.github.aistomin.testist.Test;
+import com.github.aistomin.testist.TestSuite;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import org.json.simple.JSONObject;
+
+/**
+ * The aggregated result of the tests of the suite. The suite is finished if
+ * all its tests are finished and passed if all its tests are passed. The
+ * amounts of the questions are summed up from the tests' results which are
+ * {@link SimpleResult}s or {@link PrecomputedResult}s, the other results are
+ * counted only as finished or passed tests.
+ *
+ * @since 1.0
+ */
+public final class SuiteResult implements Result {
+
+    /**
+     * The index of the amount of the tests.
+     */
+    private static final int TESTS = 0;
+
+    /**
+     * The index of the amount of the finished tests.
+     */
+    private static final int FINISHED = 1;
+
+    /**
+     * The index of the amount of the passed tests.
+     */
+    private static final int PASSED = 2;
+
+    /**
+     * The index of the total amount of the questions.
+     */
+    private static final int TOTAL = 3;
+
+    /**
+     * The index of the amount of the answered questions.
+     */
+    private static final int ANSWERED = 4;
+
+    /**
+     * The index of the amount of the correctly answered questions.
+     */
+    private static final int CORRECT = 5;
+
+    /**
+     * The amount of the counters.
+     */
+    private static final int COUNTERS = 6;
+
+    /**
+     * The template of the displayable string.
+     */
+    private static final Template DISPLAY = new Template(
+        "%n**********************************%n"
+            + "TESTS: %d, FINISHED: %d, PASSED: %d (%s%%)%n"
+            + "QUESTIONS: %d, ANSWERED: %d, CORRECT: %d%n"
+            + "**********************************"
+    );
+
+    /**
+     * The counters.
+     */
+    private final long[] counts;
+
+    /**
+     * Ctor. The results of the suite's tests are collected in parallel.
+     *
+     * @param suite The suite.
+     */
+    public SuiteResult(final TestSuite suite) {
+        this(
+            suite.suite().parallelStream()
+                .map(Test::currentTestResult)
+                .collect(
+                    () -> new long[SuiteResult.COUNTERS],
+                    SuiteResult::add, SuiteResult::merge
+                )
+        );
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param tests The amount of the tests.
+     * @param finished The amount of the finished tests.
+     * @param passed The amount of the passed tests.
+     * @param total The total amount of the questions.
+     * @param answered The amount of the answered questions.
+     * @param correct The amount of the correctly answered questions.
+     */
+    SuiteResult(
+        final long tests, final long finished, final long passed,
+        final long total, final long answered, final long correct
+    ) {
+        this(new long[] {tests, finished, passed, total, answered, correct});
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param values The counters.
+     */
+    private SuiteResult(final long[] values) {
+        this.counts = values;
+    }
+
+    @Override
+    public Boolean isFinished() {
+        return this.finished() == this.tests();
+    }
+
+    @Override
+    public Boolean isPassed() {
+        return this.passed() == this.tests();
+    }
+
+    /**
+     * The amount of the tests.
+     *
+     * @return The amount.
+     */
+    public long tests() {
+        return this.counts[SuiteResult.TESTS];
+    }
+
+    /**
+     * The amount of the finished tests.
+     *
+     * @return The amount.
+     */
+    public long finished() {
+        return this.counts[SuiteResult.FINISHED];
+    }
+
+    /**
+     * The amount of the passed tests.
+     *
+     * @return The amount.
+     */
+    public long passed() {
+        return this.counts[SuiteResult.PASSED];
+    }
+
+    /**
+     * The total amount of the questions.
+     *
+     * @return The amount.
+     */
+    public long total() {
+        return this.counts[SuiteResult.TOTAL];
+    }
+
+    /**
+     * The amount of the answered questions.
+     *
+     * @return The amount.
+     */
+    public long answered() {
+        return this.counts[SuiteResult.ANSWERED];
+    }
+
+    /**
+     * The amount of the correctly answered questions.
+     *
+     * @return The amount.
+     */
+    public long correct() {
+        return this.counts[SuiteResult.CORRECT];
+    }
+
+    /**
+     * The percentage of the passed tests.
+     *
+     * @return The percentage or 0 if the suite has no tests.
+     */
+    public double passRate() {
+        double res = 0.0;
+        if (this.tests() > 0L) {
+            res = this.passed() * MagicNumbers.HUNDRED.number()
+                / (double) this.tests();
+        }
+        return res;
+    }
+
+    @Override
+    public JSONObject toJson() {
+        final Map<String, String> json = new HashMap<>();
+        json.put("tests", String.valueOf(this.tests()));
+        json.put("finished", String.valueOf(this.finished()));
+        json.put("passed", String.valueOf(this.passed()));
+        json.put("total", String.valueOf(this.total()));
+        json.put("answered", String.valueOf(this.answered()));
+        json.put("correct", String.valueOf(this.correct()));
+        json.put("passRate", this.rate());
+        return new JSONObject(json);
+    }
+
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        new JsonAppender(out).begin()
+            .string("tests", String.valueOf(this.tests()))
+            .string("finished", String.valueOf(this.finished()))
+            .string("passed", String.valueOf(this.passed()))
+            .string("total", String.valueOf(this.total()))
+            .string("answered", String.valueOf(this.answered()))
+            .string("correct", String.valueOf(this.correct()))
+            .string("passRate", this.rate())
+            .end();
+    }
+
+    @Override
+    public String toDisplayableString() {
+        final StringBuilder builder = new StringBuilder(
+            MagicNumbers.HUNDRED.number() * 2
+        );
+        this.writeDisplayable(builder);
+        return builder.toString();
+    }
+
+    @Override
+    public void writeDisplayable(final StringBuilder out) {
+        SuiteResult.DISPLAY.fill(out)
+            .with(this.tests())
+            .with(this.finished())
+            .with(this.passed())
+            .with(this.rate())
+            .with(this.total())
+            .with(this.answered())
+            .with(this.correct())
+            .done();
+    }
+
+    /**
+     * The percentage of the passed tests with one decimal place.
+     *
+     * @return The percentage.
+     */
+    private String rate() {
+        return String.format(Locale.ROOT, "%.1f", this.passRate());
+    }
+
+    /**
+     * Add the test's result to the counters.
+     *
+     * @param values The counters.
+     * @param result The test's result.
+     */
+    private static void add(final long[] values, final Result result) {
+        values[SuiteResult.TESTS] += 1L;
+        if (result.isFinished()) {
+            values[SuiteResult.FINISHED] += 1L;
+        }
+        if (result.isPassed()) {
+            values[SuiteResult.PASSED] += 1L;
+        }
+        if (result instanceof SimpleResult) {
+            final SimpleResult simple = (SimpleResult) result;
+            values[SuiteResult.TOTAL] += simple.total();
+            values[SuiteResult.ANSWERED] += simple.answered();
+            values[SuiteResult.CORRECT] += simple.correct();
+        } else if (result instanceof PrecomputedResult) {
+            final PrecomputedResult computed = (PrecomputedResult) result;
+            values[SuiteResult.TOTAL] += computed.total();
+            values[SuiteResult.ANSWERED] += computed.answered();
+            values[SuiteResult.CORRECT] += computed.correct();
+        }
+    }
+
+    /**
+     * Merge the counters.
+     *
+     * @param values The counters to merge into.
+     * @param other The other counters.
+     */
+    private static void merge(final long[] values, final long[] other) {
+        for (int idx = 0; idx < SuiteResult.COUNTERS; ++idx) {
+            values[idx] += other[idx];
+        }
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.MagicNumbers;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The counters of the answered and correctly answered questions. Both the
+ * counters are packed into one atomic value, so they are always read and
+ * updated consistently without locking. The tally of the test of
+ * {@link LiveTestSuite} reports every answer to the suite's counters.
+ *
+ * @since 1.0
+ */
+final class Tally {
+
+    /**
+     * The shift of the answered questions counter.
+     */
+    private static final int SHIFT = 32;
+
+    /**
+     * The mask of the correctly answered questions counter.
+     */
+    private static final long MASK = 0xFFFFFFFFL;
+
+    /**
+     * The packed counters.
+     */
+    private final AtomicLong packed;
+
+    /**
+     * The amount of the questions in the test.
+     */
+    private final int size;
+
+    /**
+     * The counters of the suite or null if the test doesn't belong to the
+     * live suite.
+     */
+    private final SuiteCounters suite;
+
+    /**
+     * Ctor.
+     */
+    Tally() {
+        this(0, null);
+    }
+
+    /**
+     * Ctor.
+     *
+     * @param total The amount of the questions in the test.
+     * @param counters The counters of the suite or null if the test doesn't
+     *  belong to the live suite.
+     */
+    Tally(final int total, final SuiteCounters counters) {
+        this.packed = new AtomicLong();
+        this.size = total;
+        this.suite = counters;
+    }
+
+    /**
+     * Count the answered question.
+     *
+     * @param correct Whether the question is answered correctly.
+     */
+    void add(final boolean correct) {
+        long delta = 1L << SHIFT;
+        if (correct) {
+            delta += 1L;
+        }
+        final long value = this.packed.addAndGet(delta);
+        if (this.suite != null) {
+            final boolean done = (int) (value >>> SHIFT) == this.size;
+            this.suite.add(
+                correct, done, done && (int) (value & MASK) == this.size
+            );
+        }
+    }
+
+    /**
+     * The result of the test.
+     *
+     * @param total The total amount of the questions in the test.
+     * @return The result.
+     */
+    PrecomputedResult result(final int total) {
+        return this.result(total, false);
+    }
+
+    /**
+     * The result of the test.
+     *
+     * @param total The total amount of the questions in the test or the
+     *  amount of the questions asked so far if the test may have more
+     *  questions.
+     * @param open Whether the test may have more questions.
+     * @return The result.
+     */
+    PrecomputedResult result(final int total, final boolean open) {
+        final long value = this.packed.get();
+        return new PrecomputedResult(
+            total, (int) (value >>> SHIFT), (int) (value & MASK),
+            MagicNumbers.HUNDRED.number(), open
+        );
+    }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import java.util.Arrays;
+
+/**
+ * The bounded edit distance to the fixed pattern, computed with the
+ * bit-parallel algorithm of Myers in the block form of Hyyrö: every column of
+ * the distance matrix is kept as the bit vectors of its vertical deltas, so
+ * 64 rows are updated with a few word operations. The pattern's masks are
+ * built once, in the constructor; the vectors of the column live in the
+ * thread's scratch buffer, so the matching allocates nothing. The matching
+ * stops as soon as the distance can't fit into the bound any more, and
+ * doesn't start at all if the lengths alone differ too much.
+ *
+ * @since 1.0
+ */
+final class TypoMatcher {
+
+    /**
+     * The index of the highest bit of the word, which is also the mask of
+     * the bit's index within the word.
+     */
+    private static final int HIGHEST = Long.SIZE - 1;
+
+    /**
+     * The multiplier of the Fibonacci hashing of the characters.
+     */
+    private static final int GOLDEN = 0x9E3779B9;
+
+    /**
+     * The vectors of the column, per thread.
+     */
+    private static final ThreadLocal<long[]> SCRATCH =
+        ThreadLocal.withInitial(() -> new long[0]);
+
+    /**
+     * The pattern's length.
+     */
+    private final int length;
+
+    /**
+     * The amount of the words per column.
+     */
+    private final int words;
+
+    /**
+     * The maximal distance.
+     */
+    private final int bound;
+
+    /**
+     * The open-addressing table of the pattern's distinct characters: the
+     * slot keeps the character plus one or zero if the slot is free.
+     */
+    private final int[] slots;
+
+    /**
+     * The shift of the hash, which leaves the bits of the slot's index.
+     */
+    private final int shift;
+
+    /**
+     * The rows of the character of every slot in the pattern,
+     * {@link #words} words per slot.
+     */
+    private final long[] masks;
+
+    /**
+     * The bit of the pattern's last row in the last word.
+     */
+    private final long last;
+
+    /**
+     * Ctor.
+     *
+     * @param pattern The pattern.
+     * @param max The maximal distance.
+     */
+    TypoMatcher(final String pattern, final int max) {
+        if (max < 0) {
+            throw new IllegalArgumentException(
+                "Maximal distance must not be negative."
+            );
+        }
+        this.length = pattern.length();
+        this.words = Math.max(
+            1, (this.length + TypoMatcher.HIGHEST) / Long.SIZE
+        );
+        this.bound = max;
+        final int size = Integer.highestOneBit(
+            Math.max(1, (int) pattern.chars().distinct().count()) * 2 - 1
+        ) * 2;
+        this.slots = new int[size];
+        this.shift = Integer.SIZE - Integer.numberOfTrailingZeros(size);
+        this.masks = new long[size * this.words];
+        for (int row = 0; row < this.length; ++row) {
+            final char chr = pattern.charAt(row);
+            int slot = this.slot(chr);
+            if (slot < 0) {
+                slot = -slot - 1;
+                this.slots[slot] = chr + 1;
+            }
+            this.masks[slot * this.words + row / Long.SIZE] |=
+                1L << (row & TypoMatcher.HIGHEST);
+        }
+        this.last = 1L << ((this.length - 1) & TypoMatcher.HIGHEST);
+    }
+
+    /**
+     * Is the text within the maximal distance from the pattern?
+     *
+     * @param text The text.
+     * @return True - within; False - further.
+     */
+    boolean matches(final CharSequence text) {
+        return this.distance(text) <= this.bound;
+    }
+
+    /**
+     * The edit distance between the pattern and the text.
+     *
+     * @param text The text.
+     * @return The distance or the maximal distance plus one if the distance
+     *  exceeds it.
+     */
+    int distance(final CharSequence text) {
+        final int size = text.length();
+        final int res;
+        if (Math.abs(size - this.length) > this.bound) {
+            res = this.bound + 1;
+        } else if (this.length == 0) {
+            res = size;
+        } else if (this.words == 1) {
+            res = this.column(text);
+        } else {
+            res = this.columns(text);
+        }
+        return res;
+    }
+
+    /**
+     * Compute the columns of the distance matrix of the pattern which fits
+     * into one word, keeping the column's vectors in the registers.
+     *
+     * @param text The text.
+     * @return The distance or the maximal distance plus one if the distance
+     *  exceeds it.
+     * @see #columns(CharSequence)
+     */
+    private int column(final CharSequence text) {
+        final int size = text.length();
+        long plus = -1L;
+        long minus = 0L;
+        int score = this.length;
+        for (int col = 0; col < size && score - size + col <= this.bound;
+            ++col) {
+            final int slot = this.slot(text.charAt(col));
+            long match = 0L;
+            if (slot >= 0) {
+                match = this.masks[slot];
+            }
+            final long vertical = match | minus;
+            final long horizontal = (((match & plus) + plus) ^ plus) | match;
+            final long up = minus | ~(horizontal | plus);
+            final long down = plus & horizontal;
+            score += Long.bitCount(up & this.last)
+                - Long.bitCount(down & this.last);
+            final long shifted = up << 1 | 1L;
+            plus = down << 1 | ~(vertical | shifted);
+            minus = shifted & vertical;
+        }
+        return Math.min(score, this.bound + 1);
+    }
+
+    /**
+     * Compute the columns of the distance matrix of the pattern which takes
+     * several words, one column per character of the text, until the last
+     * one or until the bound is exceeded: every next column decreases the
+     * distance by one at most. The horizontal delta of the word's last row is
+     * carried to the next word.
+     *
+     * @param text The text.
+     * @return The distance or the maximal distance plus one if the distance
+     *  exceeds it.
+     */
+    private int columns(final CharSequence text) {
+        long[] state = TypoMatcher.SCRATCH.get();
+        if (state.length < this.words * 2) {
+            state = new long[this.words * 2];
+            TypoMatcher.SCRATCH.set(state);
+        }
+        Arrays.fill(state, 0, this.words, -1L);
+        Arrays.fill(state, this.words, this.words * 2, 0L);
+        final int size = text.length();
+        int score = this.length;
+        for (int col = 0; col < size && score - size + col <= this.bound;
+            ++col) {
+            final int slot = this.slot(text.charAt(col));
+            int carry = 1;
+            for (int word = 0; word < this.words; ++word) {
+                long match = 0L;
+                if (slot >= 0) {
+                    match = this.masks[slot * this.words + word];
+                }
+                final long plus = state[word];
+                final long minus = state[this.words + word];
+                final long vertical = match | minus;
+                if (carry < 0) {
+                    match |= 1L;
+                }
+                final long horizontal =
+                    (((match & plus) + plus) ^ plus) | match;
+                long up = minus | ~(horizontal | plus);
+                long down = plus & horizontal;
+                if (word == this.words - 1) {
+                    score += Long.bitCount(up & this.last)
+                        - Long.bitCount(down & this.last);
+                }
+                final int out = (int) (up >>> TypoMatcher.HIGHEST)
+                    - (int) (down >>> TypoMatcher.HIGHEST);
+                up <<= 1;
+                down <<= 1;
+                if (carry < 0) {
+                    down |= 1L;
+                } else if (carry > 0) {
+                    up |= 1L;
+                }
+                state[word] = down | ~(vertical | up);
+                state[this.words + word] = up & vertical;
+                carry = out;
+            }
+        }
+        return Math.min(score, this.bound + 1);
+    }
+
+    /**
+     * Find the slot of the character.
+     *
+     * @param chr The character.
+     * @return The slot's index if the pattern has the character, otherwise
+     *  minus one minus the index of the free slot for it.
+     */
+    private int slot(final char chr) {
+        final int mask = this.slots.length - 1;
+        int slot = chr * TypoMatcher.GOLDEN >>> this.shift;
+        while (this.slots[slot] != 0 && this.slots[slot] != chr + 1) {
+            slot = (slot + 1) & mask;
+        }
+        int res = slot;
+        if (this.slots[slot] == 0) {
+            res = -slot - 1;
+        }
+        return res;
+    }
+}
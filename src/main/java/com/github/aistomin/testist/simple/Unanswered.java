@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import java.util.BitSet;
+
+/**
+ * The set of the unanswered questions' indexes of the test, backed by a
+ * Fenwick tree. It allows to find the first unanswered question starting
+ * from any position in O(log n).
+ *
+ * @since 1.0
+ */
+final class Unanswered {
+
+    /**
+     * The Fenwick tree, where every question counts as one until it is
+     * answered. One-based.
+     */
+    private final int[] tree;
+
+    /**
+     * The indexes of the answered questions.
+     */
+    private final BitSet answered;
+
+    /**
+     * The highest power of two which is not greater than the size.
+     */
+    private final int top;
+
+    /**
+     * The amount of the unanswered questions.
+     */
+    private int left;
+
+    /**
+     * Ctor.
+     *
+     * @param size The amount of the questions.
+     */
+    Unanswered(final int size) {
+        this.tree = new int[size + 1];
+        this.answered = new BitSet(size);
+        this.left = size;
+        for (int idx = 1; idx <= size; ++idx) {
+            this.tree[idx] = idx & -idx;
+        }
+        this.top = Integer.highestOneBit(Math.max(size, 1));
+    }
+
+    /**
+     * Mark the question as answered.
+     *
+     * @param index The question's index.
+     * @return True - the question was unanswered; False - the question was
+     *  already marked as answered.
+     */
+    boolean remove(final int index) {
+        final boolean res = !this.answered.get(index);
+        if (res) {
+            this.answered.set(index);
+            this.left -= 1;
+            int idx = index + 1;
+            while (idx < this.tree.length) {
+                this.tree[idx] -= 1;
+                idx += idx & -idx;
+            }
+        }
+        return res;
+    }
+
+    /**
+     * Find the first unanswered question's index starting from the position.
+     *
+     * @param from The position.
+     * @return The index or -1 if there are no unanswered questions starting
+     *  from the position.
+     */
+    int next(final int from) {
+        final int before = this.count(Math.min(from, this.tree.length - 1));
+        final int res;
+        if (before == this.left) {
+            res = -1;
+        } else {
+            res = this.find(before + 1);
+        }
+        return res;
+    }
+
+    /**
+     * The amount of the unanswered questions among the first ones.
+     *
+     * @param length The amount of the first questions.
+     * @return The amount of the unanswered ones.
+     */
+    private int count(final int length) {
+        int res = 0;
+        for (int idx = length; idx > 0; idx -= idx & -idx) {
+            res += this.tree[idx];
+        }
+        return res;
+    }
+
+    /**
+     * Find the index of the n-th unanswered question.
+     *
+     * @param rank One-based rank of the unanswered question.
+     * @return The question's index.
+     */
+    private int find(final int rank) {
+        int pos = 0;
+        int rest = rank;
+        for (int step = this.top; step > 0; step >>= 1) {
+            final int next = pos + step;
+            if (next < this.tree.length && this.tree[next] < rest) {
+                pos = next;
+                rest -= this.tree[next];
+            }
+        }
+        return pos;
+    }
+}
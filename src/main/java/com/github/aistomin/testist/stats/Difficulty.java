@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.stats;
+
+/**
+ * The snapshot of the statistics of the question.
+ *
+ * @since 1.0
+ */
+public final class Difficulty {
+
+    /**
+     * The question's id.
+     */
+    private final String target;
+
+    /**
+     * The amount of the answers.
+     */
+    private final long total;
+
+    /**
+     * The amount of the correct answers.
+     */
+    private final long right;
+
+    /**
+     * Ctor.
+     *
+     * @param question The question's id.
+     * @param attempts The amount of the answers.
+     * @param correct The amount of the correct answers.
+     */
+    public Difficulty(
+        final String question, final long attempts, final long correct
+    ) {
+        this.target = question;
+        this.total = attempts;
+        this.right = correct;
+    }
+
+    /**
+     * The question's id.
+     *
+     * @return The id.
+     */
+    public String question() {
+        return this.target;
+    }
+
+    /**
+     * The amount of the answers.
+     *
+     * @return The amount.
+     */
+    public long attempts() {
+        return this.total;
+    }
+
+    /**
+     * The amount of the correct answers.
+     *
+     * @return The amount.
+     */
+    public long correct() {
+        return this.right;
+    }
+
+    /**
+     * The share of the correct answers.
+     *
+     * @return The share from 0 to 1, or 0 if the question is never answered.
+     */
+    public double ratio() {
+        double res = 0.0;
+        if (this.total > 0L) {
+            res = (double) this.right / this.total;
+        }
+        return res;
+    }
+}
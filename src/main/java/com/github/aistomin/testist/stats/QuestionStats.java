@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of the answers to the questions, collected across all the
+ * tests. The questions are identified by the stable string id, for example
+ * the question's index in its provider, so all the instances of the same
+ * question share the statistics and the statistics don't keep the questions
+ * and their answers. Every question has its own striped counters, so the
+ * concurrent tests record the answers without contention, and the snapshot
+ * of a question is read without locking.
+ *
+ * @since 1.0
+ */
+public final class QuestionStats {
+
+    /**
+     * The counters of the questions.
+     */
+    private final Map<String, Counters> counters;
+
+    /**
+     * Ctor.
+     */
+    public QuestionStats() {
+        this.counters = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Record the answer to the question.
+     *
+     * @param question The question's id.
+     * @param correct Whether the answer is correct.
+     */
+    public void record(final String question, final boolean correct) {
+        Counters found = this.counters.get(question);
+        if (found == null) {
+            found = this.counters.computeIfAbsent(
+                question, key -> new Counters()
+            );
+        }
+        found.add(correct);
+    }
+
+    /**
+     * The statistics of the question.
+     *
+     * @param question The question's id.
+     * @return The statistics, empty if the question is never answered.
+     */
+    public Difficulty difficulty(final String question) {
+        final Counters found = this.counters.get(question);
+        final Difficulty res;
+        if (found == null) {
+            res = new Difficulty(question, 0L, 0L);
+        } else {
+            res = found.snapshot(question);
+        }
+        return res;
+    }
+
+    /**
+     * The statistics of all the answered questions.
+     *
+     * @return The statistics.
+     */
+    public List<Difficulty> snapshot() {
+        final List<Difficulty> res = new ArrayList<>(this.counters.size());
+        for (final Map.Entry<String, Counters> entry
+            : this.counters.entrySet()) {
+            res.add(entry.getValue().snapshot(entry.getKey()));
+        }
+        return res;
+    }
+
+    /**
+     * The counters of the question.
+     *
+     * @since 1.0
+     */
+    private static final class Counters {
+
+        /**
+         * The amount of the answers.
+         */
+        private final LongAdder attempts;
+
+        /**
+         * The amount of the correct answers.
+         */
+        private final LongAdder correct;
+
+        /**
+         * Ctor.
+         */
+        Counters() {
+            this.attempts = new LongAdder();
+            this.correct = new LongAdder();
+        }
+
+        /**
+         * Count the answer.
+         *
+         * @param right Whether the answer is correct.
+         */
+        void add(final boolean right) {
+            this.attempts.increment();
+            if (right) {
+                this.correct.increment();
+            }
+        }
+
+        /**
+         * Read the counters. The correct answers are read first, so they
+         * never outnumber the answers.
+         *
+         * @param question The question's id.
+         * @return The statistics.
+         */
+        Difficulty snapshot(final String question) {
+            final long right = this.correct.sum();
+            return new Difficulty(question, this.attempts.sum(), right);
+        }
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.stats;
+
+import com.github.aistomin.testist.MagicNumbers;
+import java.util.Arrays;
+
+/**
+ * The snapshot of the distribution of the scores of the tests. The score is
+ * the whole percentage of the correct answers, from 0 to 100, so the
+ * distribution has a bucket for every score. The snapshots which are taken
+ * in different threads or processes can be merged.
+ *
+ * @since 1.0
+ */
+public final class ScoreDistribution {
+
+    /**
+     * The amount of the buckets.
+     */
+    public static final int BUCKETS = MagicNumbers.HUNDRED.number() + 1;
+
+    /**
+     * The amounts of the tests by their score.
+     */
+    private final long[] counts;
+
+    /**
+     * The amount of the passed tests.
+     */
+    private final long passes;
+
+    /**
+     * The amount of the tests.
+     */
+    private final long total;
+
+    /**
+     * Ctor.
+     *
+     * @param buckets The amounts of the tests by their score, the index is
+     *  the score.
+     * @param passed The amount of the passed tests.
+     */
+    public ScoreDistribution(final long[] buckets, final long passed) {
+        if (buckets.length != ScoreDistribution.BUCKETS) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Distribution must have %d buckets, got %d.",
+                    ScoreDistribution.BUCKETS, buckets.length
+                )
+            );
+        }
+        long sum = 0L;
+        for (final long count : buckets) {
+            if (count < 0L) {
+                throw new IllegalArgumentException(
+                    "Bucket's count must not be negative."
+                );
+            }
+            sum += count;
+        }
+        if (passed < 0L || passed > sum) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Amount of the passed tests must be between 0 and %d.", sum
+                )
+            );
+        }
+        this.counts = buckets.clone();
+        this.passes = passed;
+        this.total = sum;
+    }
+
+    /**
+     * The amount of the tests.
+     *
+     * @return The amount.
+     */
+    public long count() {
+        return this.total;
+    }
+
+    /**
+     * The amount of the passed tests.
+     *
+     * @return The amount.
+     */
+    public long passed() {
+        return this.passes;
+    }
+
+    /**
+     * The amount of the tests with the score.
+     *
+     * @param score The score from 0 to 100.
+     * @return The amount.
+     */
+    public long bucket(final int score) {
+        return this.counts[score];
+    }
+
+    /**
+     * The amounts of the tests by their score.
+     *
+     * @return The copy of the buckets, the index is the score.
+     */
+    public long[] buckets() {
+        return this.counts.clone();
+    }
+
+    /**
+     * The mean score.
+     *
+     * @return The mean, or 0 if there are no tests.
+     */
+    public double mean() {
+        double res = 0.0;
+        if (this.total > 0L) {
+            double sum = 0.0;
+            for (int score = 0; score < this.counts.length; ++score) {
+                sum += (double) score * this.counts[score];
+            }
+            res = sum / this.total;
+        }
+        return res;
+    }
+
+    /**
+     * The population variance of the scores.
+     *
+     * @return The variance, or 0 if there are no tests.
+     */
+    public double variance() {
+        double res = 0.0;
+        if (this.total > 0L) {
+            final double mean = this.mean();
+            double sum = 0.0;
+            for (int score = 0; score < this.counts.length; ++score) {
+                final double diff = score - mean;
+                sum += diff * diff * this.counts[score];
+            }
+            res = sum / this.total;
+        }
+        return res;
+    }
+
+    /**
+     * The share of the passed tests.
+     *
+     * @return The share from 0 to 1, or 0 if there are no tests.
+     */
+    public double passRate() {
+        double res = 0.0;
+        if (this.total > 0L) {
+            res = (double) this.passes / this.total;
+        }
+        return res;
+    }
+
+    /**
+     * Merge this distribution with the other one.
+     *
+     * @param other The other distribution.
+     * @return The distribution of the tests of both distributions.
+     */
+    public ScoreDistribution merge(final ScoreDistribution other) {
+        final long[] merged = this.counts.clone();
+        for (int score = 0; score < merged.length; ++score) {
+            merged[score] += other.counts[score];
+        }
+        return new ScoreDistribution(merged, this.passes + other.passes);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "ScoreDistribution(count=%d, passed=%d, buckets=%s)",
+            this.total, this.passes, Arrays.toString(this.counts)
+        );
+    }
+}
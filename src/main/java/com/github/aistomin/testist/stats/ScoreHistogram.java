@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.stats;
+
+import com.github.aistomin.testist.MagicNumbers;
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.simple.PrecomputedResult;
+import com.github.aistomin.testist.simple.SimpleResult;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The histogram of the scores of the tests. The results are added
+ * concurrently without locking, every score has its own
+ * {@link LongAdder}. The mean, the variance and the pass rate are computed
+ * from the {@link ScoreDistribution} snapshot in O(buckets). The histograms
+ * of different threads or processes are combined by merging their
+ * snapshots.
+ *
+ * @since 1.0
+ */
+public final class ScoreHistogram {
+
+    /**
+     * The largest amount of the correct answers which can be multiplied by
+     * 100 without overflow.
+     */
+    private static final long SAFE =
+        Long.MAX_VALUE / MagicNumbers.HUNDRED.number();
+
+    /**
+     * The amounts of the tests by their score.
+     */
+    private final LongAdder[] buckets;
+
+    /**
+     * The amount of the passed tests.
+     */
+    private final LongAdder passes;
+
+    /**
+     * Ctor.
+     */
+    public ScoreHistogram() {
+        this.buckets = new LongAdder[ScoreDistribution.BUCKETS];
+        for (int idx = 0; idx < this.buckets.length; ++idx) {
+            this.buckets[idx] = new LongAdder();
+        }
+        this.passes = new LongAdder();
+    }
+
+    /**
+     * Add the test's result. Only {@link SimpleResult} and
+     * {@link PrecomputedResult} have the score.
+     *
+     * @param result The result.
+     */
+    public void add(final Result result) {
+        if (result instanceof PrecomputedResult) {
+            final PrecomputedResult computed = (PrecomputedResult) result;
+            this.add(computed.total(), computed.correct(), computed.isPassed());
+        } else if (result instanceof SimpleResult) {
+            final SimpleResult simple = (SimpleResult) result;
+            this.add(simple.total(), simple.correct(), simple.isPassed());
+        } else {
+            throw new IllegalArgumentException(
+                String.format("Result %s has no score.", result)
+            );
+        }
+    }
+
+    /**
+     * Add the test's result.
+     *
+     * @param total The total amount of questions in the test.
+     * @param correct The amount of correctly answered questions in the test.
+     * @param passed Is the test passed?
+     */
+    public void add(
+        final long total, final long correct, final boolean passed
+    ) {
+        this.buckets[ScoreHistogram.score(total, correct)].increment();
+        if (passed) {
+            this.passes.increment();
+        }
+    }
+
+    /**
+     * Add the tests of the distribution, for example the one which is
+     * collected by the other process.
+     *
+     * @param distribution The distribution.
+     */
+    public void merge(final ScoreDistribution distribution) {
+        for (int score = 0; score < this.buckets.length; ++score) {
+            this.buckets[score].add(distribution.bucket(score));
+        }
+        this.passes.add(distribution.passed());
+    }
+
+    /**
+     * The snapshot of the histogram. The passed tests are read first, so
+     * the snapshot never has more passed tests than tests, even if the
+     * results are being added at the same time.
+     *
+     * @return The distribution.
+     */
+    public ScoreDistribution snapshot() {
+        final long passed = this.passes.sum();
+        final long[] counts = new long[this.buckets.length];
+        for (int score = 0; score < counts.length; ++score) {
+            counts[score] = this.buckets[score].sum();
+        }
+        return new ScoreDistribution(counts, passed);
+    }
+
+    /**
+     * The score of the test.
+     *
+     * @param total The total amount of questions in the test.
+     * @param correct The amount of correctly answered questions in the test.
+     * @return The whole percentage of the correct answers, the test without
+     *  the questions scores 100.
+     */
+    private static int score(final long total, final long correct) {
+        if (correct < 0L || correct > total) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Correct answers %d must be between 0 and %d.",
+                    correct, total
+                )
+            );
+        }
+        final long hundred = MagicNumbers.HUNDRED.number();
+        final long res;
+        if (total == 0L) {
+            res = hundred;
+        } else if (correct <= ScoreHistogram.SAFE) {
+            res = correct * hundred / total;
+        } else {
+            res = BigInteger.valueOf(correct)
+                .multiply(BigInteger.valueOf(hundred))
+                .divide(BigInteger.valueOf(total))
+                .longValue();
+        }
+        return (int) res;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.stats;
+
+import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.Question;
+import java.io.IOException;
+import java.util.function.Consumer;
+import org.json.simple.JSONObject;
+
+/**
+ * The decorator of the {@link Question} which records its answer to
+ * {@link QuestionStats}. The question is identified by the stable id which
+ * is given to the decorator, so the question isn't rendered to be
+ * identified.
+ *
+ * @since 1.0
+ */
+final class StatsQuestion implements Question {
+
+    /**
+     * The question which we decorate.
+     */
+    private final Question origin;
+
+    /**
+     * The question's id.
+     */
+    private final String id;
+
+    /**
+     * The statistics.
+     */
+    private final QuestionStats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param question The question which we decorate.
+     * @param key The question's id.
+     * @param statistics The statistics.
+     */
+    StatsQuestion(
+        final Question question, final String key,
+        final QuestionStats statistics
+    ) {
+        this.origin = question;
+        this.id = key;
+        this.stats = statistics;
+    }
+
+    @Override
+    public void answer(final Answer answer) {
+        this.grade(answer);
+    }
+
+    @Override
+    public Boolean grade(final Answer answer) {
+        final Boolean res = this.origin.grade(answer);
+        this.stats.record(this.id, res);
+        return res;
+    }
+
+    @Override
+    public Boolean isCorrect() {
+        return this.origin.isCorrect();
+    }
+
+    @Override
+    public Boolean isAnswered() {
+        return this.origin.isAnswered();
+    }
+
+    @Override
+    public void listen(final Consumer<Boolean> listener) {
+        this.origin.listen(listener);
+    }
+
+    @Override
+    public Answer help() {
+        return this.origin.help();
+    }
+
+    @Override
+    public JSONObject toJson() {
+        return this.origin.toJson();
+    }
+
+    @Override
+    public void writeJson(final Appendable out) throws IOException {
+        this.origin.writeJson(out);
+    }
+
+    @Override
+    public String toDisplayableString() {
+        return this.origin.toDisplayableString();
+    }
+}
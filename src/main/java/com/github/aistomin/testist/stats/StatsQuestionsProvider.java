@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.stats;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * The {@link QuestionsProvider} which records the answers to its questions
+ * to {@link QuestionStats}. The provider must return the new instances of
+ * the questions for every test, so the tests don't share the answers, and
+ * must keep their order, since the question is identified in the statistics
+ * by its index in the provider.
+ *
+ * @since 1.0
+ */
+public final class StatsQuestionsProvider implements QuestionsProvider {
+
+    /**
+     * The provider which we decorate.
+     */
+    private final QuestionsProvider origin;
+
+    /**
+     * The statistics.
+     */
+    private final QuestionStats stats;
+
+    /**
+     * Ctor.
+     *
+     * @param provider The provider which we decorate.
+     * @param statistics The statistics.
+     */
+    public StatsQuestionsProvider(
+        final QuestionsProvider provider, final QuestionStats statistics
+    ) {
+        this.origin = provider;
+        this.stats = statistics;
+    }
+
+    @Override
+    public List<Question> questions() {
+        return new Recorded(this.origin.questions(), this.stats);
+    }
+
+    /**
+     * The list view which decorates the question on the first access to it
+     * and returns the same decorator from then on.
+     *
+     * @since 1.0
+     */
+    private static final class Recorded extends AbstractList<Question>
+        implements RandomAccess {
+
+        /**
+         * The questions.
+         */
+        private final List<Question> questions;
+
+        /**
+         * The statistics.
+         */
+        private final QuestionStats stats;
+
+        /**
+         * The decorated questions, null until the question is accessed.
+         */
+        private final AtomicReferenceArray<Question> recorded;
+
+        /**
+         * Ctor.
+         *
+         * @param items The questions.
+         * @param statistics The statistics.
+         */
+        Recorded(final List<Question> items, final QuestionStats statistics) {
+            super();
+            this.questions = items;
+            this.stats = statistics;
+            this.recorded = new AtomicReferenceArray<>(items.size());
+        }
+
+        @Override
+        public Question get(final int index) {
+            Question res = this.recorded.get(index);
+            if (res == null) {
+                final Question question = new StatsQuestion(
+                    this.questions.get(index), String.valueOf(index),
+                    this.stats
+                );
+                if (this.recorded.compareAndSet(index, null, question)) {
+                    res = question;
+                } else {
+                    res = this.recorded.get(index);
+                }
+            }
+            return res;
+        }
+
+        @Override
+        public int size() {
+            return this.questions.size();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist;
+
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link JsonAppender}.
+ *
+ * @since 1.0
+ */
+final class JsonAppenderTest {
+
+    /**
+     * Check that we escape the strings the same way as json-simple does.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testEscape() throws Exception {
+        final String text =
+            "Quote \" slash / back \\ \b\f\n\r\t \u0001 \u007F \u0099   "
+                + "€ Müller Привет";
+        final StringBuilder json = new StringBuilder();
+        new JsonAppender(json).begin().string("text", text).end();
+        Assertions.assertEquals(
+            String.format("{\"text\":\"%s\"}", JSONValue.escape(text)),
+            json.toString()
+        );
+        Assertions.assertEquals(
+            text, ((JSONObject) new JSONParser().parse(json.toString())).get("text")
+        );
+    }
+
+    /**
+     * Check that we correctly write several fields and nested objects.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testObject() throws Exception {
+        final Map<String, String> choices = new LinkedHashMap<>();
+        choices.put("A", "One");
+        choices.put("B", null);
+        final StringWriter json = new StringWriter();
+        new JsonAppender(json).begin()
+            .string("first", "1")
+            .string("second", null)
+            .object("nested", new Fake())
+            .map("choices", choices)
+            .end();
+        Assertions.assertEquals(
+            "{\"first\":\"1\",\"second\":null,\"nested\":{\"fake\":\"yes\"},"
+                + "\"choices\":{\"A\":\"One\",\"B\":null}}",
+            json.toString()
+        );
+    }
+
+    /**
+     * Check that the default implementation writes {@link Displayable#toJson()}
+     * to the output.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testDefault() throws Exception {
+        final CharBuffer buffer = CharBuffer.allocate(100);
+        new Fake().writeJson(buffer);
+        buffer.flip();
+        Assertions.assertEquals("{\"fake\":\"yes\"}", buffer.toString());
+    }
+
+    /**
+     * The displayable object which relies on the default JSON writing.
+     *
+     * @since 1.0
+     */
+    private static final class Fake implements Displayable {
+
+        @Override
+        public String toDisplayableString() {
+            return "fake";
+        }
+
+        @Override
+        public JSONObject toJson() {
+            final Map<String, String> json = new HashMap<>();
+            json.put("fake", "yes");
+            return new JSONObject(json);
+        }
+    }
+}
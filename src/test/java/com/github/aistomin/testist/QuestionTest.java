@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist;
+
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleQuestion;
+import com.github.aistomin.testist.simple.SimpleText;
+import java.util.function.Consumer;
+import org.json.simple.JSONObject;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * The tests for {@link Question}.
+ *
+ * @since 1.0
+ */
+final class QuestionTest {
+
+    /**
+     * Check that the default grading answers and checks the question.
+     */
+    @org.junit.jupiter.api.Test
+    void testGrade() {
+        final Question origin = new SimpleQuestion(
+            new SimpleText("2 + 2 = ?"), new SimpleAnswer("4")
+        );
+        final Question question = new Question() {
+            @Override
+            public void answer(final Answer answer) {
+                origin.answer(answer);
+            }
+
+            @Override
+            public Boolean isCorrect() {
+                return origin.isCorrect();
+            }
+
+            @Override
+            public Boolean isAnswered() {
+                return origin.isAnswered();
+            }
+
+            @Override
+            public void listen(final Consumer<Boolean> listener) {
+                origin.listen(listener);
+            }
+
+            @Override
+            public Answer help() {
+                return origin.help();
+            }
+
+            @Override
+            public JSONObject toJson() {
+                return origin.toJson();
+            }
+
+            @Override
+            public String toDisplayableString() {
+                return origin.toDisplayableString();
+            }
+        };
+        Assertions.assertTrue(question.grade(new SimpleAnswer("4")));
+        Assertions.assertTrue(origin.isAnswered());
+    }
+}
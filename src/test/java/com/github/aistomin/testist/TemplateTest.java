@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist;
+
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The test for {@link Template}.
+ *
+ * @since 1.0
+ */
+final class TemplateTest {
+
+    /**
+     * Check that the template is filled exactly like
+     * {@link String#format(String, Object...)} fills the same pattern.
+     */
+    @Test
+    void testFill() {
+        final String pattern = "%nQUESTION: %s%nANSWERED: %d (100%%)%n%s";
+        final Template template = new Template(pattern);
+        Assertions.assertEquals(2 + 1, template.placeholders());
+        final StringBuilder out = new StringBuilder("> ");
+        template.fill(out)
+            .with("What?")
+            .with(MagicNumbers.SEVEN.number())
+            .with(new SimpleAnswer("Nothing"))
+            .done();
+        Assertions.assertEquals(
+            String.format(
+                "> %s", String.format(pattern, "What?", 7, "Nothing")
+            ),
+            out.toString()
+        );
+    }
+
+    /**
+     * Check that the template without placeholders is written as is.
+     */
+    @Test
+    void testWrite() {
+        final StringBuilder out = new StringBuilder();
+        final Template template = new Template("DONE.%n");
+        Assertions.assertEquals(0, template.placeholders());
+        template.write(out);
+        template.write(out);
+        Assertions.assertEquals(String.format("DONE.%nDONE.%n"), out.toString());
+    }
+
+    /**
+     * Check that the template rejects the wrong patterns.
+     */
+    @Test
+    void testWrongPattern() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> new Template("100%")
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> new Template("%.1f%n")
+        );
+    }
+
+    /**
+     * Check that the template rejects the wrong amount of the values.
+     */
+    @Test
+    void testWrongValues() {
+        final Template template = new Template("%s and %s");
+        final StringBuilder out = new StringBuilder();
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> template.fill(out).with("one").done()
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> template.fill(out).with("one").with("two").with(1L)
+        );
+    }
+}
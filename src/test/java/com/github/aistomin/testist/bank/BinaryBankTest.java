@@ -0,0 +1,221 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.bank;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.EnumSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link BinaryBank}.
+ *
+ * @since 1.0
+ */
+final class BinaryBankTest {
+
+    /**
+     * Check that we correctly decode the questions.
+     */
+    @Test
+    void testQuestion() {
+        final BinaryBank bank = new BinaryBank(
+            new BinaryBankWriter()
+                .add("1 + 1 = ?", Collections.emptySet(), "2")
+                .add(
+                    "Wie heißt du?",
+                    EnumSet.of(
+                        SimpleAnswer.Conf.IGNORE_CASE,
+                        SimpleAnswer.Conf.IGNORE_PUNCTUATION
+                    ),
+                    "My name is Andrej.", "I am Andrej."
+                )
+                .toBuffer()
+        );
+        Assertions.assertEquals(2, bank.size());
+        final Question first = bank.question(0);
+        Assertions.assertTrue(first.toDisplayableString().contains("1 + 1 = ?"));
+        first.answer(new SimpleAnswer("2"));
+        Assertions.assertTrue(first.isCorrect());
+        final Question second = bank.question(1);
+        Assertions.assertTrue(
+            second.toDisplayableString().contains("Wie heißt du?")
+        );
+        Assertions.assertEquals(
+            "My name is Andrej.", second.help().toDisplayableString()
+        );
+        second.answer(new SimpleAnswer("i am andrej"));
+        Assertions.assertTrue(second.isCorrect());
+        Assertions.assertFalse(bank.question(1).isAnswered());
+        Assertions.assertThrows(
+            IndexOutOfBoundsException.class, () -> bank.question(2)
+        );
+        Assertions.assertThrows(
+            IndexOutOfBoundsException.class, () -> bank.question(-1)
+        );
+    }
+
+    /**
+     * Check that the maximal amount of the typos survives the bank.
+     */
+    @Test
+    void testTypos() {
+        final BinaryBank bank = new BinaryBank(
+            new BinaryBankWriter()
+                .add(
+                    "Der Elefant?", EnumSet.of(SimpleAnswer.Conf.IGNORE_TYPOS),
+                    2, "elephant"
+                )
+                .add(
+                    "Der Elefant?", EnumSet.of(SimpleAnswer.Conf.IGNORE_TYPOS),
+                    "elephant"
+                )
+                .toBuffer()
+        );
+        Assertions.assertTrue(
+            bank.question(0).grade(new SimpleAnswer("elefant"))
+        );
+        Assertions.assertFalse(
+            bank.question(1).grade(new SimpleAnswer("elefant"))
+        );
+        Assertions.assertTrue(
+            bank.question(1).grade(new SimpleAnswer("elephnt"))
+        );
+    }
+
+    /**
+     * Check that we reject the buffers which don't contain the bank.
+     */
+    @Test
+    void testInvalid() {
+        Assertions.assertEquals(
+            "Not a question bank.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new BinaryBank(ByteBuffer.allocate(2))
+            ).getMessage()
+        );
+        Assertions.assertEquals(
+            "Not a question bank.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new BinaryBank(ByteBuffer.allocate(BinaryBank.HEADER))
+            ).getMessage()
+        );
+        final ByteBuffer buffer = new BinaryBankWriter().toBuffer();
+        buffer.putInt(Integer.BYTES, 1);
+        Assertions.assertEquals(
+            "Unsupported question bank version: 1.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class, () -> new BinaryBank(buffer)
+            ).getMessage()
+        );
+    }
+
+    /**
+     * Check that we reject the truncated index when the bank is opened and
+     * the truncated or the corrupted question when it is decoded.
+     */
+    @Test
+    void testTruncated() {
+        final ByteBuffer full = new BinaryBankWriter()
+            .add("1 + 1 = ?", Collections.emptySet(), "2")
+            .add("2 + 2 = ?", Collections.emptySet(), "4", "four")
+            .toBuffer();
+        Assertions.assertEquals(2, new BinaryBank(full.duplicate()).size());
+        Assertions.assertEquals(
+            "Index of the question bank is truncated.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new BinaryBank(
+                    full.duplicate().limit(BinaryBank.HEADER + Long.BYTES)
+                )
+            ).getMessage()
+        );
+        for (int limit = BinaryBank.HEADER + Long.BYTES * 2;
+            limit < full.limit(); ++limit) {
+            final BinaryBank part =
+                new BinaryBank(full.duplicate().limit(limit));
+            Assertions.assertThrows(
+                IllegalArgumentException.class, () -> part.question(1)
+            );
+            Assertions.assertThrows(
+                IllegalArgumentException.class, part::check
+            );
+        }
+        final ByteBuffer negative = BinaryBankTest.copy(full);
+        negative.putInt(Integer.BYTES * 2, -1);
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> new BinaryBank(negative)
+        );
+        final ByteBuffer offset = BinaryBankTest.copy(full);
+        offset.putLong(BinaryBank.HEADER, 0L);
+        Assertions.assertEquals(
+            "Question 0 is out of the question bank's bounds.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new BinaryBank(offset).question(0)
+            ).getMessage()
+        );
+        final ByteBuffer beyond = BinaryBankTest.copy(full);
+        beyond.putLong(BinaryBank.HEADER + Long.BYTES, Long.MAX_VALUE);
+        final BinaryBank partly = new BinaryBank(beyond);
+        Assertions.assertTrue(
+            partly.question(0).toDisplayableString().contains("1 + 1 = ?")
+        );
+        Assertions.assertEquals(
+            "Question 1 is out of the question bank's bounds.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class, () -> partly.question(1)
+            ).getMessage()
+        );
+        final ByteBuffer length = BinaryBankTest.copy(full);
+        length.putInt(
+            (int) length.getLong(BinaryBank.HEADER) + Integer.BYTES, -5
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new BinaryBank(length).question(0)
+        );
+        final ByteBuffer answers = BinaryBankTest.copy(full);
+        final int second =
+            (int) answers.getLong(BinaryBank.HEADER + Long.BYTES);
+        answers.putInt(
+            second + Integer.BYTES * 3
+                + answers.getInt(second + Integer.BYTES * 2),
+            0
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new BinaryBank(answers).question(1)
+        );
+    }
+
+    /**
+     * Copy the buffer.
+     *
+     * @param buffer The buffer.
+     * @return The copy.
+     */
+    private static ByteBuffer copy(final ByteBuffer buffer) {
+        final ByteBuffer res = ByteBuffer.allocate(buffer.remaining());
+        res.put(buffer.duplicate());
+        return res.flip();
+    }
+}
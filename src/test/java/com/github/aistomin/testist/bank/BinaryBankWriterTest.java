@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.bank;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The tests for {@link BinaryBankWriter}.
+ *
+ * @since 1.0
+ */
+final class BinaryBankWriterTest {
+
+    /**
+     * Check that we write the header and the index of the bank.
+     */
+    @Test
+    void testToBuffer() {
+        final BinaryBankWriter writer = new BinaryBankWriter();
+        Assertions.assertEquals(BinaryBank.HEADER, writer.toBuffer().limit());
+        writer.add("Q1", Collections.emptySet(), "A1");
+        writer.add("Q2", Collections.emptySet(), "A2", "A3");
+        Assertions.assertEquals(
+            2, new BinaryBank(writer.toBuffer()).size()
+        );
+        Assertions.assertEquals(
+            BinaryBank.HEADER + 2 * Long.BYTES,
+            writer.toBuffer().getLong(BinaryBank.HEADER)
+        );
+    }
+
+    /**
+     * Check that we can't add the question without the answers.
+     */
+    @Test
+    void testNoAnswers() {
+        Assertions.assertEquals(
+            "Question must have at least one expected answer.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new BinaryBankWriter().add("Q", Collections.emptySet())
+            ).getMessage()
+        );
+        Assertions.assertEquals(
+            "Maximal amount of typos must not be negative.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new BinaryBankWriter()
+                    .add("Q", Collections.emptySet(), -1, "A")
+            ).getMessage()
+        );
+    }
+
+    /**
+     * Check that the temporary file is deleted when the bank can't be moved
+     * to the target.
+     *
+     * @param dir The temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testFailedWrite(@TempDir final Path dir) throws Exception {
+        final Path target = dir.resolve("bank.tstb");
+        Files.createDirectory(target);
+        Files.createFile(target.resolve("busy"));
+        Assertions.assertThrows(
+            IOException.class,
+            () -> new BinaryBankWriter()
+                .add("Q1", Collections.emptySet(), "A1")
+                .write(target)
+        );
+        try (Stream<Path> files = Files.list(dir)) {
+            Assertions.assertEquals(1L, files.count());
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.bank;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsStream;
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.simple.SimpleTest;
+import com.github.aistomin.testist.simple.StreamingTest;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The tests for {@link MappedQuestionsProvider}.
+ *
+ * @since 1.0
+ */
+final class MappedQuestionsProviderTest {
+
+    /**
+     * Check that we can pass the test with the questions from the mapped
+     * bank.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testQuestions(@TempDir final Path dir) throws Exception {
+        final int size = 1000;
+        final BinaryBankWriter writer = new BinaryBankWriter();
+        for (int idx = 0; idx < size; ++idx) {
+            writer.add(
+                String.format("%d + 1 = ?", idx), Collections.emptySet(),
+                String.valueOf(idx + 1)
+            );
+        }
+        final Path file = dir.resolve("bank.bin");
+        writer.write(file);
+        final MappedQuestionsProvider provider =
+            new MappedQuestionsProvider(file);
+        final List<Question> questions = provider.questions();
+        Assertions.assertEquals(size, questions.size());
+        Assertions.assertTrue(questions instanceof RandomAccess);
+        Assertions.assertEquals(
+            "1000", questions.get(size - 1).help().toDisplayableString()
+        );
+        final Question first = questions.get(0);
+        Assertions.assertSame(first, questions.get(0));
+        first.answer(first.help());
+        Assertions.assertTrue(questions.get(0).isAnswered());
+        Assertions.assertFalse(provider.questions().get(0).isAnswered());
+        final SimpleTest test = new SimpleTest(provider);
+        int count = 0;
+        while (test.hasMoreQuestions()) {
+            final Question question = test.nextQuestion();
+            question.answer(question.help());
+            count += 1;
+        }
+        Assertions.assertEquals(size, count);
+        Assertions.assertTrue(test.currentTestResult().isPassed());
+        writer.add("One more?", Collections.emptySet(), "Yes");
+        writer.write(file);
+        Assertions.assertEquals(
+            size + 1, new MappedQuestionsProvider(file).questions().size()
+        );
+    }
+
+    /**
+     * Check that the stream of the mapped bank decodes the questions one by
+     * one and that we can pass the streaming test with it.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testStream(@TempDir final Path dir) throws Exception {
+        final int size = 100;
+        final BinaryBankWriter writer = new BinaryBankWriter();
+        for (int idx = 0; idx < size; ++idx) {
+            writer.add(
+                String.format("%d + 2 = ?", idx), Collections.emptySet(),
+                String.valueOf(idx + 2)
+            );
+        }
+        final Path file = dir.resolve("stream.bin");
+        writer.write(file);
+        final QuestionsStream stream =
+            new MappedQuestionsProvider(file).stream();
+        final Iterator<Question> iterator = stream.iterator();
+        final Question first = iterator.next();
+        Assertions.assertEquals(
+            "2", first.help().toDisplayableString()
+        );
+        Assertions.assertNotSame(first, stream.iterator().next());
+        final StreamingTest test = new StreamingTest(stream);
+        int count = 0;
+        while (test.hasMoreQuestions()) {
+            final Question question = test.nextQuestion();
+            question.answer(question.help());
+            count += 1;
+        }
+        Assertions.assertEquals(size, count);
+        final Result result = test.currentTestResult();
+        Assertions.assertTrue(result.isPassed());
+        Assertions.assertEquals("100", result.toJson().get("total"));
+        while (iterator.hasNext()) {
+            iterator.next();
+        }
+        Assertions.assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    /**
+     * Check that we report the missing file.
+     *
+     * @param dir Temporary directory.
+     */
+    @Test
+    void testMissingFile(@TempDir final Path dir) {
+        Assertions.assertThrows(
+            UncheckedIOException.class,
+            () -> new MappedQuestionsProvider(dir.resolve("missing.bin"))
+        );
+    }
+}
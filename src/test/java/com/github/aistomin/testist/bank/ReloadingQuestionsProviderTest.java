@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.bank;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.simple.SimpleTest;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The tests for {@link ReloadingQuestionsProvider}.
+ *
+ * @since 1.0
+ */
+final class ReloadingQuestionsProviderTest {
+
+    /**
+     * Check that the new tests get the new version of the bank and the running
+     * tests keep the old one.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testReload(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("bank.bin");
+        new BinaryBankWriter()
+            .add("2 + 2 = ?", Collections.emptySet(), "5")
+            .write(file);
+        try (ReloadingQuestionsProvider provider =
+            new ReloadingQuestionsProvider(file)) {
+            final SimpleTest running = new SimpleTest(provider);
+            new BinaryBankWriter()
+                .add("2 + 2 = ?", Collections.emptySet(), "4")
+                .add("3 + 3 = ?", Collections.emptySet(), "6")
+                .write(file);
+            Assertions.assertTrue(provider.reload());
+            Assertions.assertTrue(provider.versions() >= 2);
+            Assertions.assertEquals(2, provider.questions().size());
+            final Question old = running.nextQuestion();
+            Assertions.assertEquals("5", old.help().toDisplayableString());
+            old.answer(old.help());
+            Assertions.assertFalse(running.hasMoreQuestions());
+            final Question fresh = new SimpleTest(provider).nextQuestion();
+            Assertions.assertEquals("4", fresh.help().toDisplayableString());
+        }
+    }
+
+    /**
+     * Check that the provider picks up the changes of the file by itself.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testWatch(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("bank.bin");
+        final BinaryBankWriter writer = new BinaryBankWriter()
+            .add("Q1", Collections.emptySet(), "A1");
+        writer.write(file);
+        try (ReloadingQuestionsProvider provider =
+            new ReloadingQuestionsProvider(file)) {
+            Files.writeString(dir.resolve("other.txt"), "not a bank");
+            writer.add("Q2", Collections.emptySet(), "A2").write(file);
+            final long deadline =
+                System.nanoTime() + TimeUnit.SECONDS.toNanos(30L);
+            while (
+                provider.questions().size() != 2
+                    && System.nanoTime() < deadline
+            ) {
+                TimeUnit.MILLISECONDS.sleep(10L);
+            }
+            Assertions.assertEquals(2, provider.questions().size());
+        }
+    }
+
+    /**
+     * Check that the provider keeps the current version if the new one is
+     * broken.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testBrokenFile(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("bank.bin");
+        new BinaryBankWriter()
+            .add("Q1", Collections.emptySet(), "A1")
+            .write(file);
+        try (ReloadingQuestionsProvider provider =
+            new ReloadingQuestionsProvider(file)) {
+            Files.writeString(file, "broken");
+            Assertions.assertFalse(provider.reload());
+            final Path bigger = dir.resolve("bigger.bin");
+            new BinaryBankWriter()
+                .add("Q1", Collections.emptySet(), "A1")
+                .add("Q2", Collections.emptySet(), "A2")
+                .write(bigger);
+            final byte[] content = Files.readAllBytes(bigger);
+            Files.write(
+                file, Arrays.copyOf(content, content.length - Integer.BYTES)
+            );
+            Assertions.assertFalse(provider.reload());
+            Assertions.assertEquals(1, provider.questions().size());
+            Assertions.assertEquals(
+                "A1",
+                provider.questions().get(0).help().toDisplayableString()
+            );
+            Files.delete(file);
+            Assertions.assertFalse(provider.reload());
+            Assertions.assertEquals(1, provider.questions().size());
+        }
+        Assertions.assertThrows(
+            UncheckedIOException.class,
+            () -> new ReloadingQuestionsProvider(file)
+        );
+    }
+}
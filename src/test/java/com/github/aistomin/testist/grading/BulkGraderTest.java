@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.grading;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.Test;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleTest;
+import com.github.aistomin.testist.simple.SimpleTestSuite;
+import com.github.aistomin.testist.simple.TestQuestionsProvider;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Assertions;
+
+/**
+ * The tests for {@link BulkGrader}.
+ *
+ * @since 1.0
+ */
+final class BulkGraderTest {
+
+    /**
+     * Check that the submissions are graded and the results of the tests
+     * are returned in the order of the tests.
+     */
+    @org.junit.jupiter.api.Test
+    void testGrade() {
+        final int count = 100;
+        final List<Test> tests = new ArrayList<>(count);
+        final List<Submission> submissions = new ArrayList<>(count * 5);
+        for (int idx = 0; idx < count; ++idx) {
+            final SimpleTest test = new SimpleTest(new TestQuestionsProvider());
+            tests.add(test);
+            for (int num = 0; num < 5; ++num) {
+                final Question question = test.question(num);
+                final String answer;
+                if (idx % 2 == 0) {
+                    answer = question.help().toDisplayableString();
+                } else {
+                    answer = "wrong";
+                }
+                submissions.add(
+                    new Submission(test, question, new SimpleAnswer(answer))
+                );
+            }
+        }
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            final Graded graded = new BulkGrader(pool, 8).grade(
+                new SimpleTestSuite("Math", tests), submissions
+            );
+            final List<Result> results = graded.results();
+            Assertions.assertEquals(count, results.size());
+            Assertions.assertEquals(
+                submissions.size(), graded.verdicts().size()
+            );
+            Assertions.assertEquals(Verdict.CORRECT, graded.verdicts().get(0));
+            Assertions.assertEquals(
+                Verdict.WRONG, graded.verdicts().get(submissions.size() - 1)
+            );
+            for (int idx = 0; idx < count; ++idx) {
+                Assertions.assertTrue(results.get(idx).isFinished());
+                Assertions.assertEquals(
+                    idx % 2 == 0, results.get(idx).isPassed()
+                );
+                Assertions.assertFalse(tests.get(idx).hasMoreQuestions());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Check that the results count the submissions of the batch only.
+     */
+    @org.junit.jupiter.api.Test
+    void testPartial() {
+        final SimpleTest test = new SimpleTest(new TestQuestionsProvider());
+        final SimpleTest idle = new SimpleTest(new TestQuestionsProvider());
+        final Question first = test.question(0);
+        first.answer(new SimpleAnswer("wrong"));
+        final Question question = test.question(2);
+        final List<Result> results = new BulkGrader().grade(
+            new SimpleTestSuite("Math", Arrays.asList(test, idle)),
+            Collections.singletonList(
+                new Submission(test, question, question.help())
+            )
+        ).results();
+        Assertions.assertTrue(question.isCorrect());
+        Assertions.assertTrue(results.get(0).isPassed());
+        Assertions.assertEquals("1", results.get(0).toJson().get("answered"));
+        Assertions.assertEquals("0", results.get(1).toJson().get("answered"));
+        Assertions.assertEquals(
+            "2", test.currentTestResult().toJson().get("answered")
+        );
+    }
+
+    /**
+     * Check that the submission which fails gets the failed verdict and
+     * doesn't stop grading the rest of the batch.
+     */
+    @org.junit.jupiter.api.Test
+    void testFailedSubmission() {
+        final SimpleTest test = new SimpleTest(new TestQuestionsProvider());
+        final Question first = test.question(0);
+        final Question second = test.question(1);
+        final Graded graded = new BulkGrader().grade(
+            new SimpleTestSuite("Math", Collections.singletonList(test)),
+            Arrays.asList(
+                new Submission(test, first, first.help()),
+                new Submission(test, first, first.help()),
+                new Submission(test, second, new SimpleAnswer("wrong"))
+            )
+        );
+        Assertions.assertEquals(
+            Arrays.asList(Verdict.CORRECT, Verdict.FAILED, Verdict.WRONG),
+            graded.verdicts()
+        );
+        Assertions.assertNull(graded.failure(0));
+        Assertions.assertTrue(
+            graded.failure(1) instanceof IllegalStateException
+        );
+        Assertions.assertTrue(
+            graded.results().get(0).toDisplayableString()
+                .contains("ANSWERED: 2")
+        );
+        Assertions.assertFalse(graded.results().get(0).isFinished());
+    }
+
+    /**
+     * Check that the grader rejects the wrong input.
+     */
+    @org.junit.jupiter.api.Test
+    void testWrongInput() {
+        final SimpleTest test = new SimpleTest(new TestQuestionsProvider());
+        final Question question = test.question(0);
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new BulkGrader().grade(
+                new SimpleTestSuite("Math", Collections.emptyList()),
+                Collections.singletonList(
+                    new Submission(test, question, question.help())
+                )
+            )
+        );
+        Assertions.assertFalse(question.isAnswered());
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new BulkGrader(ForkJoinPool.commonPool(), 0)
+        );
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.journal;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.multichoice.Choice;
+import com.github.aistomin.testist.multichoice.MultiChoiceAnswer;
+import com.github.aistomin.testist.multichoice.MultiChoiceQuestion;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.TestQuestionsProvider;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The tests for {@link AnswerJournal}.
+ *
+ * @since 1.0
+ */
+final class AnswerJournalTest {
+
+    /**
+     * Check that the unfinished sessions are restored from the journal.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testRecover(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("journal.bin");
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            final JournaledTest first =
+                journal.test("s1", new TestQuestionsProvider());
+            AnswerJournalTest.answer(first, 2);
+            final JournaledTest second =
+                journal.test("s2", new TestQuestionsProvider());
+            AnswerJournalTest.answer(second, 1);
+            second.finish();
+        }
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            Assertions.assertEquals(
+                Collections.singleton("s1"), journal.sessions()
+            );
+            final JournaledTest test =
+                journal.test("s1", new TestQuestionsProvider());
+            Assertions.assertTrue(journal.sessions().isEmpty());
+            AnswerJournalTest.assertQuestion(
+                "6 - 2 = ?", test.nextQuestion()
+            );
+            AnswerJournalTest.answer(test, 1);
+            AnswerJournalTest.assertQuestion(
+                "2 * 2 = ?", test.nextQuestion()
+            );
+            final JournaledTest fresh =
+                journal.test("s3", new TestQuestionsProvider());
+            AnswerJournalTest.assertQuestion(
+                "1 + 1 = ?", fresh.nextQuestion()
+            );
+        }
+    }
+
+    /**
+     * Check that the partially written record is discarded.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testTornRecord(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("journal.bin");
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            AnswerJournalTest.answer(
+                journal.test("s1", new TestQuestionsProvider()), 1
+            );
+        }
+        final long valid = Files.size(file);
+        AnswerJournalTest.damage(
+            file, new JournalRecord(JournalRecord.ANSWER, "s1", 1, "9").encode()
+        );
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            Assertions.assertEquals(valid, Files.size(file));
+            final JournaledTest test =
+                journal.test("s1", new TestQuestionsProvider());
+            AnswerJournalTest.assertQuestion(
+                "3 + 6 = ?", test.nextQuestion()
+            );
+            AnswerJournalTest.answer(test, 1);
+        }
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            AnswerJournalTest.assertQuestion(
+                "6 - 2 = ?", journal.test("s1", new TestQuestionsProvider())
+                    .nextQuestion()
+            );
+        }
+    }
+
+    /**
+     * Check that the answers written after the damaged tail are restored and
+     * that the compaction cuts the damaged tail off.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testDamagedTail(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("journal.bin");
+        final ByteBuffer garbage = new JournalRecord(
+            JournalRecord.ANSWER, "s1", 1, "9".repeat(1000)
+        ).encode();
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            final JournaledTest test =
+                journal.test("s1", new TestQuestionsProvider());
+            AnswerJournalTest.answer(test, 1);
+            AnswerJournalTest.damage(file, garbage.duplicate());
+            AnswerJournalTest.answer(test, 1);
+        }
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            final JournaledTest test =
+                journal.test("s1", new TestQuestionsProvider());
+            AnswerJournalTest.assertQuestion(
+                "6 - 2 = ?", test.nextQuestion()
+            );
+            final long valid = Files.size(file);
+            AnswerJournalTest.damage(file, garbage.duplicate());
+            journal.compact();
+            Assertions.assertTrue(Files.size(file) <= valid);
+            AnswerJournalTest.answer(test, 1);
+        }
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            AnswerJournalTest.assertQuestion(
+                "2 * 2 = ?", journal.test("s1", new TestQuestionsProvider())
+                    .nextQuestion()
+            );
+        }
+    }
+
+    /**
+     * Check that the failed write is reported to the answer and isn't
+     * counted as the commit.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testFailedWrite() throws Exception {
+        final Path full = Paths.get("/dev/full");
+        Assumptions.assumeTrue(Files.isWritable(full));
+        try (AnswerJournal journal = new AnswerJournal(full)) {
+            final Question question =
+                journal.test("s1", new TestQuestionsProvider()).nextQuestion();
+            Assertions.assertThrows(
+                UncheckedIOException.class,
+                () -> question.answer(question.help())
+            );
+            Assertions.assertEquals(0L, journal.commits());
+        }
+    }
+
+    /**
+     * Check that the multi-choice answers are restored as they were given.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testMultiChoice(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("journal.bin");
+        final QuestionsProvider provider = () -> Collections.singletonList(
+            new MultiChoiceQuestion(
+                "Vowels?",
+                Map.of(Choice.A, "a", Choice.B, "b", Choice.C, "e"),
+                EnumSet.of(Choice.A, Choice.C)
+            )
+        );
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            journal.test("s1", provider).nextQuestion().answer(
+                new MultiChoiceAnswer(EnumSet.of(Choice.A, Choice.C))
+            );
+        }
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            final JournaledTest test = journal.test("s1", provider);
+            Assertions.assertFalse(test.hasMoreQuestions());
+            Assertions.assertTrue(test.currentTestResult().isPassed());
+        }
+    }
+
+    /**
+     * Check that the compaction removes the finished sessions and keeps the
+     * unfinished ones.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testCompact(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("journal.bin");
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            final JournaledTest finished =
+                journal.test("s1", new TestQuestionsProvider());
+            AnswerJournalTest.answer(finished, 5);
+            finished.finish();
+            final long before = Files.size(file);
+            final JournaledTest open =
+                journal.test("s2", new TestQuestionsProvider());
+            AnswerJournalTest.answer(open, 1);
+            journal.compact();
+            Assertions.assertTrue(Files.size(file) < before);
+            AnswerJournalTest.answer(open, 1);
+        }
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            Assertions.assertEquals(
+                Collections.singleton("s2"), journal.sessions()
+            );
+            AnswerJournalTest.assertQuestion(
+                "6 - 2 = ?", journal.test("s2", new TestQuestionsProvider())
+                    .nextQuestion()
+            );
+        }
+    }
+
+    /**
+     * Check that the concurrent answers are written and the writes are
+     * shared between them.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testGroupCommit(@TempDir final Path dir) throws Exception {
+        final Path file = dir.resolve("journal.bin");
+        final int sessions = 50;
+        final ExecutorService executor = Executors.newFixedThreadPool(16);
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            final List<Future<?>> futures = new ArrayList<>(sessions);
+            for (int idx = 0; idx < sessions; ++idx) {
+                final JournaledTest test = journal.test(
+                    String.valueOf(idx), new TestQuestionsProvider()
+                );
+                futures.add(
+                    executor.submit(() -> AnswerJournalTest.answer(test, 5))
+                );
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+            Assertions.assertTrue(journal.commits() > 0L);
+            Assertions.assertTrue(journal.commits() <= sessions * 5L);
+        } finally {
+            executor.shutdown();
+        }
+        try (AnswerJournal journal = new AnswerJournal(file)) {
+            Assertions.assertEquals(sessions, journal.sessions().size());
+            Assertions.assertTrue(
+                journal.test("7", new TestQuestionsProvider())
+                    .currentTestResult().isPassed()
+            );
+        }
+    }
+
+    /**
+     * Check that the writer survives the interruption.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testInterrupt(@TempDir final Path dir) throws Exception {
+        try (AnswerJournal journal =
+            new AnswerJournal(dir.resolve("journal.bin"))) {
+            final JournaledTest test =
+                journal.test("s1", new TestQuestionsProvider());
+            AnswerJournalTest.answer(test, 1);
+            for (final Thread thread : Thread.getAllStackTraces().keySet()) {
+                if ("answer-journal".equals(thread.getName())) {
+                    while (thread.getState() != Thread.State.WAITING) {
+                        Thread.yield();
+                    }
+                    thread.interrupt();
+                }
+            }
+            AnswerJournalTest.answer(test, 4);
+            Assertions.assertTrue(test.currentTestResult().isPassed());
+        }
+    }
+
+    /**
+     * Check that the closed journal doesn't accept the answers.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testClosed(@TempDir final Path dir) throws Exception {
+        final AnswerJournal journal =
+            new AnswerJournal(dir.resolve("journal.bin"));
+        final JournaledTest test =
+            journal.test("s1", new TestQuestionsProvider());
+        journal.close();
+        journal.close();
+        Assertions.assertThrows(IllegalStateException.class, test::finish);
+        Assertions.assertThrows(
+            UncheckedIOException.class,
+            () -> new AnswerJournal(dir.resolve("missing/journal.bin"))
+        );
+    }
+
+    /**
+     * Check that the question has the text.
+     *
+     * @param text The expected text.
+     * @param question The question.
+     */
+    private static void assertQuestion(
+        final String text, final Question question
+    ) {
+        Assertions.assertTrue(
+            question.toDisplayableString().contains(text),
+            question.toDisplayableString()
+        );
+    }
+
+    /**
+     * Damage the journal by appending the partially written record.
+     *
+     * @param file The journal's file.
+     * @param record The record.
+     * @throws Exception If something goes wrong.
+     */
+    private static void damage(final Path file, final ByteBuffer record)
+        throws Exception {
+        try (FileChannel channel = FileChannel.open(
+            file, StandardOpenOption.APPEND
+        )) {
+            channel.write(record.limit(record.limit() - 1));
+        }
+    }
+
+    /**
+     * Answer the next questions of the test correctly.
+     *
+     * @param test The test.
+     * @param count The amount of the questions.
+     */
+    private static void answer(final JournaledTest test, final int count) {
+        for (int idx = 0; idx < count; ++idx) {
+            final Question question = test.nextQuestion();
+            question.answer(
+                new SimpleAnswer(question.help().toDisplayableString())
+            );
+        }
+    }
+}
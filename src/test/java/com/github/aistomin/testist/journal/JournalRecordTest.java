@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.journal;
+
+import com.github.aistomin.testist.multichoice.Choice;
+import com.github.aistomin.testist.multichoice.MultiChoiceAnswer;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import java.nio.ByteBuffer;
+import java.util.EnumSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link JournalRecord}.
+ *
+ * @since 1.0
+ */
+final class JournalRecordTest {
+
+    /**
+     * Check that the record can be read back.
+     */
+    @Test
+    void testEncode() {
+        final ByteBuffer buffer = new JournalRecord(
+            JournalRecord.ANSWER, "session", 2, "Привет"
+        ).encode();
+        final int size = buffer.remaining();
+        final JournalRecord record = JournalRecord.read(buffer);
+        Assertions.assertEquals(JournalRecord.ANSWER, record.type());
+        Assertions.assertEquals("session", record.session());
+        Assertions.assertEquals(2, record.index());
+        Assertions.assertEquals("Привет", record.answer());
+        Assertions.assertEquals(size, buffer.position());
+        Assertions.assertFalse(buffer.hasRemaining());
+    }
+
+    /**
+     * Check that the answer is restored as the same type of the answer.
+     */
+    @Test
+    void testAnswerTypes() {
+        final JournalRecord choices = JournalRecord.read(
+            JournalRecord.answer(
+                "session", 1,
+                new MultiChoiceAnswer(EnumSet.of(Choice.A, Choice.C))
+            ).encode()
+        );
+        Assertions.assertEquals(JournalRecord.CHOICES, choices.type());
+        Assertions.assertEquals(
+            new MultiChoiceAnswer(EnumSet.of(Choice.A, Choice.C)),
+            choices.given()
+        );
+        final JournalRecord text = JournalRecord.read(
+            JournalRecord.answer("session", 0, new SimpleAnswer("A; C"))
+                .encode()
+        );
+        Assertions.assertEquals(JournalRecord.ANSWER, text.type());
+        Assertions.assertTrue(text.given() instanceof SimpleAnswer);
+        Assertions.assertEquals("A; C", text.given().toDisplayableString());
+    }
+
+    /**
+     * Check that the incomplete and damaged records are not read.
+     */
+    @Test
+    void testBroken() {
+        final ByteBuffer buffer = new JournalRecord(
+            JournalRecord.FINISH, "session", -1, ""
+        ).encode();
+        Assertions.assertNull(
+            JournalRecord.read(buffer.duplicate().limit(Integer.BYTES))
+        );
+        Assertions.assertNull(
+            JournalRecord.read(
+                buffer.duplicate().limit(buffer.remaining() - 1)
+            )
+        );
+        final ByteBuffer damaged = ByteBuffer.allocate(buffer.remaining())
+            .put(buffer.duplicate()).flip();
+        damaged.put(damaged.limit() - 1, (byte) 1);
+        Assertions.assertNull(JournalRecord.read(damaged));
+        Assertions.assertNull(
+            JournalRecord.read(ByteBuffer.allocate(JournalRecord.HEADER))
+        );
+    }
+}
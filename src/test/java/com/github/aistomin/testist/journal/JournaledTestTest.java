@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.journal;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.TestQuestionsProvider;
+import java.io.StringWriter;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The tests for {@link JournaledTest}.
+ *
+ * @since 1.0
+ */
+final class JournaledTestTest {
+
+    /**
+     * Check that the test and its questions behave like the decorated ones.
+     *
+     * @param dir Temporary directory.
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testDelegate(@TempDir final Path dir) throws Exception {
+        final TestQuestionsProvider provider = new TestQuestionsProvider();
+        final Question origin = provider.questions().get(0);
+        try (AnswerJournal journal =
+            new AnswerJournal(dir.resolve("journal.bin"))) {
+            final JournaledTest test = journal.test("s1", provider);
+            Assertions.assertTrue(test.hasMoreQuestions());
+            final Question question = test.nextQuestion();
+            Assertions.assertEquals(
+                origin.toDisplayableString(), question.toDisplayableString()
+            );
+            Assertions.assertEquals(origin.toJson(), question.toJson());
+            final StringWriter out = new StringWriter();
+            question.writeJson(out);
+            Assertions.assertEquals(
+                origin.toJson().toJSONString(), out.toString()
+            );
+            Assertions.assertEquals(
+                origin.help().toDisplayableString(),
+                question.help().toDisplayableString()
+            );
+            Assertions.assertFalse(question.isAnswered());
+            question.answer(new SimpleAnswer("3"));
+            Assertions.assertTrue(question.isAnswered());
+            Assertions.assertFalse(question.isCorrect());
+            Assertions.assertFalse(test.currentTestResult().isFinished());
+            test.finish();
+            Assertions.assertEquals(2L, journal.commits());
+        }
+    }
+}
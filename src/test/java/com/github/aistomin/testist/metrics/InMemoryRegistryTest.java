@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.metrics;
+
+import java.io.StringWriter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link InMemoryRegistry}.
+ *
+ * @since 1.0
+ */
+final class InMemoryRegistryTest {
+
+    /**
+     * Check that the metrics are exposed in the text format.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testScrape() throws Exception {
+        final InMemoryRegistry registry = new InMemoryRegistry();
+        registry.counter("b_total").add(2L);
+        registry.counter("a_total").add(1L);
+        registry.counter("b_total").add(3L);
+        final Histogram histogram = registry.histogram("size");
+        histogram.record(0L);
+        histogram.record(1L);
+        histogram.record(5L);
+        histogram.record(-1L);
+        registry.timer("time").record(Long.MAX_VALUE);
+        final String expected = String.join(
+            "\n",
+            "# TYPE a_total counter",
+            "a_total 1",
+            "# TYPE b_total counter",
+            "b_total 5",
+            "# TYPE size histogram",
+            "size_bucket{le=\"0\"} 2",
+            "size_bucket{le=\"1\"} 3",
+            "size_bucket{le=\"3\"} 3",
+            "size_bucket{le=\"7\"} 4",
+            "size_bucket{le=\"+Inf\"} 4",
+            "size_sum 6",
+            "size_count 4",
+            "# TYPE time histogram",
+            "time_bucket{le=\"+Inf\"} 1",
+            "time_sum 9223372036854775807",
+            "time_count 1",
+            ""
+        );
+        Assertions.assertTrue(
+            registry.scrape().startsWith(
+                expected.substring(0, expected.indexOf("# TYPE time"))
+            )
+        );
+        final StringWriter out = new StringWriter();
+        registry.scrape(out);
+        Assertions.assertEquals(registry.scrape(), out.toString());
+        Assertions.assertTrue(
+            out.toString().endsWith(
+                "time_bucket{le=\"+Inf\"} 1\n"
+                    + "time_sum 9223372036854775807\n"
+                    + "time_count 1\n"
+            )
+        );
+        Assertions.assertTrue(
+            out.toString().contains(
+                "time_bucket{le=\"9223372036854775807\"} 1\n"
+            )
+        );
+    }
+
+    /**
+     * Check that the same metric is returned for the same name.
+     */
+    @Test
+    void testSameMetric() {
+        final InMemoryRegistry registry = new InMemoryRegistry();
+        Assertions.assertSame(
+            registry.counter("hits_total"), registry.counter("hits_total")
+        );
+        Assertions.assertNotSame(
+            registry.counter("hits_total"), registry.counter("misses_total")
+        );
+        Assertions.assertSame(
+            registry.histogram("size"), registry.timer("size")
+        );
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.metrics;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleTest;
+import com.github.aistomin.testist.simple.TestQuestionsProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link Metrics}.
+ *
+ * @since 1.0
+ */
+final class MetricsTest {
+
+    /**
+     * Check that the instrumented code records the metrics to the installed
+     * registry.
+     */
+    @Test
+    void testInstrumentation() {
+        final InMemoryRegistry registry = new InMemoryRegistry();
+        Metrics.install(registry);
+        try {
+            Assertions.assertTrue(Metrics.enabled());
+            final SimpleTest test = new SimpleTest(new TestQuestionsProvider());
+            final Question question = test.nextQuestion();
+            question.answer(new SimpleAnswer("2"));
+            Assertions.assertTrue(question.isCorrect());
+            question.toDisplayableString();
+            test.currentTestResult().toDisplayableString();
+        } finally {
+            Metrics.disable();
+        }
+        final String metrics = registry.scrape();
+        Assertions.assertTrue(
+            metrics.contains("testist_question_answers_total 1\n"), metrics
+        );
+        Assertions.assertTrue(
+            metrics.contains("testist_answer_validate_nanoseconds_count 3\n"),
+            metrics
+        );
+        Assertions.assertTrue(
+            metrics.contains("testist_question_display_nanoseconds_count 1\n"),
+            metrics
+        );
+        Assertions.assertTrue(
+            metrics.contains("testist_question_display_chars_count 1\n"),
+            metrics
+        );
+        Assertions.assertTrue(
+            metrics.contains("testist_result_display_nanoseconds_count 1\n"),
+            metrics
+        );
+        Assertions.assertTrue(
+            metrics.contains(
+                "testist_test_next_question_nanoseconds_count 1\n"
+            ),
+            metrics
+        );
+    }
+
+    /**
+     * Check that nothing is recorded when the metrics are disabled.
+     */
+    @Test
+    void testDisabled() {
+        Assertions.assertFalse(Metrics.enabled());
+        final long start = Metrics.start();
+        final InMemoryRegistry registry = new InMemoryRegistry();
+        Metrics.install(registry);
+        try {
+            Metrics.stop(Metrics.timer("late"), start);
+            Metrics.stop(Metrics.timer("timer"), Metrics.start());
+        } finally {
+            Metrics.disable();
+        }
+        Metrics.counter("events").add(1L);
+        Metrics.histogram("sizes").record(1L);
+        Metrics.timer("timer").record(1L);
+        final String metrics = registry.scrape();
+        Assertions.assertFalse(metrics.contains("late"), metrics);
+        Assertions.assertFalse(metrics.contains("events"), metrics);
+        Assertions.assertFalse(metrics.contains("sizes"), metrics);
+        Assertions.assertTrue(
+            metrics.contains("timer_count 1\n"), metrics
+        );
+    }
+}
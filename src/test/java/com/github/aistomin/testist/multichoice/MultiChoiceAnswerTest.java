@@ -15,9 +15,12 @@
  */
 package com.github.aistomin.testist.multichoice;
 
+import com.github.aistomin.testist.simple.SimpleAnswer;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.Set;
+import org.json.simple.parser.JSONParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -74,4 +77,61 @@ final class MultiChoiceAnswerTest {
             "A; B; F", new MultiChoiceAnswer(selected).toDisplayableString()
         );
     }
+
+    /**
+     * Check that the answers created from the set and from the bit mask are
+     * the same.
+     */
+    @Test
+    void mask() {
+        final MultiChoiceAnswer set = new MultiChoiceAnswer(
+            EnumSet.of(Choice.A, Choice.C, Choice.Z)
+        );
+        final MultiChoiceAnswer mask = new MultiChoiceAnswer(
+            1 | 1 << Choice.C.ordinal() | 1 << Choice.Z.ordinal()
+        );
+        Assertions.assertEquals(set.mask(), mask.mask());
+        Assertions.assertEquals(set, mask);
+        Assertions.assertEquals(set.hashCode(), mask.hashCode());
+        Assertions.assertTrue(set.validate(mask));
+        Assertions.assertEquals("A; C; Z", mask.toDisplayableString());
+        Assertions.assertNotEquals(set, new MultiChoiceAnswer(1));
+        Assertions.assertNotEquals(set, new SimpleAnswer("A; C; Z"));
+        Assertions.assertEquals("", new MultiChoiceAnswer(0).toDisplayableString());
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new MultiChoiceAnswer(1 << Choice.values().length)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> new MultiChoiceAnswer(-1)
+        );
+    }
+
+    /**
+     * Check that we can validate the answers of another type by their text.
+     */
+    @Test
+    void validateText() {
+        final MultiChoiceAnswer answer = new MultiChoiceAnswer(
+            EnumSet.of(Choice.B, Choice.D)
+        );
+        Assertions.assertTrue(answer.validate(new SimpleAnswer("B; D")));
+        Assertions.assertFalse(answer.validate(new SimpleAnswer("D; B")));
+    }
+
+    /**
+     * Check that we write the same JSON as {@link MultiChoiceAnswer#toJson()}.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void writeJson() throws Exception {
+        final MultiChoiceAnswer answer =
+            new MultiChoiceAnswer(EnumSet.of(Choice.B, Choice.K));
+        final StringBuilder json = new StringBuilder();
+        answer.writeJson(json);
+        Assertions.assertEquals(
+            answer.toJson(), new JSONParser().parse(json.toString())
+        );
+    }
 }
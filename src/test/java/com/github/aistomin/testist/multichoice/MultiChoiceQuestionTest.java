@@ -24,6 +24,7 @@ import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -71,9 +72,11 @@ final class MultiChoiceQuestionTest {
             text, choices, answer
         );
         Assertions.assertFalse(wrong.isAnswered());
-        wrong.answer(
-            new MultiChoiceAnswer(
-                new HashSet<>(Arrays.asList(Choice.A, Choice.D))
+        Assertions.assertFalse(
+            wrong.grade(
+                new MultiChoiceAnswer(
+                    new HashSet<>(Arrays.asList(Choice.A, Choice.D))
+                )
             )
         );
         Assertions.assertTrue(wrong.isAnswered());
@@ -101,9 +104,11 @@ final class MultiChoiceQuestionTest {
     /**
      * Check that we can correctly convert question to JSON and to displayable
      * string.
+     *
+     * @throws Exception If something goes wrong.
      */
     @Test
-    void testDisplay() {
+    void testDisplay() throws Exception {
         final Map<Choice, String> choices = new HashMap<>();
         choices.put(Choice.A, UUID.randomUUID().toString());
         choices.put(Choice.B, UUID.randomUUID().toString());
@@ -127,11 +132,13 @@ final class MultiChoiceQuestionTest {
         );
         final JSONObject json = question.toJson();
         Assertions.assertEquals(
-            new SimpleQuestion(
-                new MultiChoiceQuestionText(text, choices),
-                new MultiChoiceAnswer(answer)
-            ).toJson().toString(),
-            json.toString()
+            new JSONParser().parse(
+                new SimpleQuestion(
+                    new MultiChoiceQuestionText(text, choices),
+                    new MultiChoiceAnswer(answer)
+                ).toJson().toString()
+            ),
+            new JSONParser().parse(json.toString())
         );
     }
 
@@ -147,4 +154,28 @@ final class MultiChoiceQuestionTest {
         choices.put(Choice.D, "Dream Theater");
         return choices;
     }
+
+    /**
+     * Check that we write the same JSON as {@link MultiChoiceQuestion#toJson()}.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testWriteJson() throws Exception {
+        final Map<Choice, String> choices = new HashMap<>();
+        choices.put(Choice.A, "Yes");
+        choices.put(Choice.B, "No");
+        final MultiChoiceQuestion question = new MultiChoiceQuestion(
+            "Is it true?", choices, Collections.singleton(Choice.A)
+        );
+        question.answer(new MultiChoiceAnswer(Collections.singleton(Choice.B)));
+        final StringBuilder json = new StringBuilder();
+        question.writeJson(json);
+        final JSONObject parsed =
+            (JSONObject) new JSONParser().parse(json.toString());
+        Assertions.assertEquals(
+            question.toJson().get("expected"), parsed.get("expected")
+        );
+        Assertions.assertEquals(question.toJson().get("got"), parsed.get("got"));
+    }
 }
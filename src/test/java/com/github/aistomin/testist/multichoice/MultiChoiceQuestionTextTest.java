@@ -18,6 +18,7 @@ package com.github.aistomin.testist.multichoice;
 import java.util.HashMap;
 import java.util.Map;
 import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -63,4 +64,26 @@ final class MultiChoiceQuestionTextTest {
         Assertions.assertEquals(expected.get(Choice.B), got.get(Choice.B));
         Assertions.assertEquals(expected.get(Choice.C), got.get(Choice.C));
     }
+
+    /**
+     * Check that we write the same JSON as
+     * {@link MultiChoiceQuestionText#toJson()}.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void writeJson() throws Exception {
+        final Map<Choice, String> choices = new HashMap<>();
+        choices.put(Choice.A, "Java");
+        choices.put(Choice.B, "C/C++");
+        final String question = "What is your favourite programming language?";
+        final StringBuilder json = new StringBuilder();
+        new MultiChoiceQuestionText(question, choices).writeJson(json);
+        final JSONObject parsed =
+            (JSONObject) new JSONParser().parse(json.toString());
+        Assertions.assertEquals(question, parsed.get("text"));
+        final Map<String, String> expected = new HashMap<>();
+        choices.forEach((key, value) -> expected.put(key.name(), value));
+        Assertions.assertEquals(expected, parsed.get("choices"));
+    }
 }
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.multichoice;
+
+import java.util.HashMap;
+import java.util.Map;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The test for {@link PrecompiledQuestionText}.
+ *
+ * @since 1.0
+ */
+final class PrecompiledQuestionTextTest {
+
+    /**
+     * The question's text.
+     */
+    private static final String TEXT = "Which band recorded Close to the Edge?";
+
+    /**
+     * Check that the text is rendered exactly like
+     * {@link MultiChoiceQuestionText}.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testRender() throws Exception {
+        final Map<Choice, String> choices = PrecompiledQuestionTextTest.choices();
+        final MultiChoiceQuestionText origin = new MultiChoiceQuestionText(
+            PrecompiledQuestionTextTest.TEXT, choices
+        );
+        final PrecompiledQuestionText text = new PrecompiledQuestionText(
+            PrecompiledQuestionTextTest.TEXT, choices
+        );
+        Assertions.assertEquals(
+            origin.toDisplayableString(), text.toDisplayableString()
+        );
+        Assertions.assertEquals(origin.toJson(), text.toJson());
+        final StringBuilder out = new StringBuilder();
+        text.writeJson(out);
+        Assertions.assertEquals(
+            new JSONParser().parse(origin.toJson().toJSONString()),
+            new JSONParser().parse(out.toString())
+        );
+    }
+
+    /**
+     * Check that the text doesn't change when the choices change after it
+     * is created.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testImmutable() throws Exception {
+        final Map<Choice, String> choices = PrecompiledQuestionTextTest.choices();
+        final PrecompiledQuestionText text = new PrecompiledQuestionText(
+            PrecompiledQuestionTextTest.TEXT, choices
+        );
+        final String display = text.toDisplayableString();
+        final String json = text.toJson().toJSONString();
+        choices.put(Choice.E, "Genesis");
+        choices.remove(Choice.A);
+        Assertions.assertEquals(display, text.toDisplayableString());
+        Assertions.assertEquals(json, text.toJson().toJSONString());
+        Assertions.assertTrue(display.contains("Yes"));
+        Assertions.assertFalse(display.contains("Genesis"));
+        final StringBuilder out = new StringBuilder();
+        text.writeJson(out);
+        Assertions.assertEquals(json, out.toString());
+    }
+
+    /**
+     * The choices, in no particular order.
+     *
+     * @return The choices.
+     */
+    private static Map<Choice, String> choices() {
+        final Map<Choice, String> choices = new HashMap<>();
+        choices.put(Choice.D, "King Crimson");
+        choices.put(Choice.B, "Pink Floyd");
+        choices.put(Choice.A, "Yes");
+        choices.put(Choice.C, "Camel");
+        return choices;
+    }
+}
@@ -0,0 +1,456 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.server;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleQuestion;
+import com.github.aistomin.testist.simple.SimpleText;
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The test for {@link ConsoleServer}.
+ *
+ * @since 1.0
+ */
+final class ConsoleServerTest {
+
+    /**
+     * The line of the frame of the question.
+     */
+    private static final String FRAME = "**********************************";
+
+    /**
+     * Check that the server runs many sessions at once on a few threads.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testManySessions() throws Exception {
+        final int clients = 200;
+        final int questions = 5;
+        try (ConsoleServer server = ConsoleServerTest.server(questions, 2)) {
+            final ExecutorService executor = Executors.newFixedThreadPool(50);
+            try {
+                final List<Future<String>> futures = new ArrayList<>(clients);
+                for (int client = 0; client < clients; ++client) {
+                    final boolean right = client % 2 == 0;
+                    futures.add(
+                        executor.submit(
+                            () -> ConsoleServerTest.pipelined(
+                                server, questions, right
+                            )
+                        )
+                    );
+                }
+                for (int client = 0; client < clients; ++client) {
+                    final String output = futures.get(client).get();
+                    Assertions.assertTrue(
+                        output.contains("YOUR TEST IS FINISHED.")
+                    );
+                    if (client % 2 == 0) {
+                        Assertions.assertTrue(
+                            output.contains("CONGRATULATIONS")
+                        );
+                    } else {
+                        Assertions.assertTrue(
+                            output.contains("PREPARE AND TRY AGAIN LATER")
+                        );
+                    }
+                }
+            } finally {
+                executor.shutdown();
+            }
+            ConsoleServerTest.awaitSessions(server, 0);
+        }
+    }
+
+    /**
+     * Check that the client can answer the questions one by one, with the
+     * answers split into several packets.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testInteractive() throws Exception {
+        try (ConsoleServer server = ConsoleServerTest.server(2, 1);
+            Socket socket = ConsoleServerTest.connect(server)) {
+            final BufferedReader reader = ConsoleServerTest.reader(socket);
+            final OutputStream out = socket.getOutputStream();
+            Assertions.assertTrue(
+                ConsoleServerTest.block(reader).contains("Grüße 0?")
+            );
+            final byte[] answer = "\r\n  \r\nGrüße 0\r\n"
+                .getBytes(StandardCharsets.UTF_8);
+            for (final byte chunk : answer) {
+                out.write(chunk);
+                out.flush();
+            }
+            Assertions.assertTrue(
+                ConsoleServerTest.block(reader)
+                    .contains("YOUR ANSWER IS CORRECT!")
+            );
+            Assertions.assertTrue(
+                ConsoleServerTest.block(reader).contains("Grüße 1?")
+            );
+            out.write("wrong\n".getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            Assertions.assertTrue(
+                ConsoleServerTest.block(reader)
+                    .contains("PROVIDED ANSWER: wrong")
+            );
+            Assertions.assertTrue(
+                ConsoleServerTest.block(reader)
+                    .contains("PREPARE AND TRY AGAIN LATER")
+            );
+            Assertions.assertNull(reader.readLine());
+        }
+    }
+
+    /**
+     * Check that the answers which the client sent before closing its side
+     * of the connection are all answered before the connection is closed.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testHalfClosed() throws Exception {
+        try (ConsoleServer server =
+            ConsoleServerTest.server(3, 1, "-".repeat(Connection.BUFFER));
+            Socket socket = ConsoleServerTest.connect(server)) {
+            socket.getOutputStream().write(
+                "Grüße 0\nGrüße 1\nGrüße 2\nextra"
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+            socket.shutdownOutput();
+            final BufferedReader reader = ConsoleServerTest.reader(socket);
+            final StringBuilder output = new StringBuilder();
+            String line = reader.readLine();
+            while (line != null) {
+                output.append(line).append('\n');
+                line = reader.readLine();
+            }
+            Assertions.assertTrue(output.toString().contains("Grüße 2?"));
+            Assertions.assertTrue(
+                output.toString().contains("CONGRATULATIONS")
+            );
+            ConsoleServerTest.awaitSessions(server, 0);
+        }
+    }
+
+    /**
+     * Check that the server doesn't read the answers of the client which
+     * doesn't read the output, and still finishes the test when it does.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testSlowClient() throws Exception {
+        final int questions = 300;
+        final String padding = "-".repeat(100_000);
+        try (ConsoleServer server =
+            ConsoleServerTest.server(questions, 1, padding)) {
+            final String output =
+                ConsoleServerTest.pipelined(server, questions, true);
+            Assertions.assertTrue(output.contains("CONGRATULATIONS"));
+            Assertions.assertTrue(
+                output.length() > questions * padding.length() * 2
+            );
+        }
+    }
+
+    /**
+     * Check that the connections which break the protocol are closed.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testBrokenClients() throws Exception {
+        try (ConsoleServer server = ConsoleServerTest.server(3, 2)) {
+            try (Socket socket = ConsoleServerTest.connect(server)) {
+                final BufferedReader reader =
+                    ConsoleServerTest.reader(socket);
+                ConsoleServerTest.block(reader);
+                final Writer writer = new OutputStreamWriter(
+                    socket.getOutputStream(), StandardCharsets.UTF_8
+                );
+                writer.write("x".repeat(Connection.MAX_LINE + 1));
+                writer.flush();
+                Assertions.assertNull(reader.readLine());
+            }
+            final Socket reset = ConsoleServerTest.connect(server);
+            ConsoleServerTest.block(ConsoleServerTest.reader(reset));
+            reset.setSoLinger(true, 0);
+            reset.close();
+            final Socket quit = ConsoleServerTest.connect(server);
+            ConsoleServerTest.block(ConsoleServerTest.reader(quit));
+            quit.close();
+            ConsoleServerTest.awaitSessions(server, 0);
+            final Socket open = ConsoleServerTest.connect(server);
+            ConsoleServerTest.block(ConsoleServerTest.reader(open));
+            ConsoleServerTest.awaitSessions(server, 1);
+            server.close();
+            Assertions.assertEquals(0, server.sessions());
+            Assertions.assertNull(ConsoleServerTest.reader(open).readLine());
+            open.close();
+        }
+    }
+
+    /**
+     * Check that the connection which fails unexpectedly is closed alone and
+     * the server keeps serving the other connections.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testFailedConnection() throws Exception {
+        final Question shared = new SimpleQuestion(
+            new SimpleText("Shared?"), new SimpleAnswer("Yes")
+        );
+        final AtomicInteger calls = new AtomicInteger();
+        final QuestionsProvider provider = () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("No questions yet.");
+            }
+            return Collections.singletonList(shared);
+        };
+        try (ConsoleServer server = new ConsoleServer(
+            new InetSocketAddress("127.0.0.1", 0), provider, 1
+        )) {
+            try (Socket failed = ConsoleServerTest.connect(server)) {
+                Assertions.assertNull(
+                    ConsoleServerTest.reader(failed).readLine()
+                );
+            }
+            ConsoleServerTest.awaitSessions(server, 0);
+            final Socket first = ConsoleServerTest.connect(server);
+            final BufferedReader reader = ConsoleServerTest.reader(first);
+            ConsoleServerTest.block(reader);
+            final Socket second = ConsoleServerTest.connect(server);
+            ConsoleServerTest.block(ConsoleServerTest.reader(second));
+            ConsoleServerTest.awaitSessions(server, 2);
+            second.getOutputStream().write(
+                "Yes\n".getBytes(StandardCharsets.UTF_8)
+            );
+            ConsoleServerTest.awaitSessions(server, 1);
+            first.getOutputStream().write(
+                "Yes\n".getBytes(StandardCharsets.UTF_8)
+            );
+            Assertions.assertNull(reader.readLine());
+            ConsoleServerTest.awaitSessions(server, 0);
+            first.close();
+            second.close();
+            try (Socket socket = ConsoleServerTest.connect(server)) {
+                Assertions.assertTrue(
+                    ConsoleServerTest.block(ConsoleServerTest.reader(socket))
+                        .contains("YOUR TEST IS FINISHED.")
+                );
+            }
+        }
+    }
+
+    /**
+     * Check that the test without the questions is finished right away.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testEmptyTest() throws Exception {
+        try (ConsoleServer server = ConsoleServerTest.server(0, 1);
+            Socket socket = ConsoleServerTest.connect(server)) {
+            final BufferedReader reader = ConsoleServerTest.reader(socket);
+            Assertions.assertTrue(
+                ConsoleServerTest.block(reader)
+                    .contains("YOUR TEST IS FINISHED.")
+            );
+            Assertions.assertNull(reader.readLine());
+        }
+    }
+
+    /**
+     * Check that the server can't be started without threads.
+     */
+    @Test
+    void testNoThreads() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> ConsoleServerTest.server(1, 0)
+        );
+    }
+
+    /**
+     * Start the server.
+     *
+     * @param questions The amount of the questions in the test.
+     * @param threads The amount of the threads.
+     * @return The server.
+     * @throws Exception If something goes wrong.
+     */
+    private static ConsoleServer server(final int questions, final int threads)
+        throws Exception {
+        return ConsoleServerTest.server(questions, threads, "");
+    }
+
+    /**
+     * Start the server with the long questions.
+     *
+     * @param questions The amount of the questions in the test.
+     * @param threads The amount of the threads.
+     * @param padding The text which precedes every question.
+     * @return The server.
+     * @throws Exception If something goes wrong.
+     */
+    private static ConsoleServer server(
+        final int questions, final int threads, final String padding
+    ) throws Exception {
+        final QuestionsProvider provider = () -> IntStream.range(0, questions)
+            .mapToObj(
+                idx -> (Question) new SimpleQuestion(
+                    new SimpleText(String.format("%sGrüße %d?", padding, idx)),
+                    new SimpleAnswer(String.format("Grüße %d", idx))
+                )
+            ).collect(Collectors.toList());
+        return new ConsoleServer(
+            new InetSocketAddress("127.0.0.1", 0), provider, threads
+        );
+    }
+
+    /**
+     * Send all the answers at once and read the whole output.
+     *
+     * @param server The server.
+     * @param questions The amount of the questions in the test.
+     * @param right Should the answers be correct?
+     * @return The output.
+     * @throws Exception If something goes wrong.
+     */
+    private static String pipelined(
+        final ConsoleServer server, final int questions, final boolean right
+    ) throws Exception {
+        try (Socket socket = ConsoleServerTest.connect(server)) {
+            final StringBuilder answers = new StringBuilder();
+            for (int idx = 0; idx < questions; ++idx) {
+                if (right) {
+                    answers.append(String.format("Grüße %d%n", idx));
+                } else {
+                    answers.append("wrong\n");
+                }
+            }
+            socket.getOutputStream().write(
+                answers.toString().getBytes(StandardCharsets.UTF_8)
+            );
+            socket.getOutputStream().flush();
+            final BufferedReader reader = ConsoleServerTest.reader(socket);
+            final StringBuilder output = new StringBuilder();
+            String line = reader.readLine();
+            while (line != null) {
+                output.append(line).append('\n');
+                line = reader.readLine();
+            }
+            return output.toString();
+        }
+    }
+
+    /**
+     * Read the framed block of the output.
+     *
+     * @param reader The reader.
+     * @return The block.
+     * @throws Exception If something goes wrong.
+     */
+    private static String block(final BufferedReader reader)
+        throws Exception {
+        final StringBuilder block = new StringBuilder();
+        int frames = 0;
+        while (frames < 2) {
+            final String line = reader.readLine();
+            if (ConsoleServerTest.FRAME.equals(line)) {
+                ++frames;
+            }
+            block.append(line).append('\n');
+        }
+        return block.toString();
+    }
+
+    /**
+     * Connect to the server.
+     *
+     * @param server The server.
+     * @return The socket.
+     * @throws Exception If something goes wrong.
+     */
+    private static Socket connect(final ConsoleServer server)
+        throws Exception {
+        final Socket socket = new Socket();
+        socket.setReceiveBufferSize(Connection.BUFFER);
+        socket.connect(server.address());
+        socket.setSoTimeout((int) TimeUnit.SECONDS.toMillis(30L));
+        return socket;
+    }
+
+    /**
+     * Create the reader of the socket.
+     *
+     * @param socket The socket.
+     * @return The reader.
+     * @throws Exception If something goes wrong.
+     */
+    private static BufferedReader reader(final Socket socket)
+        throws Exception {
+        return new BufferedReader(
+            new InputStreamReader(
+                socket.getInputStream(), StandardCharsets.UTF_8
+            )
+        );
+    }
+
+    /**
+     * Wait until the server has the amount of the open connections.
+     *
+     * @param server The server.
+     * @param expected The amount.
+     * @throws Exception If something goes wrong.
+     */
+    private static void awaitSessions(
+        final ConsoleServer server, final int expected
+    ) throws Exception {
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10L);
+        while (server.sessions() != expected && System.nanoTime() < deadline) {
+            Thread.sleep(10L);
+        }
+        Assertions.assertEquals(expected, server.sessions());
+    }
+}
@@ -0,0 +1,381 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.server;
+
+import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleQuestion;
+import com.github.aistomin.testist.simple.SimpleText;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The test for {@link HttpApi}.
+ *
+ * @since 1.0
+ */
+final class HttpApiTest {
+
+    /**
+     * The client.
+     */
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    /**
+     * Check that the client can pass the whole test through the API.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testSession() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (HttpApi api = HttpApiTest.api(2, executor)) {
+            final String id = this.open(api);
+            Assertions.assertEquals(1, api.sessions());
+            final HttpResponse<String> question = this.send(
+                api, "GET", String.format("/sessions/%s/question", id), null
+            );
+            Assertions.assertEquals(200, question.statusCode());
+            final JSONObject json = HttpApiTest.json(question);
+            Assertions.assertEquals(
+                "Grüße 0?", ((JSONObject) json.get("question")).get("text")
+            );
+            Assertions.assertFalse(json.containsKey("expected"));
+            Assertions.assertEquals(
+                "true", this.answer(api, id, "{\"text\": \"Grüße 0\"}")
+            );
+            Assertions.assertEquals(
+                "false", this.answer(api, id, "{\"text\": \"Grüße 0\"}")
+            );
+            Assertions.assertEquals(
+                204,
+                this.send(
+                    api, "GET", String.format("/sessions/%s/question", id),
+                    null
+                ).statusCode()
+            );
+            final JSONObject result = HttpApiTest.json(
+                this.send(
+                    api, "GET", String.format("/sessions/%s/result", id), null
+                )
+            );
+            Assertions.assertEquals("2", result.get("total"));
+            Assertions.assertEquals("1", result.get("correct"));
+            final HttpResponse<String> conflict = this.send(
+                api, "POST", String.format("/sessions/%s/answer", id),
+                "{\"text\": \"Grüße 2\"}"
+            );
+            Assertions.assertEquals(409, conflict.statusCode());
+            Assertions.assertEquals(
+                String.format("Session %s is finished.", id),
+                HttpApiTest.json(conflict).get("error")
+            );
+            final HttpResponse<String> closed = this.send(
+                api, "DELETE", String.format("/sessions/%s", id), null
+            );
+            Assertions.assertEquals(200, closed.statusCode());
+            Assertions.assertEquals(
+                "1", HttpApiTest.json(closed).get("correct")
+            );
+            Assertions.assertEquals(0, api.sessions());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Check that the API rejects the wrong requests.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testErrors() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (HttpApi api = HttpApiTest.api(1, executor)) {
+            final String id = this.open(api);
+            final HttpResponse<String> unknown = this.send(
+                api, "GET", "/sessions/nobody/question", null
+            );
+            Assertions.assertEquals(404, unknown.statusCode());
+            Assertions.assertEquals(
+                "Unknown session nobody.", HttpApiTest.json(unknown).get("error")
+            );
+            Assertions.assertEquals(
+                404,
+                this.send(api, "GET", "/sessions/nobody/result", null)
+                    .statusCode()
+            );
+            final String[][] wrong = {
+                {"GET", "/sessions"},
+                {"POST", "/sessionsx"},
+                {"PUT", String.format("/sessions/%s", id)},
+                {"GET", String.format("/sessions/%s/answer", id)},
+                {"POST", String.format("/sessions/%s/question", id)},
+                {"POST", String.format("/sessions/%s/result", id)},
+                {"GET", String.format("/sessions/%s/", id)},
+                {"GET", String.format("/sessions/%s/result/x", id)},
+            };
+            for (final String[] request : wrong) {
+                final HttpResponse<String> response =
+                    this.send(api, request[0], request[1], "");
+                Assertions.assertEquals(404, response.statusCode());
+                Assertions.assertEquals(
+                    String.format(
+                        "Unknown resource %s %s.", request[0], request[1]
+                    ),
+                    HttpApiTest.json(response).get("error")
+                );
+            }
+            for (final String body : new String[] {
+                "", "[]", "{\"text\": 1}", "{\"answer\": \"Grüße 0\"}",
+            }) {
+                final HttpResponse<String> response = this.send(
+                    api, "POST", String.format("/sessions/%s/answer", id), body
+                );
+                Assertions.assertEquals(400, response.statusCode());
+                Assertions.assertEquals(
+                    "Answer must be a JSON object with the text.",
+                    HttpApiTest.json(response).get("error")
+                );
+            }
+            Assertions.assertEquals(
+                "true", this.answer(api, id, "{\"text\": \"Grüße 0\"}")
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Check that the unexpected failures of the sessions are reported as
+     * the server's errors.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testUnexpectedFailures() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final QuestionsProvider provider = () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new UnsupportedOperationException("No questions.");
+            }
+            return Collections.singletonList(
+                new SimpleQuestion(
+                    new SimpleText("2 + 2 = ?"),
+                    Collections.<Answer>singletonList(null)
+                )
+            );
+        };
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (HttpApi api = new HttpApi(
+            new InetSocketAddress("127.0.0.1", 0), provider, executor
+        )) {
+            final HttpResponse<String> failed =
+                this.send(api, "POST", "/sessions", "");
+            Assertions.assertEquals(500, failed.statusCode());
+            Assertions.assertEquals(
+                "Internal server error.", HttpApiTest.json(failed).get("error")
+            );
+            final String id = this.open(api);
+            final HttpResponse<String> broken = this.send(
+                api, "POST", String.format("/sessions/%s/answer", id),
+                "{\"text\": \"Grüße 0\"}"
+            );
+            Assertions.assertEquals(500, broken.statusCode());
+            Assertions.assertEquals(
+                "Internal server error.", HttpApiTest.json(broken).get("error")
+            );
+            Assertions.assertEquals(
+                200,
+                this.send(
+                    api, "GET", String.format("/sessions/%s/result", id), null
+                ).statusCode()
+            );
+            Assertions.assertEquals(
+                404,
+                this.send(api, "GET", "/sessions/nobody/result", null)
+                    .statusCode()
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Check that the API serves many sessions at once.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testManySessions() throws Exception {
+        final int clients = 50;
+        final int questions = 5;
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final ExecutorService users = Executors.newFixedThreadPool(10);
+        try (HttpApi api = HttpApiTest.api(questions, executor)) {
+            final List<Future<Object>> futures = new ArrayList<>(clients);
+            for (int user = 0; user < clients; ++user) {
+                futures.add(
+                    users.submit(
+                        () -> {
+                            final String id = this.open(api);
+                            for (int idx = 0; idx < questions; ++idx) {
+                                this.answer(
+                                    api, id,
+                                    String.format(
+                                        "{\"text\": \"Grüße %d\"}", idx
+                                    )
+                                );
+                            }
+                            return HttpApiTest.json(
+                                this.send(
+                                    api, "DELETE",
+                                    String.format("/sessions/%s", id), null
+                                )
+                            ).get("correct");
+                        }
+                    )
+                );
+            }
+            for (final Future<Object> future : futures) {
+                Assertions.assertEquals(
+                    String.valueOf(questions), future.get()
+                );
+            }
+            Assertions.assertEquals(0, api.sessions());
+        } finally {
+            users.shutdown();
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Start the API.
+     *
+     * @param questions The amount of the questions in the test.
+     * @param executor The executor of the requests.
+     * @return The API.
+     * @throws Exception If something goes wrong.
+     */
+    private static HttpApi api(
+        final int questions, final ExecutorService executor
+    ) throws Exception {
+        final QuestionsProvider provider = () -> IntStream.range(0, questions)
+            .mapToObj(
+                idx -> (Question) new SimpleQuestion(
+                    new SimpleText(String.format("Grüße %d?", idx)),
+                    new SimpleAnswer(String.format("Grüße %d", idx))
+                )
+            ).collect(Collectors.toList());
+        return new HttpApi(
+            new InetSocketAddress("127.0.0.1", 0), provider, executor
+        );
+    }
+
+    /**
+     * Open the session.
+     *
+     * @param api The API.
+     * @return The session's identifier.
+     * @throws Exception If something goes wrong.
+     */
+    private String open(final HttpApi api) throws Exception {
+        final HttpResponse<String> response =
+            this.send(api, "POST", "/sessions", "");
+        Assertions.assertEquals(201, response.statusCode());
+        return (String) HttpApiTest.json(response).get("id");
+    }
+
+    /**
+     * Answer the next question.
+     *
+     * @param api The API.
+     * @param id The session's identifier.
+     * @param body The answer.
+     * @return Whether the answer is correct.
+     * @throws Exception If something goes wrong.
+     */
+    private String answer(final HttpApi api, final String id, final String body)
+        throws Exception {
+        final HttpResponse<String> response = this.send(
+            api, "POST", String.format("/sessions/%s/answer", id), body
+        );
+        Assertions.assertEquals(200, response.statusCode());
+        return (String) HttpApiTest.json(response).get("correct");
+    }
+
+    /**
+     * Send the request.
+     *
+     * @param api The API.
+     * @param method The method.
+     * @param path The path.
+     * @param body The body or null if the request has no body.
+     * @return The response.
+     * @throws Exception If something goes wrong.
+     */
+    private HttpResponse<String> send(
+        final HttpApi api, final String method, final String path,
+        final String body
+    ) throws Exception {
+        final HttpRequest.BodyPublisher publisher;
+        if (body == null) {
+            publisher = HttpRequest.BodyPublishers.noBody();
+        } else {
+            publisher = HttpRequest.BodyPublishers.ofString(body);
+        }
+        return this.client.send(
+            HttpRequest.newBuilder(
+                URI.create(
+                    String.format(
+                        "http://127.0.0.1:%d%s", api.address().getPort(), path
+                    )
+                )
+            ).method(method, publisher).build(),
+            HttpResponse.BodyHandlers.ofString()
+        );
+    }
+
+    /**
+     * Parse the body of the response.
+     *
+     * @param response The response.
+     * @return The JSON.
+     * @throws Exception If something goes wrong.
+     */
+    private static JSONObject json(final HttpResponse<String> response)
+        throws Exception {
+        return (JSONObject) new JSONParser().parse(response.body());
+    }
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.session;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.Result;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.TestQuestionsProvider;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link SessionEngine}.
+ *
+ * @since 1.0
+ */
+final class SessionEngineTest {
+
+    /**
+     * Questions provider which creates the new questions for every session.
+     */
+    private static final QuestionsProvider QUESTIONS =
+        () -> new TestQuestionsProvider().questions();
+
+    /**
+     * Check that we can pass the test in the session.
+     */
+    @Test
+    void testSession() {
+        final SessionEngine engine =
+            new SessionEngine(SessionEngineTest.QUESTIONS, Runnable::run);
+        final String id = engine.open();
+        Assertions.assertEquals(1, engine.size());
+        Question question = engine.next(id).join();
+        while (question != null) {
+            Assertions.assertTrue(engine.answer(id, question.help()).join());
+            question = engine.next(id).join();
+        }
+        Assertions.assertTrue(engine.result(id).isPassed());
+        Assertions.assertEquals(
+            String.format("Session %s is finished.", id),
+            Assertions.assertThrows(
+                CompletionException.class,
+                () -> engine.answer(id, new SimpleAnswer("1")).join()
+            ).getCause().getMessage()
+        );
+        final Result result = engine.close(id);
+        Assertions.assertTrue(result.isFinished());
+        Assertions.assertEquals(0, engine.size());
+        Assertions.assertEquals(
+            String.format("Unknown session %s.", id),
+            Assertions.assertThrows(
+                IllegalArgumentException.class, () -> engine.result(id)
+            ).getMessage()
+        );
+    }
+
+    /**
+     * Check that many sessions can be answered concurrently.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testManySessions() throws Exception {
+        final int size = 10_000;
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        final SessionEngine engine =
+            new SessionEngine(SessionEngineTest.QUESTIONS, executor);
+        final List<String> ids = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            ids.add(engine.open());
+        }
+        Assertions.assertEquals(size, engine.size());
+        final List<CompletableFuture<Boolean>> answers = new ArrayList<>(size);
+        for (final String id : ids) {
+            answers.add(engine.answer(id, new SimpleAnswer("2")));
+        }
+        for (final CompletableFuture<Boolean> answer : answers) {
+            Assertions.assertTrue(answer.get());
+        }
+        for (final String id : ids) {
+            Assertions.assertEquals(
+                "1", engine.result(id).toJson().get("correct")
+            );
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    }
+
+    /**
+     * Check that the concurrent answers to the same session answer every
+     * question once and the extra answers find the session finished.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testSameSession() throws Exception {
+        final int size = 200;
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final SessionEngine engine =
+            new SessionEngine(SessionEngineTest.QUESTIONS, executor);
+        final String id = engine.open();
+        final List<CompletableFuture<Boolean>> answers = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            answers.add(engine.answer(id, new SimpleAnswer("4")));
+        }
+        int graded = 0;
+        for (final CompletableFuture<Boolean> answer : answers) {
+            try {
+                answer.join();
+                graded += 1;
+            } catch (final CompletionException ex) {
+                Assertions.assertEquals(
+                    String.format("Session %s is finished.", id),
+                    ex.getCause().getMessage()
+                );
+            }
+        }
+        Assertions.assertEquals(5, graded);
+        Assertions.assertEquals(
+            "5", engine.result(id).toJson().get("answered")
+        );
+        Assertions.assertTrue(engine.result(id).isFinished());
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    }
+}
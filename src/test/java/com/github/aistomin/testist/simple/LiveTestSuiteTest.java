@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.Question;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link LiveTestSuite}.
+ *
+ * @since 1.0
+ */
+final class LiveTestSuiteTest {
+
+    /**
+     * Check that the live result follows the answers and matches the result
+     * calculated by scanning the tests.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testResult() throws Exception {
+        final LiveTestSuite suite = new LiveTestSuite("Math");
+        Assertions.assertEquals("Math", suite.topic());
+        final int size = 200;
+        final List<SimpleTest> tests = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            tests.add(suite.add(new TestQuestionsProvider()));
+        }
+        suite.add(Collections::emptyList);
+        Assertions.assertEquals(size + 1, suite.suite().size());
+        Assertions.assertEquals(1L, suite.result().finished());
+        Assertions.assertEquals(1L, suite.result().passed());
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>(size);
+            for (int idx = 0; idx < size; ++idx) {
+                final SimpleTest test = tests.get(idx);
+                final boolean wrong = idx % 3 == 0;
+                futures.add(
+                    executor.submit(
+                        () -> {
+                            while (test.hasMoreQuestions()) {
+                                final Question question = test.nextQuestion();
+                                if (wrong) {
+                                    question.answer(new SimpleAnswer("?"));
+                                } else {
+                                    question.answer(question.help());
+                                }
+                            }
+                        }
+                    )
+                );
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final SuiteResult live = suite.result();
+        final SuiteResult scanned = new SuiteResult(
+            new SimpleTestSuite(suite.topic(), suite.suite())
+        );
+        Assertions.assertEquals(size + 1, live.tests());
+        Assertions.assertEquals(size + 1, live.finished());
+        Assertions.assertEquals(scanned.passed(), live.passed());
+        Assertions.assertEquals(scanned.total(), live.total());
+        Assertions.assertEquals(scanned.answered(), live.answered());
+        Assertions.assertEquals(scanned.correct(), live.correct());
+        Assertions.assertEquals(134L, live.passed());
+        Assertions.assertTrue(live.isFinished());
+        Assertions.assertFalse(live.isPassed());
+    }
+
+    /**
+     * Check that the test without the questions is counted as finished and
+     * passed, the same as its own result.
+     */
+    @Test
+    void testEmptyTest() {
+        final LiveTestSuite suite = new LiveTestSuite("Nothing");
+        final SimpleTest test = suite.add(Collections::emptyList);
+        Assertions.assertTrue(test.currentTestResult().isFinished());
+        Assertions.assertTrue(test.currentTestResult().isPassed());
+        final SuiteResult live = suite.result();
+        final SuiteResult scanned = new SuiteResult(
+            new SimpleTestSuite(suite.topic(), suite.suite())
+        );
+        Assertions.assertEquals(1L, live.finished());
+        Assertions.assertEquals(1L, live.passed());
+        Assertions.assertEquals(scanned.passed(), live.passed());
+        Assertions.assertTrue(live.isFinished());
+        Assertions.assertTrue(live.isPassed());
+    }
+
+    /**
+     * Check that the answer is counted by the suite when it is given, before
+     * the test is touched again.
+     */
+    @Test
+    void testAnswerCounted() {
+        final LiveTestSuite suite = new LiveTestSuite("Math");
+        final TestQuestionsProvider provider = new TestQuestionsProvider();
+        final List<Question> questions = provider.questions();
+        final SimpleTest test = suite.add(provider);
+        final Question first = test.nextQuestion();
+        first.answer(first.help());
+        Assertions.assertEquals(1L, suite.result().answered());
+        Assertions.assertEquals(1L, suite.result().correct());
+        for (final Question question : questions.subList(1, questions.size())) {
+            question.answer(new SimpleAnswer("?"));
+        }
+        final SuiteResult live = suite.result();
+        Assertions.assertEquals(questions.size(), live.answered());
+        Assertions.assertEquals(1L, live.correct());
+        Assertions.assertEquals(1L, live.finished());
+        Assertions.assertEquals(0L, live.passed());
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.Answer;
+import com.github.aistomin.testist.Question;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link LockFreeQuestion}.
+ *
+ * @since 1.0
+ */
+final class LockFreeQuestionTest {
+
+    /**
+     * Check that we can correctly answer the questions.
+     */
+    @Test
+    void testAnswer() {
+        final SimpleAnswer expected = new SimpleAnswer("Andrej");
+        final Question wrong = new LockFreeQuestion(
+            new SimpleText("What is your name?"), expected
+        );
+        Assertions.assertEquals(expected, wrong.help());
+        Assertions.assertFalse(wrong.isAnswered());
+        Assertions.assertFalse(wrong.isCorrect());
+        wrong.answer(new SimpleAnswer("John"));
+        Assertions.assertTrue(wrong.isAnswered());
+        Assertions.assertFalse(wrong.isCorrect());
+        Assertions.assertEquals(
+            "Can not answer the same question twice.",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> wrong.answer(new SimpleAnswer("Alex"))
+            ).getMessage()
+        );
+        Assertions.assertEquals(
+            "Answer must be provided.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class, () -> wrong.answer(null)
+            ).getMessage()
+        );
+        final List<Answer> correct = Arrays.asList(
+            new SimpleAnswer("Istomin"), new SimpleAnswer("Istomin Andrei")
+        );
+        final Question question = new LockFreeQuestion(
+            new SimpleText("What is your surname?"), correct
+        );
+        question.answer(new SimpleAnswer("Istomin Andrei"));
+        Assertions.assertTrue(question.isAnswered());
+        Assertions.assertTrue(question.isCorrect());
+    }
+
+    /**
+     * Check that only one of the concurrent answers is accepted.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testConcurrentAnswers() throws Exception {
+        final int threads = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final Question question = new LockFreeQuestion(
+            new SimpleText("1 + 1 = ?"), new SimpleAnswer("2")
+        );
+        final AtomicInteger accepted = new AtomicInteger();
+        final List<Future<?>> futures = new ArrayList<>(threads);
+        for (int idx = 0; idx < threads; ++idx) {
+            final String answer = String.valueOf(idx);
+            futures.add(
+                executor.submit(
+                    () -> {
+                        start.await();
+                        try {
+                            question.answer(new SimpleAnswer(answer));
+                            accepted.incrementAndGet();
+                        } catch (final IllegalStateException ignored) {
+                            Assertions.assertTrue(question.isAnswered());
+                        }
+                        return null;
+                    }
+                )
+            );
+        }
+        start.countDown();
+        for (final Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        Assertions.assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        Assertions.assertEquals(1, accepted.get());
+        Assertions.assertTrue(question.isAnswered());
+    }
+
+    /**
+     * Check that we correctly convert question to JSON.
+     */
+    @Test
+    void testToJson() {
+        final String answer = "It's me";
+        final Question question = new LockFreeQuestion(
+            new SimpleText("Who are you?"), new SimpleAnswer(answer)
+        );
+        final String text = "text";
+        final String got = "got";
+        Assertions.assertNull(question.toJson().get(got));
+        Assertions.assertEquals(
+            answer, ((JSONObject) question.toJson().get("expected")).get(text)
+        );
+        final String wrong = "It's he";
+        question.answer(new SimpleAnswer(wrong));
+        Assertions.assertEquals(
+            wrong, ((JSONObject) question.toJson().get(got)).get(text)
+        );
+    }
+
+    /**
+     * Check that the question is displayed the same way as
+     * {@link SimpleQuestion}.
+     */
+    @Test
+    void testToDisplayableString() {
+        final String text = "How old are you?";
+        final String answer = "33";
+        for (final String got : Arrays.asList(answer, "15")) {
+            final Question simple = new SimpleQuestion(
+                new SimpleText(text), new SimpleAnswer(answer)
+            );
+            final Question free = new LockFreeQuestion(
+                new SimpleText(text), new SimpleAnswer(answer)
+            );
+            Assertions.assertEquals(
+                simple.toDisplayableString(), free.toDisplayableString()
+            );
+            simple.answer(new SimpleAnswer(got));
+            free.answer(new SimpleAnswer(got));
+            Assertions.assertEquals(
+                simple.toDisplayableString(), free.toDisplayableString()
+            );
+        }
+    }
+
+    /**
+     * Check that the questions with the same text are equal.
+     */
+    @Test
+    void testEquals() {
+        final Question question = new LockFreeQuestion(
+            new SimpleText("Q"), new SimpleAnswer("A")
+        );
+        final Question same = new LockFreeQuestion(
+            new SimpleText("Q"), new SimpleAnswer("B")
+        );
+        Assertions.assertEquals(question, question);
+        Assertions.assertEquals(question, same);
+        Assertions.assertEquals(question.hashCode(), same.hashCode());
+        Assertions.assertNotEquals(
+            question,
+            new LockFreeQuestion(new SimpleText("P"), new SimpleAnswer("A"))
+        );
+        Assertions.assertNotEquals(
+            question, new SimpleQuestion(new SimpleText("Q"), new SimpleAnswer("A"))
+        );
+        Assertions.assertNotEquals(null, question);
+    }
+
+    /**
+     * Check that we write the same JSON as {@link LockFreeQuestion#toJson()}.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testWriteJson() throws Exception {
+        final Question question = new LockFreeQuestion(
+            new SimpleText("Who are you?"), new SimpleAnswer("It's me")
+        );
+        final StringBuilder unanswered = new StringBuilder();
+        question.writeJson(unanswered);
+        Assertions.assertEquals(
+            question.toJson(), new JSONParser().parse(unanswered.toString())
+        );
+        question.answer(new SimpleAnswer("It's he"));
+        final StringBuilder answered = new StringBuilder();
+        question.writeJson(answered);
+        Assertions.assertEquals(
+            question.toJson(), new JSONParser().parse(answered.toString())
+        );
+    }
+
+    /**
+     * Check that we can answer and check the question at once.
+     */
+    @Test
+    void testGrade() {
+        final Question correct = new LockFreeQuestion(
+            new SimpleText("2 + 2 = ?"), new SimpleAnswer("4")
+        );
+        Assertions.assertTrue(correct.grade(new SimpleAnswer("4")));
+        Assertions.assertTrue(correct.isAnswered());
+        Assertions.assertTrue(correct.isCorrect());
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> correct.grade(new SimpleAnswer("4"))
+        );
+        final Question wrong = new LockFreeQuestion(
+            new SimpleText("2 + 2 = ?"), new SimpleAnswer("4")
+        );
+        Assertions.assertFalse(wrong.grade(new SimpleAnswer("5")));
+        Assertions.assertTrue(wrong.isAnswered());
+    }
+
+    /**
+     * Check that the listeners are notified once about the answer.
+     */
+    @Test
+    void testListen() {
+        final Question question = new LockFreeQuestion(
+            new SimpleText("2 + 2 = ?"), new SimpleAnswer("4")
+        );
+        final List<Boolean> heard = new ArrayList<>(2);
+        question.listen(heard::add);
+        Assertions.assertTrue(heard.isEmpty());
+        question.answer(new SimpleAnswer("5"));
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> question.answer(new SimpleAnswer("4"))
+        );
+        question.listen(heard::add);
+        Assertions.assertEquals(Arrays.asList(false, false), heard);
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.MagicNumbers;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The test for {@link PrecomputedResult}.
+ *
+ * @since 1.0
+ */
+final class PrecomputedResultTest {
+
+    /**
+     * Check that the result behaves exactly like {@link SimpleResult}.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testSameAsSimple() throws Exception {
+        final int total = MagicNumbers.SEVEN.number();
+        final int[] thresholds = {
+            0, MagicNumbers.FIFTY.number(), MagicNumbers.NINETY.number(),
+            MagicNumbers.HUNDRED.number(),
+        };
+        for (final int threshold : thresholds) {
+            for (int done = 0; done <= total; ++done) {
+                for (int right = 0; right <= done; ++right) {
+                    final SimpleResult simple = new SimpleResult(
+                        new SimpleResult.Input(total, done, right), threshold
+                    );
+                    final PrecomputedResult computed = new PrecomputedResult(
+                        total, done, right, threshold
+                    );
+                    Assertions.assertEquals(
+                        simple.isFinished(), computed.isFinished()
+                    );
+                    Assertions.assertEquals(
+                        simple.isPassed(), computed.isPassed()
+                    );
+                    Assertions.assertEquals(
+                        simple.toDisplayableString(),
+                        computed.toDisplayableString()
+                    );
+                    Assertions.assertEquals(simple.toJson(), computed.toJson());
+                    final StringBuilder json = new StringBuilder();
+                    computed.writeJson(json);
+                    Assertions.assertEquals(
+                        simple.toJson(), new JSONParser().parse(json.toString())
+                    );
+                }
+            }
+        }
+    }
+
+    /**
+     * Check that the result of the huge test doesn't overflow.
+     */
+    @Test
+    void testHugeTest() {
+        final long total = Long.MAX_VALUE - 1L;
+        final PrecomputedResult passed = new PrecomputedResult(
+            total, total, total / 2L + 1L, MagicNumbers.FIFTY.number()
+        );
+        Assertions.assertTrue(passed.isFinished());
+        Assertions.assertTrue(passed.isPassed());
+        Assertions.assertEquals(total, passed.total());
+        Assertions.assertEquals(total, passed.answered());
+        Assertions.assertEquals(total / 2L + 1L, passed.correct());
+        Assertions.assertFalse(
+            new PrecomputedResult(
+                total, total, total / 2L - 1L, MagicNumbers.FIFTY.number()
+            ).isPassed()
+        );
+        Assertions.assertTrue(
+            new PrecomputedResult(total, total, total).isPassed()
+        );
+        Assertions.assertFalse(
+            new PrecomputedResult(total, total, total - 1L).isPassed()
+        );
+    }
+
+    /**
+     * Check that the test without the questions is passed.
+     */
+    @Test
+    void testEmptyTest() {
+        final PrecomputedResult result = new PrecomputedResult(0L, 0L, 0L);
+        Assertions.assertTrue(result.isFinished());
+        Assertions.assertTrue(result.isPassed());
+    }
+
+    /**
+     * Check that the result is validated when it is created.
+     */
+    @Test
+    void testValidation() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new PrecomputedResult(-1L, 0L, 0L)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new PrecomputedResult(1L, -1L, 0L)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new PrecomputedResult(1L, 1L, -1L)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new PrecomputedResult(1L, 1L, 1L, -1)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new PrecomputedResult(
+                1L, 1L, 1L, MagicNumbers.HUNDRED.number() + 1
+            )
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new PrecomputedResult(1L, 2L, 0L)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new PrecomputedResult(2L, 1L, 2L)
+        );
+    }
+}
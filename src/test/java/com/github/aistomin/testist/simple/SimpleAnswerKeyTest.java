@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.Question;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link SimpleAnswerKey}.
+ *
+ * @since 1.0
+ */
+final class SimpleAnswerKeyTest {
+
+    /**
+     * Check that we correctly validate the answers against all the expected
+     * ones.
+     */
+    @Test
+    void testValidate() {
+        final SimpleAnswerKey key = new SimpleAnswerKey(
+            Arrays.asList(
+                new SimpleAnswer("My name is Andrej."),
+                new SimpleAnswer("I am Andrej."),
+                new SimpleAnswer("I'm called Andrej.")
+            )
+        );
+        Assertions.assertTrue(key.validate(new SimpleAnswer("I am Andrej.")));
+        Assertions.assertTrue(
+            key.validate(new SimpleAnswer("  I'm   called Andrej. "))
+        );
+        Assertions.assertFalse(key.validate(new SimpleAnswer("i am andrej")));
+        Assertions.assertFalse(key.validate(new SimpleAnswer("I am Bruce.")));
+        Assertions.assertFalse(key.validate(null));
+    }
+
+    /**
+     * Check that every expected answer is validated according to its own
+     * configuration.
+     */
+    @Test
+    void testValidateWithConfigurations() {
+        final SimpleAnswerKey key = new SimpleAnswerKey(
+            Arrays.asList(
+                new SimpleAnswer("Paris"),
+                new SimpleAnswer(
+                    "The capital is Paris!",
+                    EnumSet.of(
+                        SimpleAnswer.Conf.IGNORE_CASE,
+                        SimpleAnswer.Conf.IGNORE_PUNCTUATION
+                    )
+                ),
+                new SimpleAnswer(
+                    "City of Light", EnumSet.of(SimpleAnswer.Conf.IGNORE_CASE)
+                )
+            )
+        );
+        Assertions.assertTrue(key.validate(new SimpleAnswer("Paris")));
+        Assertions.assertFalse(key.validate(new SimpleAnswer("paris")));
+        Assertions.assertTrue(
+            key.validate(new SimpleAnswer("the capital, is paris"))
+        );
+        Assertions.assertTrue(key.validate(new SimpleAnswer("city of light")));
+        Assertions.assertFalse(key.validate(new SimpleAnswer("city of light!")));
+    }
+
+    /**
+     * Check that the expected answers which ignore the typos are matched
+     * together with the exact ones.
+     */
+    @Test
+    void testValidateWithTypos() {
+        final SimpleAnswerKey key = new SimpleAnswerKey(
+            Arrays.asList(
+                new SimpleAnswer("Paris"),
+                new SimpleAnswer(
+                    "Lutetia",
+                    EnumSet.of(
+                        SimpleAnswer.Conf.IGNORE_TYPOS,
+                        SimpleAnswer.Conf.IGNORE_CASE
+                    )
+                ),
+                new SimpleAnswer(
+                    "City of Light",
+                    EnumSet.of(SimpleAnswer.Conf.IGNORE_TYPOS), 2
+                ),
+                new SimpleAnswer(
+                    "Ville Lumiere",
+                    EnumSet.of(SimpleAnswer.Conf.IGNORE_TYPOS), 2
+                )
+            )
+        );
+        Assertions.assertTrue(key.validate(new SimpleAnswer("Paris")));
+        Assertions.assertFalse(key.validate(new SimpleAnswer("Pariss")));
+        Assertions.assertTrue(key.validate(new SimpleAnswer("lutecia")));
+        Assertions.assertFalse(key.validate(new SimpleAnswer("lutecya")));
+        Assertions.assertTrue(key.validate(new SimpleAnswer("Cty of Ligt")));
+        Assertions.assertTrue(key.validate(new SimpleAnswer("Vile Lumière")));
+        Assertions.assertFalse(key.validate(new SimpleAnswer("London")));
+    }
+
+    /**
+     * Check that the key behaves like the list of the expected answers inside
+     * of {@link SimpleQuestion}.
+     */
+    @Test
+    void testQuestion() {
+        final List<SimpleAnswer> answers = Arrays.asList(
+            new SimpleAnswer("Four"), new SimpleAnswer("4")
+        );
+        final Question question = new SimpleQuestion(
+            new SimpleText("2 + 2 = ?"), new SimpleAnswerKey(answers)
+        );
+        Assertions.assertEquals("Four", question.help().toDisplayableString());
+        question.answer(new SimpleAnswer("4"));
+        Assertions.assertTrue(question.isCorrect());
+    }
+
+    /**
+     * Check that the key is displayed as its primary answer.
+     */
+    @Test
+    void testDisplay() {
+        final String primary = "Primary answer";
+        final SimpleAnswerKey key = new SimpleAnswerKey(
+            Arrays.asList(
+                new SimpleAnswer(primary), new SimpleAnswer("Secondary answer")
+            )
+        );
+        Assertions.assertEquals(primary, key.toDisplayableString());
+        Assertions.assertEquals(primary, key.toJson().get("text"));
+    }
+
+    /**
+     * Check that we can not create an empty key.
+     */
+    @Test
+    void testEmpty() {
+        Assertions.assertEquals(
+            "Answer key must contain at least one answer.",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new SimpleAnswerKey(Collections.emptyList())
+            ).getMessage()
+        );
+    }
+
+    /**
+     * Check that the key is written to JSON as its primary answer.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testWriteJson() throws Exception {
+        final SimpleAnswerKey key = new SimpleAnswerKey(
+            Arrays.asList(new SimpleAnswer("Yes"), new SimpleAnswer("Ja"))
+        );
+        final StringBuilder json = new StringBuilder();
+        key.writeJson(json);
+        Assertions.assertEquals(
+            key.toJson(), new JSONParser().parse(json.toString())
+        );
+    }
+}
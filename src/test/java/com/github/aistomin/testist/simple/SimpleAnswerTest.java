@@ -16,7 +16,9 @@
 package com.github.aistomin.testist.simple;
 
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.HashSet;
+import org.json.simple.parser.JSONParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -146,4 +148,62 @@ final class SimpleAnswerTest {
             )
         );
     }
+
+    /**
+     * Check that we can ignore the typos up to the maximal distance.
+     */
+    @Test
+    void testIgnoreTypos() {
+        final SimpleAnswer answer = new SimpleAnswer(
+            "Hallo! Ich bin Herr Müller.",
+            EnumSet.of(
+                SimpleAnswer.Conf.IGNORE_TYPOS, SimpleAnswer.Conf.IGNORE_CASE
+            )
+        );
+        Assertions.assertTrue(
+            answer.validate(new SimpleAnswer("hallo! ich bin herr Muller."))
+        );
+        Assertions.assertTrue(
+            answer.validate(new SimpleAnswer("Hallo! Ich bin Herr Müler."))
+        );
+        Assertions.assertFalse(
+            answer.validate(new SimpleAnswer("Hallo! Ich bin Herr Mueler."))
+        );
+        Assertions.assertFalse(answer.validate(null));
+        final SimpleAnswer lenient = new SimpleAnswer(
+            "Hallo! Ich bin Herr Müller.",
+            EnumSet.of(
+                SimpleAnswer.Conf.IGNORE_TYPOS,
+                SimpleAnswer.Conf.IGNORE_PUNCTUATION
+            ),
+            2
+        );
+        Assertions.assertTrue(
+            lenient.validate(new SimpleAnswer("Hallo, Ich bin Herr Mueler"))
+        );
+        Assertions.assertFalse(
+            lenient.validate(new SimpleAnswer("Hallo, Ich bin Herr Schmidt"))
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new SimpleAnswer(
+                "Paris", EnumSet.of(SimpleAnswer.Conf.IGNORE_TYPOS), -1
+            )
+        );
+    }
+
+    /**
+     * Check that we write the same JSON as {@link SimpleAnswer#toJson()}.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testWriteJson() throws Exception {
+        final SimpleAnswer answer = new SimpleAnswer("Say \"hello\"");
+        final StringBuilder json = new StringBuilder();
+        answer.writeJson(json);
+        Assertions.assertEquals(
+            answer.toJson(), new JSONParser().parse(json.toString())
+        );
+    }
 }
@@ -17,9 +17,11 @@ package com.github.aistomin.testist.simple;
 
 import com.github.aistomin.testist.Answer;
 import com.github.aistomin.testist.Question;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -151,4 +153,108 @@ final class SimpleQuestionTest {
             Assertions.assertTrue(quest.isCorrect());
         }
     }
+
+    /**
+     * Check that we write the same JSON as {@link SimpleQuestion#toJson()}.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testWriteJson() throws Exception {
+        final SimpleQuestion question = new SimpleQuestion(
+            new SimpleText("Who are you?"), new SimpleAnswer("It's me")
+        );
+        final StringBuilder unanswered = new StringBuilder();
+        question.writeJson(unanswered);
+        Assertions.assertEquals(
+            question.toJson(), new JSONParser().parse(unanswered.toString())
+        );
+        question.answer(new SimpleAnswer("It's he"));
+        final StringBuilder answered = new StringBuilder();
+        question.writeJson(answered);
+        Assertions.assertEquals(
+            question.toJson(), new JSONParser().parse(answered.toString())
+        );
+    }
+
+    /**
+     * Check that the questions with the same text are equal.
+     */
+    @Test
+    void testEquals() {
+        final Question question = new SimpleQuestion(
+            new SimpleText("Q"), new SimpleAnswer("A")
+        );
+        final Question same = new SimpleQuestion(
+            new SimpleText("Q"), new SimpleAnswer("B")
+        );
+        Assertions.assertEquals(question, question);
+        Assertions.assertEquals(question, same);
+        Assertions.assertEquals(question.hashCode(), same.hashCode());
+        Assertions.assertNotEquals(
+            question,
+            new SimpleQuestion(new SimpleText("P"), new SimpleAnswer("A"))
+        );
+        Assertions.assertNotEquals(question, new SimpleText("Q"));
+        Assertions.assertNotEquals(null, question);
+    }
+
+    /**
+     * Check that we can answer and check the question at once.
+     */
+    @Test
+    void testGrade() {
+        final Question correct = new SimpleQuestion(
+            new SimpleText("2 + 2 = ?"), new SimpleAnswer("4")
+        );
+        Assertions.assertTrue(correct.grade(new SimpleAnswer("4")));
+        Assertions.assertTrue(correct.isAnswered());
+        Assertions.assertTrue(correct.isCorrect());
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> correct.grade(new SimpleAnswer("4"))
+        );
+        final Question wrong = new SimpleQuestion(
+            new SimpleText("2 + 2 = ?"), new SimpleAnswer("4")
+        );
+        Assertions.assertFalse(wrong.grade(new SimpleAnswer("5")));
+        Assertions.assertTrue(wrong.isAnswered());
+    }
+
+    /**
+     * Check that the rendering is cached until the question is answered.
+     */
+    @Test
+    void testDisplayCache() {
+        final Question question = new SimpleQuestion(
+            new SimpleText("2 + 2 = ?"), new SimpleAnswer("4")
+        );
+        final String unanswered = question.toDisplayableString();
+        Assertions.assertSame(unanswered, question.toDisplayableString());
+        question.answer(new SimpleAnswer("5"));
+        final String answered = question.toDisplayableString();
+        Assertions.assertNotEquals(unanswered, answered);
+        Assertions.assertTrue(answered.contains("PROVIDED ANSWER: 5"));
+        Assertions.assertSame(answered, question.toDisplayableString());
+    }
+
+    /**
+     * Check that the listeners are notified once about the answer.
+     */
+    @Test
+    void testListen() {
+        final Question question = new SimpleQuestion(
+            new SimpleText("2 + 2 = ?"), new SimpleAnswer("4")
+        );
+        final List<Boolean> heard = new ArrayList<>(2);
+        question.listen(heard::add);
+        Assertions.assertTrue(heard.isEmpty());
+        question.answer(new SimpleAnswer("5"));
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> question.answer(new SimpleAnswer("4"))
+        );
+        question.listen(heard::add);
+        Assertions.assertEquals(Arrays.asList(false, false), heard);
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.Question;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link SimpleQuestionsStream}.
+ *
+ * @since 1.0
+ */
+final class SimpleQuestionsStreamTest {
+
+    /**
+     * Check that we lazily iterate over the provider's questions.
+     */
+    @Test
+    void testIterator() {
+        final List<Question> questions =
+            new TestQuestionsProvider().questions();
+        final AtomicInteger calls = new AtomicInteger();
+        final SimpleQuestionsStream stream = new SimpleQuestionsStream(
+            () -> {
+                calls.incrementAndGet();
+                return questions;
+            }
+        );
+        final Iterator<Question> iterator = stream.iterator();
+        Assertions.assertEquals(0, calls.get());
+        for (final Question question : questions) {
+            Assertions.assertTrue(iterator.hasNext());
+            Assertions.assertSame(question, iterator.next());
+        }
+        Assertions.assertFalse(iterator.hasNext());
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertSame(questions.get(0), stream.iterator().next());
+        Assertions.assertEquals(2, calls.get());
+    }
+}
@@ -18,6 +18,7 @@ package com.github.aistomin.testist.simple;
 import com.github.aistomin.testist.MagicNumbers;
 import java.util.Arrays;
 import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -245,4 +246,53 @@ final class SimpleResultTest {
             "CONGRATULATIONS!!!"
         ).forEach(item -> Assertions.assertTrue(success.contains(item)));
     }
+
+    /**
+     * Check that the result is rendered with the line separators rather
+     * than the raw format specifiers.
+     */
+    @Test
+    void testLineSeparators() {
+        Assertions.assertEquals(
+            String.format(
+                "%n**********************************%n"
+                    + "YOUR TEST IS FINISHED.%n"
+                    + "CORRECT: 5%nWRONG: 2%nPASSING PERCENTAGE: 50%n"
+                    + ":) CONGRATULATIONS!!! :)%n"
+                    + "**********************************"
+            ),
+            new SimpleResult(
+                new SimpleResult.Input(
+                    MagicNumbers.SEVEN.number(),
+                    MagicNumbers.SEVEN.number(),
+                    MagicNumbers.FIVE.number()
+                ), MagicNumbers.FIFTY.number()
+            ).toDisplayableString()
+        );
+    }
+
+    /**
+     * Check that we write the same JSON as {@link SimpleResult#toJson()}.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void writeJson() throws Exception {
+        final SimpleResult result = new SimpleResult(
+            new SimpleResult.Input(
+                MagicNumbers.SEVEN.number(),
+                MagicNumbers.SIX.number(),
+                MagicNumbers.FOUR.number()
+            ), MagicNumbers.FIFTY.number()
+        );
+        final StringBuilder json = new StringBuilder();
+        result.writeJson(json);
+        Assertions.assertEquals(
+            result.toJson(), new JSONParser().parse(json.toString())
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new SimpleResult(1, 2, 1).writeJson(new StringBuilder())
+        );
+    }
 }
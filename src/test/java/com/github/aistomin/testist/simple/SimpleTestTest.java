@@ -16,9 +16,11 @@
 package com.github.aistomin.testist.simple;
 
 import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.Result;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import org.json.simple.parser.JSONParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -71,4 +73,139 @@ final class SimpleTestTest {
         Assertions.assertTrue(test.currentTestResult().isFinished());
         Assertions.assertTrue(test.currentTestResult().isPassed());
     }
+
+    /**
+     * Check that we can skip the questions and come back to them later.
+     */
+    @Test
+    void testSkip() {
+        final TestQuestionsProvider provider = new TestQuestionsProvider();
+        final List<Question> questions = provider.questions();
+        final SimpleTest test = new SimpleTest(provider);
+        Assertions.assertSame(questions.get(0), test.nextQuestion());
+        test.skip();
+        Assertions.assertSame(questions.get(1), test.nextQuestion());
+        test.skip();
+        final Question third = test.nextQuestion();
+        Assertions.assertSame(questions.get(2), third);
+        third.answer(third.help());
+        Assertions.assertSame(questions.get(3), test.nextQuestion());
+        Assertions.assertEquals(3, test.position());
+        final Question first = test.question(0);
+        Assertions.assertSame(questions.get(0), first);
+        Assertions.assertEquals(0, test.position());
+        first.answer(first.help());
+        Assertions.assertSame(questions.get(1), test.nextQuestion());
+        test.skip();
+        test.skip();
+        test.skip();
+        Assertions.assertSame(questions.get(1), test.nextQuestion());
+        for (final Question question : questions) {
+            if (!question.isAnswered()) {
+                question.answer(question.help());
+            }
+        }
+        Assertions.assertFalse(test.hasMoreQuestions());
+        Assertions.assertTrue(test.currentTestResult().isPassed());
+    }
+
+    /**
+     * Check that the test notices the questions which were answered directly.
+     */
+    @Test
+    void testAnsweredOutside() {
+        final TestQuestionsProvider provider = new TestQuestionsProvider();
+        final List<Question> questions = provider.questions();
+        final SimpleTest test = new SimpleTest(provider);
+        questions.get(0).answer(questions.get(0).help());
+        questions.get(1).answer(questions.get(1).help());
+        Assertions.assertSame(questions.get(2), test.nextQuestion());
+        questions.get(4).answer(questions.get(4).help());
+        test.question(4);
+        Assertions.assertSame(questions.get(2), test.nextQuestion());
+    }
+
+    /**
+     * Check that we can go through the large test.
+     */
+    @Test
+    void testLargeTest() {
+        final int size = 5000;
+        final List<Question> questions = new ArrayList<>(size);
+        for (int idx = 0; idx < size; ++idx) {
+            questions.add(
+                new SimpleQuestion(
+                    new SimpleText(String.format("%d + 1 = ?", idx)),
+                    new SimpleAnswer(String.valueOf(idx + 1))
+                )
+            );
+        }
+        final SimpleTest test = new SimpleTest(() -> questions);
+        int count = 0;
+        while (test.hasMoreQuestions()) {
+            final Question question = test.nextQuestion();
+            question.answer(question.help());
+            count += 1;
+        }
+        Assertions.assertEquals(size, count);
+        Assertions.assertTrue(test.currentTestResult().isPassed());
+    }
+
+    /**
+     * Check that the current result is counted as the answers come in.
+     */
+    @Test
+    void testCurrentResult() {
+        final TestQuestionsProvider provider = new TestQuestionsProvider();
+        final List<Question> questions = provider.questions();
+        final SimpleTest test = new SimpleTest(provider);
+        Assertions.assertEquals(
+            "0", test.currentTestResult().toJson().get("answered")
+        );
+        final Question first = test.nextQuestion();
+        first.answer(first.help());
+        final Question second = test.nextQuestion();
+        second.answer(questions.get(0).help());
+        final Result result = test.currentTestResult();
+        Assertions.assertEquals("2", result.toJson().get("answered"));
+        Assertions.assertEquals("1", result.toJson().get("correct"));
+        questions.get(2).answer(questions.get(2).help());
+        Assertions.assertEquals(
+            "3", test.currentTestResult().toJson().get("answered")
+        );
+        test.nextQuestion();
+        Assertions.assertEquals(
+            "3", test.currentTestResult().toJson().get("answered")
+        );
+        Assertions.assertEquals(
+            "2", test.currentTestResult().toJson().get("correct")
+        );
+        Assertions.assertThrows(
+            IllegalStateException.class, () -> first.answer(first.help())
+        );
+        Assertions.assertEquals(
+            "3", test.currentTestResult().toJson().get("answered")
+        );
+    }
+
+    /**
+     * Check that the questions returned by the test are written to JSON as
+     * the original ones.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testWriteJson() throws Exception {
+        final TestQuestionsProvider provider = new TestQuestionsProvider();
+        final Question question = new SimpleTest(provider).nextQuestion();
+        final StringBuilder json = new StringBuilder();
+        question.writeJson(json);
+        Assertions.assertEquals(
+            provider.questions().get(0).toJson(),
+            new JSONParser().parse(json.toString())
+        );
+        Assertions.assertEquals(
+            provider.questions().get(0).toJson(), question.toJson()
+        );
+    }
 }
@@ -15,6 +15,7 @@
  */
 package com.github.aistomin.testist.simple;
 
+import org.json.simple.parser.JSONParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -46,4 +47,19 @@ final class SimpleTextTest {
             text, new SimpleText(text).toDisplayableString()
         );
     }
+
+    /**
+     * Check that we write the same JSON as {@link SimpleText#toJson()}.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testWriteJson() throws Exception {
+        final SimpleText text = new SimpleText("What is 1/2?");
+        final StringBuilder json = new StringBuilder();
+        text.writeJson(json);
+        Assertions.assertEquals(
+            text.toJson(), new JSONParser().parse(json.toString())
+        );
+    }
 }
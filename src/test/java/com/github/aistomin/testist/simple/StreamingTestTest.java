@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsStream;
+import com.github.aistomin.testist.Result;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link StreamingTest}.
+ *
+ * @since 1.0
+ */
+final class StreamingTestTest {
+
+    /**
+     * Check that test can be passed correctly.
+     */
+    @Test
+    void testPassed() {
+        final StreamingTest test = new StreamingTest(
+            new SimpleQuestionsStream(new TestQuestionsProvider())
+        );
+        int count = 0;
+        while (test.hasMoreQuestions()) {
+            final Question question = test.nextQuestion();
+            Assertions.assertSame(question, test.nextQuestion());
+            Assertions.assertFalse(test.currentTestResult().isFinished());
+            question.answer(question.help());
+            count += 1;
+        }
+        Assertions.assertEquals(
+            new TestQuestionsProvider().questions().size(), count
+        );
+        final Result result = test.currentTestResult();
+        Assertions.assertTrue(result.isFinished());
+        Assertions.assertTrue(result.isPassed());
+        Assertions.assertThrows(NoSuchElementException.class, test::nextQuestion);
+    }
+
+    /**
+     * Check that we can go through the unbounded stream of the questions.
+     */
+    @Test
+    void testUnbounded() {
+        final StreamingTest test = new StreamingTest(StreamingTestTest::numbers);
+        final int size = 10_000;
+        final Question wrong = test.nextQuestion();
+        wrong.answer(new SimpleAnswer("wrong"));
+        Assertions.assertThrows(
+            IllegalStateException.class, () -> wrong.answer(wrong.help())
+        );
+        for (int idx = 1; idx < size; ++idx) {
+            Assertions.assertTrue(test.hasMoreQuestions());
+            final Question question = test.nextQuestion();
+            question.answer(question.help());
+        }
+        final Result result = test.currentTestResult();
+        Assertions.assertFalse(result.isFinished());
+        Assertions.assertFalse(result.isPassed());
+        Assertions.assertEquals("10000", result.toJson().get("total"));
+        Assertions.assertEquals("10000", result.toJson().get("answered"));
+        Assertions.assertEquals("9999", result.toJson().get("correct"));
+    }
+
+    /**
+     * Check that the test isn't finished while the stream has more
+     * questions, and that the total is the amount of the questions asked so
+     * far.
+     */
+    @Test
+    void testOpenStream() {
+        final StreamingTest test = new StreamingTest(StreamingTestTest::numbers);
+        Result result = test.currentTestResult();
+        Assertions.assertFalse(result.isFinished());
+        Assertions.assertEquals("0", result.toJson().get("total"));
+        final Question question = test.nextQuestion();
+        question.answer(question.help());
+        result = test.currentTestResult();
+        Assertions.assertFalse(result.isFinished());
+        Assertions.assertFalse(result.isPassed());
+        Assertions.assertEquals("1", result.toJson().get("total"));
+        Assertions.assertEquals("1", result.toJson().get("answered"));
+        Assertions.assertEquals("1", result.toJson().get("correct"));
+        Assertions.assertTrue(
+            result.toDisplayableString().contains("NOT FINISHED")
+        );
+        test.nextQuestion();
+        Assertions.assertEquals(
+            "1", test.currentTestResult().toJson().get("answered")
+        );
+    }
+
+    /**
+     * The unbounded stream of the questions.
+     *
+     * @return The iterator over the questions.
+     */
+    private static Iterator<Question> numbers() {
+        return new Iterator<>() {
+            private int counter;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Question next() {
+                this.counter += 1;
+                return new SimpleQuestion(
+                    new SimpleText(String.format("%d + 1 = ?", this.counter)),
+                    new SimpleAnswer(String.valueOf(this.counter + 1))
+                );
+            }
+        };
+    }
+}
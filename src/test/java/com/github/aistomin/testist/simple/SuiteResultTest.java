@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.Result;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.json.simple.JSONObject;
+import org.json.simple.parser.JSONParser;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link SuiteResult}.
+ *
+ * @since 1.0
+ */
+final class SuiteResultTest {
+
+    /**
+     * Check that the results of the suite's tests are aggregated.
+     */
+    @Test
+    void testAggregate() {
+        final int size = 1000;
+        final List<com.github.aistomin.testist.Test> tests =
+            new ArrayList<>(size + 1);
+        for (int idx = 0; idx < size; ++idx) {
+            final SimpleTest test = new SimpleTest(new TestQuestionsProvider());
+            final int answers = idx % 6;
+            for (int num = 0; num < answers; ++num) {
+                final Question question = test.nextQuestion();
+                if (idx % 4 == 0) {
+                    question.answer(new SimpleAnswer("wrong"));
+                } else {
+                    question.answer(question.help());
+                }
+            }
+            tests.add(test);
+        }
+        tests.add(
+            new SuiteResultTest.FixedTest(new SuiteResult(1, 1, 0, 0, 0, 0))
+        );
+        final SuiteResult result = new SuiteResult(
+            new SimpleTestSuite("Math", tests)
+        );
+        Assertions.assertEquals(size + 1, result.tests());
+        Assertions.assertEquals(167, result.finished());
+        Assertions.assertEquals(166, result.passed());
+        Assertions.assertEquals(size * 5, result.total());
+        Assertions.assertEquals(2496, result.answered());
+        Assertions.assertEquals(1998, result.correct());
+        Assertions.assertFalse(result.isFinished());
+        Assertions.assertFalse(result.isPassed());
+        Assertions.assertEquals(166 * 100.0 / (size + 1), result.passRate());
+    }
+
+    /**
+     * Check that the suite is finished and passed when all its tests are.
+     */
+    @Test
+    void testPassed() {
+        final SuiteResult empty = new SuiteResult(
+            new SimpleTestSuite("Empty", Collections.emptyList())
+        );
+        Assertions.assertTrue(empty.isFinished());
+        Assertions.assertTrue(empty.isPassed());
+        Assertions.assertEquals(0.0, empty.passRate());
+        final SuiteResult passed = new SuiteResult(2, 2, 2, 10, 10, 10);
+        Assertions.assertTrue(passed.isFinished());
+        Assertions.assertTrue(passed.isPassed());
+        Assertions.assertEquals(100.0, passed.passRate());
+    }
+
+    /**
+     * Check that the result is displayed and converted to JSON.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testDisplay() throws Exception {
+        final SuiteResult result = new SuiteResult(3, 2, 1, 30, 25, 20);
+        Assertions.assertEquals(
+            String.format(
+                "%n**********************************%n"
+                    + "TESTS: 3, FINISHED: 2, PASSED: 1 (33.3%%)%n"
+                    + "QUESTIONS: 30, ANSWERED: 25, CORRECT: 20%n"
+                    + "**********************************"
+            ),
+            result.toDisplayableString()
+        );
+        final JSONObject json = result.toJson();
+        Assertions.assertEquals("3", json.get("tests"));
+        Assertions.assertEquals("2", json.get("finished"));
+        Assertions.assertEquals("1", json.get("passed"));
+        Assertions.assertEquals("30", json.get("total"));
+        Assertions.assertEquals("25", json.get("answered"));
+        Assertions.assertEquals("20", json.get("correct"));
+        Assertions.assertEquals("33.3", json.get("passRate"));
+        final StringWriter out = new StringWriter();
+        result.writeJson(out);
+        Assertions.assertEquals(json, new JSONParser().parse(out.toString()));
+    }
+
+    /**
+     * The test with the fixed result.
+     *
+     * @since 1.0
+     */
+    private static final class FixedTest
+        implements com.github.aistomin.testist.Test {
+
+        /**
+         * The result.
+         */
+        private final Result result;
+
+        /**
+         * Ctor.
+         *
+         * @param res The result.
+         */
+        FixedTest(final Result res) {
+            this.result = res;
+        }
+
+        @Override
+        public Boolean hasMoreQuestions() {
+            return false;
+        }
+
+        @Override
+        public Question nextQuestion() {
+            throw new UnsupportedOperationException("No questions.");
+        }
+
+        @Override
+        public Result currentTestResult() {
+            return this.result;
+        }
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link TypoMatcher}.
+ *
+ * @since 1.0
+ */
+final class TypoMatcherTest {
+
+    /**
+     * Check that we count the inserted, deleted and replaced characters.
+     */
+    @Test
+    void testDistance() {
+        final TypoMatcher matcher = new TypoMatcher("kitten", 3);
+        Assertions.assertEquals(0, matcher.distance("kitten"));
+        Assertions.assertEquals(1, matcher.distance("kiten"));
+        Assertions.assertEquals(1, matcher.distance("kitteny"));
+        Assertions.assertEquals(1, matcher.distance("sitten"));
+        Assertions.assertEquals(3, matcher.distance("sitting"));
+        Assertions.assertEquals(3, matcher.distance("kit"));
+        Assertions.assertEquals(4, matcher.distance("xxxxxx"));
+        Assertions.assertEquals(4, matcher.distance("ki"));
+        Assertions.assertTrue(matcher.matches("sitting"));
+        Assertions.assertFalse(matcher.matches("sittings"));
+        Assertions.assertEquals(0, new TypoMatcher("", 1).distance(""));
+        Assertions.assertEquals(1, new TypoMatcher("", 1).distance("a"));
+        Assertions.assertEquals(2, new TypoMatcher("", 1).distance("ab"));
+        Assertions.assertEquals(1, new TypoMatcher("a", 1).distance(""));
+        Assertions.assertEquals(0, new TypoMatcher("ab", 0).distance("ab"));
+        Assertions.assertEquals(1, new TypoMatcher("ab", 0).distance("ba"));
+    }
+
+    /**
+     * Check that the distance is the same as the one of the classic
+     * dynamic programming, for the patterns of one and of several words.
+     */
+    @Test
+    void testRandom() {
+        final Random random = new Random(42L);
+        for (int iteration = 0; iteration < 2000; ++iteration) {
+            final String pattern = TypoMatcherTest.random(
+                random, random.nextInt(200)
+            );
+            final String text = TypoMatcherTest.mutate(
+                random, pattern, random.nextInt(8)
+            );
+            final int bound = random.nextInt(10);
+            final int expected = Math.min(
+                TypoMatcherTest.levenshtein(pattern, text), bound + 1
+            );
+            Assertions.assertEquals(
+                expected, new TypoMatcher(pattern, bound).distance(text),
+                String.format("'%s' and '%s'", pattern, text)
+            );
+        }
+    }
+
+    /**
+     * Check that the long patterns, which take many words, are matched.
+     */
+    @Test
+    void testLongPattern() {
+        final StringBuilder pattern = new StringBuilder();
+        for (int idx = 0; idx < 50; ++idx) {
+            pattern.append("Grüße ").append(idx).append(' ');
+        }
+        final String text = pattern.toString();
+        final TypoMatcher matcher = new TypoMatcher(text, 2);
+        Assertions.assertEquals(0, matcher.distance(text));
+        Assertions.assertEquals(
+            1, matcher.distance(text.replace("Grüße 49", "Gruße 49"))
+        );
+        Assertions.assertEquals(
+            2, matcher.distance(text.replace("Grüße 0 ", "Grüße0"))
+        );
+        Assertions.assertEquals(
+            3, matcher.distance(text.replace("Grüße 1", "Grusse 1"))
+        );
+        Assertions.assertEquals(
+            3, matcher.distance(text.replace('ü', 'u'))
+        );
+    }
+
+    /**
+     * Check that the negative distance is rejected.
+     */
+    @Test
+    void testNegativeDistance() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class, () -> new TypoMatcher("a", -1)
+        );
+    }
+
+    /**
+     * Generate the random text of the small alphabet.
+     *
+     * @param random The source of the randomness.
+     * @param length The text's length.
+     * @return The text.
+     */
+    private static String random(final Random random, final int length) {
+        final StringBuilder res = new StringBuilder(length);
+        for (int idx = 0; idx < length; ++idx) {
+            res.append((char) ('a' + random.nextInt(4)));
+        }
+        return res.toString();
+    }
+
+    /**
+     * Make the random edits of the text.
+     *
+     * @param random The source of the randomness.
+     * @param text The text.
+     * @param edits The amount of the edits.
+     * @return The edited text.
+     */
+    private static String mutate(
+        final Random random, final String text, final int edits
+    ) {
+        final StringBuilder res = new StringBuilder(text);
+        for (int edit = 0; edit < edits; ++edit) {
+            final int pos = random.nextInt(res.length() + 1);
+            final char chr = (char) ('a' + random.nextInt(5));
+            final int kind = random.nextInt(3);
+            if (kind == 0 || pos == res.length()) {
+                res.insert(pos, chr);
+            } else if (kind == 1) {
+                res.deleteCharAt(pos);
+            } else {
+                res.setCharAt(pos, chr);
+            }
+        }
+        return res.toString();
+    }
+
+    /**
+     * The classic dynamic programming edit distance.
+     *
+     * @param first The first text.
+     * @param second The second text.
+     * @return The distance.
+     */
+    private static int levenshtein(final String first, final String second) {
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int col = 0; col <= second.length(); ++col) {
+            previous[col] = col;
+        }
+        for (int row = 1; row <= first.length(); ++row) {
+            current[0] = row;
+            for (int col = 1; col <= second.length(); ++col) {
+                int cost = 1;
+                if (first.charAt(row - 1) == second.charAt(col - 1)) {
+                    cost = 0;
+                }
+                current[col] = Math.min(
+                    Math.min(previous[col] + 1, current[col - 1] + 1),
+                    previous[col - 1] + cost
+                );
+            }
+            final int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()];
+    }
+}
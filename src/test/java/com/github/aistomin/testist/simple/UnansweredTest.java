@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.simple;
+
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link Unanswered}.
+ *
+ * @since 1.0
+ */
+final class UnansweredTest {
+
+    /**
+     * Check that we correctly find the next unanswered question.
+     */
+    @Test
+    void testNext() {
+        final Unanswered unanswered = new Unanswered(5);
+        Assertions.assertEquals(0, unanswered.next(0));
+        Assertions.assertEquals(3, unanswered.next(3));
+        unanswered.remove(0);
+        unanswered.remove(0);
+        unanswered.remove(3);
+        Assertions.assertEquals(1, unanswered.next(0));
+        Assertions.assertEquals(4, unanswered.next(3));
+        unanswered.remove(4);
+        Assertions.assertEquals(-1, unanswered.next(3));
+        Assertions.assertEquals(-1, unanswered.next(5));
+        Assertions.assertEquals(-1, unanswered.next(10));
+        Assertions.assertEquals(-1, new Unanswered(0).next(0));
+    }
+
+    /**
+     * Check that the search agrees with the straightforward implementation.
+     */
+    @Test
+    void testRandom() {
+        final int size = 1000;
+        final Random random = new Random(42L);
+        final Unanswered unanswered = new Unanswered(size);
+        final TreeSet<Integer> expected = new TreeSet<>();
+        for (int idx = 0; idx < size; ++idx) {
+            expected.add(idx);
+        }
+        while (!expected.isEmpty()) {
+            final int index = random.nextInt(size);
+            unanswered.remove(index);
+            expected.remove(index);
+            final int from = random.nextInt(size + 1);
+            final Integer next = expected.ceiling(from);
+            if (next == null) {
+                Assertions.assertEquals(-1, unanswered.next(from));
+            } else {
+                Assertions.assertEquals(next, unanswered.next(from));
+            }
+        }
+    }
+}
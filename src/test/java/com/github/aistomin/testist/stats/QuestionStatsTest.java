@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.stats;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link QuestionStats}.
+ *
+ * @since 1.0
+ */
+final class QuestionStatsTest {
+
+    /**
+     * Check that the concurrent answers are counted per question.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testRecord() throws Exception {
+        final QuestionStats stats = new QuestionStats();
+        final int threads = 8;
+        final int answers = 1000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>(threads);
+            for (int thread = 0; thread < threads; ++thread) {
+                futures.add(
+                    executor.submit(
+                        () -> {
+                            for (int idx = 0; idx < answers; ++idx) {
+                                stats.record("Q1", idx % 4 == 0);
+                                stats.record("Q2", true);
+                            }
+                        }
+                    )
+                );
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final Difficulty first = stats.difficulty("Q1");
+        Assertions.assertEquals(threads * answers, first.attempts());
+        Assertions.assertEquals(threads * answers / 4, first.correct());
+        Assertions.assertEquals(0.25, first.ratio());
+        Assertions.assertEquals(1.0, stats.difficulty("Q2").ratio());
+        Assertions.assertEquals(2, stats.snapshot().size());
+        for (final Difficulty difficulty : stats.snapshot()) {
+            Assertions.assertEquals(
+                threads * answers, difficulty.attempts()
+            );
+        }
+    }
+
+    /**
+     * Check that the question which is never answered has empty statistics.
+     */
+    @Test
+    void testUnknown() {
+        final Difficulty difficulty = new QuestionStats().difficulty("Q");
+        Assertions.assertEquals("Q", difficulty.question());
+        Assertions.assertEquals(0L, difficulty.attempts());
+        Assertions.assertEquals(0L, difficulty.correct());
+        Assertions.assertEquals(0.0, difficulty.ratio());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.stats;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link ScoreDistribution}.
+ *
+ * @since 1.0
+ */
+final class ScoreDistributionTest {
+
+    /**
+     * Check that the statistics are computed from the buckets.
+     */
+    @Test
+    void testStatistics() {
+        final long[] buckets = new long[ScoreDistribution.BUCKETS];
+        buckets[60] = 2L;
+        buckets[80] = 1L;
+        buckets[100] = 1L;
+        final ScoreDistribution distribution =
+            new ScoreDistribution(buckets, 3L);
+        buckets[0] = 10L;
+        Assertions.assertEquals(4L, distribution.count());
+        Assertions.assertEquals(3L, distribution.passed());
+        Assertions.assertEquals(0L, distribution.bucket(0));
+        Assertions.assertEquals(75.0, distribution.mean());
+        Assertions.assertEquals(275.0, distribution.variance());
+        Assertions.assertEquals(0.75, distribution.passRate());
+        distribution.buckets()[60] = 0L;
+        Assertions.assertEquals(2L, distribution.bucket(60));
+        Assertions.assertTrue(distribution.toString().contains("count=4"));
+    }
+
+    /**
+     * Check that the empty distribution has zero statistics.
+     */
+    @Test
+    void testEmpty() {
+        final ScoreDistribution empty =
+            new ScoreDistribution(new long[ScoreDistribution.BUCKETS], 0L);
+        Assertions.assertEquals(0L, empty.count());
+        Assertions.assertEquals(0.0, empty.mean());
+        Assertions.assertEquals(0.0, empty.variance());
+        Assertions.assertEquals(0.0, empty.passRate());
+    }
+
+    /**
+     * Check that the distributions are merged bucket by bucket.
+     */
+    @Test
+    void testMerge() {
+        final long[] first = new long[ScoreDistribution.BUCKETS];
+        first[10] = 1L;
+        final long[] second = new long[ScoreDistribution.BUCKETS];
+        second[10] = 2L;
+        second[90] = 1L;
+        final ScoreDistribution merged = new ScoreDistribution(first, 0L)
+            .merge(new ScoreDistribution(second, 1L));
+        Assertions.assertEquals(3L, merged.bucket(10));
+        Assertions.assertEquals(1L, merged.bucket(90));
+        Assertions.assertEquals(1L, merged.passed());
+        Assertions.assertEquals(30.0, merged.mean());
+    }
+
+    /**
+     * Check that the wrong distributions are rejected.
+     */
+    @Test
+    void testValidation() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ScoreDistribution(new long[10], 0L)
+        );
+        final long[] negative = new long[ScoreDistribution.BUCKETS];
+        negative[1] = -1L;
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ScoreDistribution(negative, 0L)
+        );
+        final long[] buckets = new long[ScoreDistribution.BUCKETS];
+        buckets[1] = 1L;
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ScoreDistribution(buckets, 2L)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new ScoreDistribution(buckets, -1L)
+        );
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.stats;
+
+import com.github.aistomin.testist.simple.PrecomputedResult;
+import com.github.aistomin.testist.simple.SimpleResult;
+import com.github.aistomin.testist.simple.SimpleTestSuite;
+import com.github.aistomin.testist.simple.SuiteResult;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link ScoreHistogram}.
+ *
+ * @since 1.0
+ */
+final class ScoreHistogramTest {
+
+    /**
+     * Check that the concurrent results are counted by their score.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testConcurrentAdd() throws Exception {
+        final ScoreHistogram histogram = new ScoreHistogram();
+        final int threads = 8;
+        final int results = 1000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<?>> futures = new ArrayList<>(threads);
+            for (int thread = 0; thread < threads; ++thread) {
+                futures.add(
+                    executor.submit(
+                        () -> {
+                            for (int idx = 0; idx < results; ++idx) {
+                                histogram.add(
+                                    new PrecomputedResult(
+                                        10L, 10L, idx % 2 * 10L
+                                    )
+                                );
+                            }
+                        }
+                    )
+                );
+            }
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        final ScoreDistribution distribution = histogram.snapshot();
+        Assertions.assertEquals(threads * results, distribution.count());
+        Assertions.assertEquals(threads * results / 2, distribution.bucket(0));
+        Assertions.assertEquals(
+            threads * results / 2, distribution.bucket(100)
+        );
+        Assertions.assertEquals(threads * results / 2, distribution.passed());
+        Assertions.assertEquals(50.0, distribution.mean());
+        Assertions.assertEquals(2500.0, distribution.variance());
+        Assertions.assertEquals(0.5, distribution.passRate());
+    }
+
+    /**
+     * Check that the score is the whole percentage of the correct answers.
+     */
+    @Test
+    void testScore() {
+        final ScoreHistogram histogram = new ScoreHistogram();
+        histogram.add(new SimpleResult(3, 3, 2));
+        histogram.add(new PrecomputedResult(3L, 1L, 1L));
+        histogram.add(0L, 0L, true);
+        final long huge = Long.MAX_VALUE;
+        histogram.add(huge, huge / 4L * 3L, false);
+        histogram.add(huge, huge, true);
+        final ScoreDistribution distribution = histogram.snapshot();
+        Assertions.assertEquals(1L, distribution.bucket(66));
+        Assertions.assertEquals(1L, distribution.bucket(33));
+        Assertions.assertEquals(1L, distribution.bucket(74));
+        Assertions.assertEquals(2L, distribution.bucket(100));
+        Assertions.assertEquals(5L, distribution.count());
+        Assertions.assertEquals(2L, distribution.passed());
+    }
+
+    /**
+     * Check that the histograms of the different processes are merged.
+     */
+    @Test
+    void testMerge() {
+        final ScoreHistogram first = new ScoreHistogram();
+        first.add(4L, 4L, true);
+        first.add(4L, 2L, false);
+        final ScoreHistogram second = new ScoreHistogram();
+        second.add(4L, 3L, true);
+        second.merge(first.snapshot());
+        final ScoreDistribution merged = second.snapshot();
+        Assertions.assertEquals(3L, merged.count());
+        Assertions.assertEquals(2L, merged.passed());
+        Assertions.assertEquals(75.0, merged.mean());
+        Assertions.assertEquals(
+            merged.count(),
+            first.snapshot().merge(new ScoreHistogram().snapshot()).count()
+                + 1L
+        );
+    }
+
+    /**
+     * Check that the results without score are rejected.
+     */
+    @Test
+    void testWrongResult() {
+        final ScoreHistogram histogram = new ScoreHistogram();
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> histogram.add(
+                new SuiteResult(
+                    new SimpleTestSuite("T", Collections.emptyList())
+                )
+            )
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> histogram.add(2L, 3L, true)
+        );
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> histogram.add(2L, -1L, true)
+        );
+        Assertions.assertEquals(0L, histogram.snapshot().count());
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright (c) 2019-2022, Istomin Andrei
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.aistomin.testist.stats;
+
+import com.github.aistomin.testist.Question;
+import com.github.aistomin.testist.QuestionsProvider;
+import com.github.aistomin.testist.simple.SimpleAnswer;
+import com.github.aistomin.testist.simple.SimpleQuestion;
+import com.github.aistomin.testist.simple.SimpleTest;
+import com.github.aistomin.testist.simple.SimpleText;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The tests for {@link StatsQuestionsProvider}.
+ *
+ * @since 1.0
+ */
+final class StatsQuestionsProviderTest {
+
+    /**
+     * Check that the answers of all the tests are recorded.
+     *
+     * @throws Exception If something goes wrong.
+     */
+    @Test
+    void testRecord() throws Exception {
+        final QuestionStats stats = new QuestionStats();
+        final QuestionsProvider provider = new StatsQuestionsProvider(
+            () -> Arrays.asList(
+                new SimpleQuestion(
+                    new SimpleText("1 + 1 = ?"), new SimpleAnswer("2")
+                ),
+                new SimpleQuestion(
+                    new SimpleText("2 + 2 = ?"), new SimpleAnswer("4")
+                )
+            ),
+            stats
+        );
+        Assertions.assertEquals(2, provider.questions().size());
+        for (int idx = 0; idx < 3; ++idx) {
+            final SimpleTest test = new SimpleTest(provider);
+            final Question first = test.nextQuestion();
+            first.answer(new SimpleAnswer(String.valueOf(idx)));
+            final Question second = test.nextQuestion();
+            Assertions.assertFalse(second.isAnswered());
+            Assertions.assertTrue(second.grade(second.help()));
+            Assertions.assertTrue(second.isCorrect());
+            Assertions.assertFalse(test.hasMoreQuestions());
+        }
+        final Difficulty first = stats.difficulty("0");
+        Assertions.assertEquals(3L, first.attempts());
+        Assertions.assertEquals(1L, first.correct());
+        Assertions.assertEquals(2, stats.snapshot().size());
+        final List<Question> questions = provider.questions();
+        final Question question = questions.get(0);
+        Assertions.assertSame(question, questions.get(0));
+        Assertions.assertTrue(question.toDisplayableString().contains("1 + 1"));
+        Assertions.assertEquals("2", question.help().toDisplayableString());
+        Assertions.assertEquals(
+            new SimpleText("1 + 1 = ?").toJson(),
+            question.toJson().get("question")
+        );
+        final StringWriter out = new StringWriter();
+        question.writeJson(out);
+        Assertions.assertTrue(out.toString().contains("1 + 1"));
+        question.answer(question.help());
+        Assertions.assertEquals(4L, stats.difficulty(first.question()).attempts());
+    }
+}